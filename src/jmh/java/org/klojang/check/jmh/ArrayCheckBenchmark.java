@@ -0,0 +1,52 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.notEmpty;
+
+/**
+ * Measures {@code Check.that(array).is(notEmpty())} for an object array and a
+ * primitive array against a hand-coded length check, and against the
+ * {@code MethodHandles.arrayLength()} lookup that was previously used to get the
+ * length of an array.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayCheckBenchmark {
+
+  String[] strings = {"foo", "bar", "bozo"};
+  int[] ints = {1, 2, 3};
+
+  @Benchmark
+  public String[] notEmpty_objectArray() {
+    return Check.that(strings).is(notEmpty()).ok();
+  }
+
+  @Benchmark
+  public int[] notEmpty_intArray() {
+    return Check.that(ints).is(notEmpty()).ok();
+  }
+
+  @Benchmark
+  public int[] handCoded_intArray() {
+    if (ints == null || ints.length == 0) {
+      throw new IllegalArgumentException("ints must not be empty");
+    }
+    return ints;
+  }
+
+  @Benchmark
+  public int methodHandleLookup_intArray() throws Throwable {
+    Object array = ints;
+    return (int) MethodHandles.arrayLength(array.getClass()).invoke(array);
+  }
+
+}
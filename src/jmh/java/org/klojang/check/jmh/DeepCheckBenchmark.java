@@ -0,0 +1,91 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.x.CheckImpls;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the loop-based implementations of {@code deepNotNull()} and
+ * {@code deepNotEmpty()} with the stream-based implementations they replaced, for
+ * various collection types and sizes. The values always pass the check, so the
+ * entire collection is traversed.
+ *
+ * <pre>{@code
+ * mvn -P jmh test-compile exec:exec -Djmh.args="DeepCheckBenchmark -p type=list"
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepCheckBenchmark {
+
+  @Param({"0", "1", "10", "1000", "1000000"})
+  public int size;
+
+  @Param({"list", "set", "map", "array"})
+  public String type;
+
+  Object value;
+
+  @Setup
+  public void setup() {
+    String[] strings = new String[size];
+    for (int i = 0; i < size; ++i) {
+      strings[i] = "value" + i;
+    }
+    value = switch (type) {
+      case "list" -> new ArrayList<>(Arrays.asList(strings));
+      case "set" -> new HashSet<>(Arrays.asList(strings));
+      case "map" -> {
+        Map<String, String> map = new HashMap<>();
+        for (String s : strings) {
+          map.put(s, s);
+        }
+        yield map;
+      }
+      default -> strings;
+    };
+  }
+
+  @Benchmark
+  public boolean deepNotNull_loop() {
+    return CheckImpls.isDeepNotNull(value);
+  }
+
+  @Benchmark
+  public boolean deepNotNull_stream() {
+    return switch (value) {
+      case null -> false;
+      case Collection<?> c -> c.stream().allMatch(Objects::nonNull);
+      case Map<?, ?> m -> m.entrySet().stream()
+          .allMatch(e -> e.getKey() != null && e.getValue() != null);
+      case Object[] o -> Arrays.stream(o).allMatch(Objects::nonNull);
+      default -> true;
+    };
+  }
+
+  @Benchmark
+  public boolean deepNotEmpty_loop() {
+    return CheckImpls.isDeepNotEmpty(value);
+  }
+
+  @Benchmark
+  public boolean deepNotEmpty_stream() {
+    return switch (value) {
+      case Collection<?> c -> !c.isEmpty()
+          && c.stream().allMatch(CheckImpls::isDeepNotEmpty);
+      case Map<?, ?> m -> !m.isEmpty() && m.entrySet().stream()
+          .allMatch(e -> CheckImpls.isDeepNotEmpty(e.getKey())
+              && CheckImpls.isDeepNotEmpty(e.getValue()));
+      case Object[] o -> o.length != 0
+          && Arrays.stream(o).allMatch(CheckImpls::isDeepNotEmpty);
+      default -> CheckImpls.isDeepNotEmpty(value);
+    };
+  }
+
+}
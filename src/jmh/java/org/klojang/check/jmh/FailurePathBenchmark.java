@@ -0,0 +1,235 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.klojang.check.CommonChecks.*;
+import static org.klojang.check.CommonExceptions.ARGUMENT_LAZY;
+import static org.klojang.check.CommonProperties.strlen;
+import static org.klojang.check.CommonProperties.size;
+
+/**
+ * Measures the unhappy path: the cost of a failing check, including the generation
+ * of the error message and the instantiation of the exception. Meant to be run with
+ * the GC profiler, so bytes/op is reported along with ns/op:
+ *
+ * <pre>{@code
+ * mvn -P jmh test-compile exec:exec -Djmh.args="FailurePathBenchmark -prof gc"
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailurePathBenchmark {
+
+  @Param({"10000"})
+  public int size;
+
+  int age = -42;
+  String name = "John Smith";
+  List<Integer> list;
+  Map<String, Integer> map;
+  int[] ints;
+  String[] strings;
+
+  @Setup
+  public void setup() {
+    list = IntStream.range(0, size).boxed().toList();
+    map = new HashMap<>();
+    IntStream.range(0, size).forEach(i -> map.put("key" + i, i));
+    ints = IntStream.range(0, size).toArray();
+    strings = IntStream.range(0, size).mapToObj(i -> "str" + i).toArray(String[]::new);
+  }
+
+  @Benchmark
+  public Exception handCoded() {
+    try {
+      if (age <= 0) {
+        throw new IllegalArgumentException("age must be > 0 (was " + age + ")");
+      }
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception prefab_IntPredicate() {
+    try {
+      Check.that(age, "age").is(positive());
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception prefab_IntRelation() {
+    try {
+      Check.that(age, "age").is(gte(), 0);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception prefab_Predicate() {
+    try {
+      Check.that(name, "name").is(blank());
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception prefab_Relation() {
+    try {
+      Check.that(name, "name").is(equalTo(), "Jane Smith");
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception custom_noPlaceholders() {
+    try {
+      Check.that(age).is(positive(), "age must be positive");
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception custom_prefabPlaceholders() {
+    try {
+      Check.that(age, "age").is(positive(), "${tag} must be positive (was ${arg})");
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception custom_userPlaceholders() {
+    try {
+      Check.that(age).is(gt(), 0, "${0} must be > ${1} (was ${2})", "age", 0, age);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception custom_mixedPlaceholders() {
+    try {
+      Check.that(age, "age").is(gt(), 0, "${tag} must be > ${obj} (was ${0})", age);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception has_CommonProperty() {
+    try {
+      Check.that(name, "name").has(strlen(), lt(), 5);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception has_CustomProperty() {
+    try {
+      Check.that(name, "name").has(String::length, lt(), 5);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception has_CustomPropertyWithName() {
+    try {
+      Check.that(name, "name").has(String::length, "length", lt(), 5);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception toStr_List() {
+    try {
+      Check.that(list, "list").is(empty());
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception toStr_List_lazy() {
+    // The exception is discarded without reading the message, so with
+    // ARGUMENT_LAZY the list is never stringified
+    try {
+      Check.on(ARGUMENT_LAZY, list, "list").is(empty());
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception toStr_ListViaProperty() {
+    try {
+      Check.that(list, "list").has(size(), lt(), 10);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception toStr_Map() {
+    try {
+      Check.that(map, "map").is(empty());
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception toStr_IntArray() {
+    try {
+      Check.that(ints, "ints").is(empty());
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Exception toStr_ObjectArray() {
+    try {
+      Check.that(strings, "strings").is(empty());
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+    return null;
+  }
+
+}
@@ -0,0 +1,124 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.*;
+import static org.klojang.check.CommonProperties.abs;
+import static org.klojang.check.CommonProperties.box;
+import static org.klojang.check.CommonProperties.size;
+import static org.klojang.check.CommonProperties.strlen;
+
+/**
+ * Verifies that a passing chain of {@code has()} checks allocates nothing beyond the
+ * {@code ObjectCheck} or {@code IntCheck} instance itself. Escape analysis is
+ * switched off so that the JIT compiler cannot hide any allocation. Running the
+ * {@link #main(String[]) main} method executes the benchmarks with the GC profiler
+ * and fails if a chain allocates more than its {@code *_bare} counterpart:
+ *
+ * <pre>{@code
+ * mvn -P jmh test-compile exec:exec -Djmh.main=org.klojang.check.jmh.HasAllocationBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+public class HasAllocationBenchmark {
+
+  public record Employee(String name, int age, List<String> roles) {}
+
+  Employee employee = new Employee("John Smith", 42, List.of("Manager", "Engineer"));
+  int temperature = -12;
+
+  @Benchmark
+  public Object objectCheck_bare() {
+    return Check.that(employee).ok();
+  }
+
+  @Benchmark
+  public Object objectCheck_has() {
+    return Check.that(employee, "employee")
+        .has(Employee::name, notNull())
+        .has(Employee::name, "name", hasSubstring(), "Smith")
+        .notHas(Employee::name, blank())
+        .has(Employee::age, gte(), 18)
+        .has(Employee::age, "age", lt(), 65)
+        .notHas(Employee::age, negative())
+        .has(Employee::roles, "roles", contains(), "Manager")
+        .ok();
+  }
+
+  @Benchmark
+  public Object objectCheck_hasCommonProperties() {
+    return Check.that(employee.name(), "name")
+        .has(strlen(), positive())
+        .has(strlen(), lte(), 64)
+        .and(employee.roles(), "roles")
+        .has(size(), lt(), 10)
+        .ok();
+  }
+
+  @Benchmark
+  public int intCheck_bare() {
+    return Check.that(temperature).ok();
+  }
+
+  @Benchmark
+  public int intCheck_has() {
+    return Check.that(temperature, "temperature")
+        .has(abs(), lt(), 40)
+        .has(abs(), "abs", even())
+        .notHas(abs(), zero())
+        .notHas(abs(), gt(), 40)
+        .has(box(), equalTo(), -12)
+        .ok();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    var opts = new OptionsBuilder()
+        .include(HasAllocationBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    Collection<RunResult> results = new Runner(opts).run();
+    double objectCheck = bytesPerOp(results, "objectCheck_bare");
+    double intCheck = bytesPerOp(results, "intCheck_bare");
+    boolean ok = true;
+    for (RunResult rr : results) {
+      String label = rr.getPrimaryResult().getLabel();
+      double bare = label.startsWith("objectCheck") ? objectCheck : intCheck;
+      double actual = bytesPerOp(results, label);
+      // The .and() call in objectCheck_hasCommonProperties creates a 2nd ObjectCheck
+      double expected = label.endsWith("CommonProperties") ? 2 * bare : bare;
+      System.out.printf("%-35s %6.1f B/op (expected: %6.1f)%n", label, actual, expected);
+      ok &= actual <= expected + 1;
+    }
+    if (!ok) {
+      System.err.println("Passing has() chain allocates more than the check itself");
+      System.exit(1);
+    }
+  }
+
+  private static double bytesPerOp(Collection<RunResult> results, String benchmark) {
+    for (RunResult rr : results) {
+      if (rr.getPrimaryResult().getLabel().equals(benchmark)) {
+        Result<?> r = rr.getSecondaryResults().get("gc.alloc.rate.norm");
+        return r.getScore();
+      }
+    }
+    throw new IllegalArgumentException("no such benchmark: " + benchmark);
+  }
+
+}
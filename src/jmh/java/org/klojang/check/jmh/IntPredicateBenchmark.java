@@ -0,0 +1,101 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.klojang.check.CommonChecks;
+import org.klojang.check.types.ComposableIntPredicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import static org.klojang.check.CommonChecks.*;
+
+/**
+ * Measures the happy path of {@code IntCheck.is()}, {@code IntCheck.isNot()},
+ * {@code IntCheck.has()} and {@code IntCheck.notHas()} for each
+ * {@link IntPredicate} in {@link CommonChecks}, against a hand-coded
+ * {@code if}/{@code throw} statement invoking the very same predicate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntPredicateBenchmark {
+
+  private static final IntUnaryOperator TIMES_ONE = x -> x;
+
+  @Param({"even", "odd", "positive", "negative", "zero", "one"})
+  public String check;
+
+  int valid;
+  int invalid;
+  ComposableIntPredicate test;
+
+  @Setup
+  public void setup() {
+    switch (check) {
+      case "even" -> set(even(), 42, 43);
+      case "odd" -> set(odd(), 43, 42);
+      case "positive" -> set(positive(), 42, -42);
+      case "negative" -> set(negative(), -42, 42);
+      case "zero" -> set(zero(), 0, 42);
+      case "one" -> set(one(), 1, 42);
+      default -> throw new IllegalArgumentException("no such check: " + check);
+    }
+  }
+
+  @Benchmark
+  public int is() {
+    return Check.that(valid).is(test).ok();
+  }
+
+  @Benchmark
+  public int isNot() {
+    return Check.that(invalid).isNot(test).ok();
+  }
+
+  @Benchmark
+  public int has() {
+    return Check.that(valid).has(TIMES_ONE, test).ok();
+  }
+
+  @Benchmark
+  public int notHas() {
+    return Check.that(invalid).notHas(TIMES_ONE, test).ok();
+  }
+
+  @Benchmark
+  public int is_handCoded() {
+    if (!test.test(valid)) {
+      throw new IllegalArgumentException("invalid value: " + valid);
+    }
+    return valid;
+  }
+
+  @Benchmark
+  public int isNot_handCoded() {
+    if (test.test(invalid)) {
+      throw new IllegalArgumentException("invalid value: " + invalid);
+    }
+    return invalid;
+  }
+
+  @Benchmark
+  public int has_handCoded() {
+    int val = TIMES_ONE.applyAsInt(valid);
+    if (!test.test(val)) {
+      throw new IllegalArgumentException("invalid value: " + val);
+    }
+    return valid;
+  }
+
+  private void set(ComposableIntPredicate test, int valid, int invalid) {
+    this.test = test;
+    this.valid = valid;
+    this.invalid = invalid;
+  }
+
+}
@@ -0,0 +1,143 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.klojang.check.CommonChecks;
+import org.klojang.check.types.IntObjRelation;
+import org.klojang.check.types.IntRelation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+import static org.klojang.check.CommonChecks.*;
+
+/**
+ * Measures the happy path of {@code IntCheck.is()}, {@code IntCheck.isNot()},
+ * {@code IntCheck.has()} and {@code IntCheck.notHas()} for each
+ * {@link IntRelation} and {@link IntObjRelation} in {@link CommonChecks}, against a
+ * hand-coded {@code if}/{@code throw} statement invoking the very same relation.
+ * {@code IntCheck} has no {@code has()} variant for {@code IntObjRelation}, so for
+ * {@code indexOf()}, {@code indexInclusiveOf()} and {@code inIntArray()} the
+ * {@code has()} and {@code notHas()} benchmarks fall back to {@code is()} and
+ * {@code isNot()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class IntRelationBenchmark {
+
+  private static final IntUnaryOperator TIMES_ONE = x -> x;
+
+  @Param({"eq",
+      "ne",
+      "gt",
+      "gte",
+      "lt",
+      "lte",
+      "multipleOf",
+      "indexOf",
+      "indexInclusiveOf",
+      "inIntArray"})
+  public String check;
+
+  int valid;
+  int invalid;
+  int intObject;
+  Object object;
+  IntRelation intRelation;
+  IntObjRelation intObjRelation;
+
+  @Setup
+  public void setup() {
+    List<String> list = List.of("a", "b", "c", "d", "e");
+    switch (check) {
+      case "eq" -> set(eq(), 42, 43, 42);
+      case "ne" -> set(ne(), 43, 42, 42);
+      case "gt" -> set(gt(), 43, 41, 42);
+      case "gte" -> set(gte(), 42, 41, 42);
+      case "lt" -> set(lt(), 41, 43, 42);
+      case "lte" -> set(lte(), 42, 43, 42);
+      case "multipleOf" -> set(multipleOf(), 84, 85, 42);
+      case "indexOf" -> set(indexOf(), 4, 5, list);
+      case "indexInclusiveOf" -> set(indexInclusiveOf(), 5, 6, list);
+      case "inIntArray" -> set(inIntArray(), 3, 6, new int[] {1, 2, 3, 4, 5});
+      default -> throw new IllegalArgumentException("no such check: " + check);
+    }
+  }
+
+  @Benchmark
+  public int is() {
+    if (intRelation != null) {
+      return Check.that(valid).is(intRelation, intObject).ok();
+    }
+    return Check.that(valid).is(intObjRelation, object).ok();
+  }
+
+  @Benchmark
+  public int isNot() {
+    if (intRelation != null) {
+      return Check.that(invalid).isNot(intRelation, intObject).ok();
+    }
+    return Check.that(invalid).isNot(intObjRelation, object).ok();
+  }
+
+  @Benchmark
+  public int has() {
+    if (intRelation != null) {
+      return Check.that(valid).has(TIMES_ONE, intRelation, intObject).ok();
+    }
+    return Check.that(valid).is(intObjRelation, object).ok();
+  }
+
+  @Benchmark
+  public int notHas() {
+    if (intRelation != null) {
+      return Check.that(invalid).notHas(TIMES_ONE, intRelation, intObject).ok();
+    }
+    return Check.that(invalid).isNot(intObjRelation, object).ok();
+  }
+
+  @Benchmark
+  public int is_handCoded() {
+    if (intRelation != null) {
+      if (!intRelation.exists(valid, intObject)) {
+        throw new IllegalArgumentException("invalid value: " + valid);
+      }
+    } else if (!intObjRelation.exists(valid, object)) {
+      throw new IllegalArgumentException("invalid value: " + valid);
+    }
+    return valid;
+  }
+
+  @Benchmark
+  public int isNot_handCoded() {
+    if (intRelation != null) {
+      if (intRelation.exists(invalid, intObject)) {
+        throw new IllegalArgumentException("invalid value: " + invalid);
+      }
+    } else if (intObjRelation.exists(invalid, object)) {
+      throw new IllegalArgumentException("invalid value: " + invalid);
+    }
+    return invalid;
+  }
+
+  private void set(IntRelation test, int valid, int invalid, int object) {
+    this.intRelation = test;
+    this.valid = valid;
+    this.invalid = invalid;
+    this.intObject = object;
+  }
+
+  private void set(IntObjRelation test, int valid, int invalid, Object object) {
+    this.intObjRelation = test;
+    this.valid = valid;
+    this.invalid = invalid;
+    this.object = object;
+  }
+
+}
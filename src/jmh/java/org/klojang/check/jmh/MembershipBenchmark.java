@@ -0,0 +1,82 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.klojang.check.extra.IntLookupSet;
+import org.klojang.check.extra.LookupSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.*;
+
+/**
+ * Compares {@code inSet()} with {@code in()} (against a {@code List}) and
+ * {@code inArray()}, and {@code inIntSet()} with {@code inIntArray()}, for
+ * allow-lists of various sizes. The value being checked is the last element of the
+ * allow-list, which is the worst case for the linear scans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MembershipBenchmark {
+
+  @Param({"10", "100", "5000"})
+  public int size;
+
+  List<String> list;
+  String[] array;
+  LookupSet<String> lookupSet;
+  String value;
+
+  int[] ints;
+  IntLookupSet intLookupSet;
+  int intValue;
+
+  @Setup
+  public void setup() {
+    list = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i) {
+      list.add("value" + i);
+    }
+    array = list.toArray(String[]::new);
+    lookupSet = LookupSet.copyOf(list);
+    value = new String(list.get(size - 1)); // not the same instance
+    ints = new int[size];
+    for (int i = 0; i < size; ++i) {
+      ints[i] = i * 997; // too sparse for a bit set
+    }
+    intLookupSet = IntLookupSet.of(ints);
+    intValue = ints[size - 1];
+  }
+
+  @Benchmark
+  public String inSet_() {
+    return Check.that(value).is(inSet(), lookupSet).ok();
+  }
+
+  @Benchmark
+  public String in_list() {
+    return Check.that(value).is(in(), list).ok();
+  }
+
+  @Benchmark
+  public String inArray_() {
+    return Check.that(value).is(inArray(), array).ok();
+  }
+
+  @Benchmark
+  public int inIntSet_() {
+    return Check.that(intValue).is(inIntSet(), intLookupSet).ok();
+  }
+
+  @Benchmark
+  public int inIntArray_() {
+    return Check.that(intValue).is(inIntArray(), ints).ok();
+  }
+
+}
@@ -0,0 +1,47 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.notNull;
+
+/**
+ * Measures the happy path of {@code Check.notNull()} and
+ * {@code Check.that().is(notNull())} against a hand-coded null check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotNullBenchmark {
+
+  String value = "Hello, World";
+
+  @Benchmark
+  public String checkNotNull() {
+    return Check.notNull(value).ok();
+  }
+
+  @Benchmark
+  public String checkNotNull_tagged() {
+    return Check.notNull(value, "value").ok();
+  }
+
+  @Benchmark
+  public String checkThatIsNotNull() {
+    return Check.that(value).is(notNull()).ok();
+  }
+
+  @Benchmark
+  public String handCoded() {
+    if (value == null) {
+      throw new NullPointerException("value must not be null");
+    }
+    return value;
+  }
+
+}
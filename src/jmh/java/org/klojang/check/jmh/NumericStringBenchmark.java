@@ -0,0 +1,88 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.types.Relation;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.*;
+
+/**
+ * Compares the digit-scanning implementations of {@code numerical()},
+ * {@code parsableAs()} and {@code plainInt()} with the {@code BigInteger} and
+ * {@code BigDecimal} based implementations they replaced, for typical and
+ * adversarial inputs.
+ *
+ * <pre>{@code
+ * mvn -P jmh test-compile exec:exec -Djmh.args="NumericStringBenchmark -prof gc"
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumericStringBenchmark {
+
+  private static final BigDecimal MIN_INT_BD = new BigDecimal(Integer.MIN_VALUE);
+  private static final BigDecimal MAX_INT_BD = new BigDecimal(Integer.MAX_VALUE);
+
+  @Param({"typical", "min", "fraction", "garbage", "huge"})
+  public String input;
+
+  String value;
+
+  Relation<String, Class<Integer>> numerical = numerical();
+  Relation<String, Class<Integer>> parsableAs = parsableAs();
+
+  @Setup
+  public void setup() {
+    value = switch (input) {
+      case "typical" -> "8080";
+      case "min" -> "-2147483648";
+      case "fraction" -> "8080.00";
+      case "garbage" -> "80a80";
+      default -> "9".repeat(10_000);
+    };
+  }
+
+  @Benchmark
+  public boolean numerical_int() {
+    return numerical.exists(value, int.class);
+  }
+
+  @Benchmark
+  public boolean numerical_int_bigInteger() {
+    try {
+      return new BigInteger(value).bitLength() <= 31;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean parsableAs_int() {
+    return parsableAs.exists(value, int.class);
+  }
+
+  @Benchmark
+  public boolean parsableAs_int_bigDecimal() {
+    try {
+      BigDecimal bd = new BigDecimal(value);
+      return bd.stripTrailingZeros().scale() <= 0
+          && bd.compareTo(MIN_INT_BD) >= 0
+          && bd.compareTo(MAX_INT_BD) <= 0;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean plainInt_() {
+    return plainInt().test(value);
+  }
+
+}
@@ -0,0 +1,62 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.klojang.check.CommonChecks.*;
+
+/**
+ * Compares {@code matches()} and {@code containsMatch()}, which now take their
+ * patterns from the {@code PatternCache}, with compiling the pattern on every call
+ * (as they used to do) and with a pre-compiled pattern. Also compares
+ * {@code hasSubstringIC()}, which no longer uses a regular expression at all, with
+ * the {@code CASE_INSENSITIVE | LITERAL} pattern it used to compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternCacheBenchmark {
+
+  String value = "abcd123";
+  String regex = "^\\w{4}\\d{3}$";
+  String substring = "CD1";
+  Pattern precompiled = Pattern.compile(regex);
+
+  @Benchmark
+  public String matches_cached() {
+    return Check.that(value).is(matches(), regex).ok();
+  }
+
+  @Benchmark
+  public String matches_compileEachTime() {
+    return Check.that(value).is(hasPattern(), Pattern.compile(regex)).ok();
+  }
+
+  @Benchmark
+  public String matches_precompiled() {
+    return Check.that(value).is(hasPattern(), precompiled).ok();
+  }
+
+  @Benchmark
+  public String containsMatch_cached() {
+    return Check.that(value).is(containsMatch(), "\\d{3}").ok();
+  }
+
+  @Benchmark
+  public String hasSubstringIC_() {
+    return Check.that(value).is(hasSubstringIC(), substring).ok();
+  }
+
+  @Benchmark
+  public String hasSubstringIC_compileEachTime() {
+    Pattern p = Pattern.compile(substring, Pattern.CASE_INSENSITIVE | Pattern.LITERAL);
+    return Check.that(value).is(containsPattern(), p).ok();
+  }
+
+}
@@ -0,0 +1,166 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.klojang.check.CommonChecks;
+import org.klojang.check.extra.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.klojang.check.CommonChecks.*;
+
+/**
+ * Measures the happy path of {@code ObjectCheck.is()}, {@code ObjectCheck.isNot()},
+ * {@code ObjectCheck.has()} and {@code ObjectCheck.notHas()} for each
+ * {@link Predicate} in {@link CommonChecks}, against a hand-coded
+ * {@code if}/{@code throw} statement invoking the very same predicate. The dummy
+ * checks meant for composition ({@code valid()}, {@code invalid()}) are left out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class PredicateBenchmark {
+
+  @Param({"NULL",
+      "notNull",
+      "yes",
+      "no",
+      "empty",
+      "emptyString",
+      "notEmpty",
+      "deepNotNull",
+      "deepNotEmpty",
+      "blank",
+      "plainInt",
+      "plainShort",
+      "array",
+      "regularFile",
+      "directory",
+      "symlink",
+      "fileExists",
+      "readable",
+      "writable",
+      "present",
+      "available"})
+  public String check;
+
+  // A value that passes the check
+  Object valid;
+  // A value that fails the check
+  Object invalid;
+  Predicate test;
+  Bean validBean;
+  Bean invalidBean;
+
+  private Path tmpDir;
+
+  @Setup
+  public void setup() throws IOException {
+    tmpDir = Files.createTempDirectory("klojang-check-jmh");
+    File file = Files.writeString(tmpDir.resolve("file.txt"), "Hello").toFile();
+    File noSuchFile = tmpDir.resolve("no-such-file.txt").toFile();
+    switch (check) {
+      case "NULL" -> set(NULL(), null, "foo");
+      case "notNull" -> set(notNull(), "foo", null);
+      case "yes" -> set(yes(), true, false);
+      case "no" -> set(no(), false, true);
+      case "empty" -> set(empty(), "", "foo");
+      case "emptyString" -> set(emptyString(), "", "foo");
+      case "notEmpty" -> set(notEmpty(), List.of(1, 2, 3), List.of());
+      case "deepNotNull" -> set(deepNotNull(),
+          new ArrayList<>(List.of(1, 2, 3)),
+          Arrays.asList(1, null, 3));
+      case "deepNotEmpty" -> set(deepNotEmpty(),
+          new ArrayList<>(List.of("a", "b", "c")),
+          List.of("a", "", "c"));
+      case "blank" -> set(blank(), "   ", "foo");
+      case "plainInt" -> set(plainInt(), "12345", "-12345");
+      case "plainShort" -> set(plainShort(), "123", "123456");
+      case "array" -> set(array(), new int[3], "foo");
+      case "regularFile" -> set(regularFile(), file, tmpDir.toFile());
+      case "directory" -> set(directory(), tmpDir.toFile(), file);
+      case "symlink" -> {
+        Path link = Files.createSymbolicLink(tmpDir.resolve("link"), file.toPath());
+        set(symlink(), link.toFile(), file);
+      }
+      case "fileExists" -> set(fileExists(), file, noSuchFile);
+      case "readable" -> set(readable(), file, noSuchFile);
+      case "writable" -> set(writable(), file, noSuchFile);
+      case "present" -> set(present(), Optional.of(1), Optional.empty());
+      case "available" -> set(available(), Result.of(1), Result.notAvailable());
+      default -> throw new IllegalArgumentException("no such check: " + check);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (var paths = Files.walk(tmpDir)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public Object is() {
+    return Check.that(valid).is(test).ok();
+  }
+
+  @Benchmark
+  public Object isNot() {
+    return Check.that(invalid).isNot(test).ok();
+  }
+
+  @Benchmark
+  public Object has() {
+    return Check.that(validBean).has(Bean::value, test).ok();
+  }
+
+  @Benchmark
+  public Object notHas() {
+    return Check.that(invalidBean).notHas(Bean::value, test).ok();
+  }
+
+  @Benchmark
+  public Object is_handCoded() {
+    if (!test.test(valid)) {
+      throw new IllegalArgumentException("invalid value: " + valid);
+    }
+    return valid;
+  }
+
+  @Benchmark
+  public Object isNot_handCoded() {
+    if (test.test(invalid)) {
+      throw new IllegalArgumentException("invalid value: " + invalid);
+    }
+    return invalid;
+  }
+
+  @Benchmark
+  public Object has_handCoded() {
+    if (!test.test(validBean.value())) {
+      throw new IllegalArgumentException("invalid value: " + validBean.value());
+    }
+    return validBean;
+  }
+
+  private void set(Predicate test, Object valid, Object invalid) {
+    this.test = test;
+    this.valid = valid;
+    this.invalid = invalid;
+    this.validBean = new Bean(valid);
+    this.invalidBean = new Bean(invalid);
+  }
+
+  public record Bean(Object value) {}
+
+}
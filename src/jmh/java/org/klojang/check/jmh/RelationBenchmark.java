@@ -0,0 +1,194 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.klojang.check.CommonChecks;
+import org.klojang.check.types.Relation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.klojang.check.CommonChecks.*;
+
+/**
+ * Measures the happy path of {@code ObjectCheck.is()}, {@code ObjectCheck.isNot()},
+ * {@code ObjectCheck.has()} and {@code ObjectCheck.notHas()} for each
+ * {@link Relation} in {@link CommonChecks}, against a hand-coded
+ * {@code if}/{@code throw} statement invoking the very same relation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class RelationBenchmark {
+
+  @Param({"EQ",
+      "equalTo",
+      "GT",
+      "LT",
+      "GTE",
+      "LTE",
+      "sameAs",
+      "nullOr",
+      "instanceOf",
+      "supertypeOf",
+      "subtypeOf",
+      "contains",
+      "containsKey",
+      "containsValue",
+      "in",
+      "keyIn",
+      "valueIn",
+      "inArray",
+      "containsAll",
+      "containedIn",
+      "hasSubstring",
+      "substringOf",
+      "startsWith",
+      "endsWith",
+      "hasPattern",
+      "containsPattern",
+      "matches",
+      "containsMatch",
+      "numerical",
+      "parsableAs",
+      "equalsIC",
+      "startsWithIC",
+      "endsWithIC",
+      "hasSubstringIC"})
+  public String check;
+
+  // A subject for which the relation exists
+  Object valid;
+  // A subject for which the relation does not exist
+  Object invalid;
+  // The object of the relation
+  Object object;
+  Relation test;
+  Bean validBean;
+  Bean invalidBean;
+
+  @Setup
+  public void setup() {
+    Object self = new Object();
+    switch (check) {
+      case "EQ" -> set(EQ(), new String("foo"), "bar", "foo");
+      case "equalTo" -> set(equalTo(), new String("foo"), "bar", "foo");
+      case "GT" -> set(GT(), 10, 1, 5);
+      case "LT" -> set(LT(), 1, 10, 5);
+      case "GTE" -> set(GTE(), 5, 1, 5);
+      case "LTE" -> set(LTE(), 5, 10, 5);
+      case "sameAs" -> set(sameAs(), self, new Object(), self);
+      case "nullOr" -> set(nullOr(), null, "bar", "foo");
+      case "instanceOf" -> set(instanceOf(), "foo", 1, String.class);
+      case "supertypeOf" -> set(supertypeOf(),
+          CharSequence.class,
+          Integer.class,
+          String.class);
+      case "subtypeOf" -> set(subtypeOf(),
+          String.class,
+          Integer.class,
+          CharSequence.class);
+      case "contains" -> set(contains(), List.of("a", "b", "c"), List.of("x"), "b");
+      case "containsKey" -> set(containsKey(), Map.of("b", 1), Map.of("x", 1), "b");
+      case "containsValue" -> set(containsValue(), Map.of("a", 1), Map.of("a", 2), 1);
+      case "in" -> set(in(), "b", "x", List.of("a", "b", "c"));
+      case "keyIn" -> set(keyIn(), "b", "x", Map.of("a", 1, "b", 2));
+      case "valueIn" -> set(valueIn(), 2, 3, Map.of("a", 1, "b", 2));
+      case "inArray" -> set(inArray(), "b", "x", new String[] {"a", "b", "c"});
+      case "containsAll" -> set(containsAll(),
+          List.of("a", "b", "c"),
+          List.of("a"),
+          List.of("a", "b"));
+      case "containedIn" -> set(containedIn(),
+          List.of("a", "b"),
+          List.of("x"),
+          List.of("a", "b", "c"));
+      case "hasSubstring" -> set(hasSubstring(), "Hello", "World", "ell");
+      case "substringOf" -> set(substringOf(), "ell", "xyz", "Hello");
+      case "startsWith" -> set(startsWith(), "Hello", "World", "He");
+      case "endsWith" -> set(endsWith(), "Hello", "World", "lo");
+      case "hasPattern" -> set(hasPattern(),
+          "555-1234",
+          "5551234",
+          Pattern.compile("\\d{3}-\\d{4}"));
+      case "containsPattern" -> set(containsPattern(),
+          "call 555-1234 now",
+          "call now",
+          Pattern.compile("\\d{4}"));
+      case "matches" -> set(matches(), "555-1234", "5551234", "\\d{3}-\\d{4}");
+      case "containsMatch" -> set(containsMatch(),
+          "call 555-1234 now",
+          "call now",
+          "\\d{4}");
+      case "numerical" -> set(numerical(), "12345", "12.5", int.class);
+      case "parsableAs" -> set(parsableAs(), "12345.00", "foo", int.class);
+      case "equalsIC" -> set(equalsIC(), "hello", "world", "HELLO");
+      case "startsWithIC" -> set(startsWithIC(), "Hello", "World", "HE");
+      case "endsWithIC" -> set(endsWithIC(), "Hello", "World", "LO");
+      case "hasSubstringIC" -> set(hasSubstringIC(), "Hello", "World", "ELL");
+      default -> throw new IllegalArgumentException("no such check: " + check);
+    }
+  }
+
+  @Benchmark
+  public Object is() {
+    return Check.that(valid).is(test, object).ok();
+  }
+
+  @Benchmark
+  public Object isNot() {
+    return Check.that(invalid).isNot(test, object).ok();
+  }
+
+  @Benchmark
+  public Object has() {
+    return Check.that(validBean).has(Bean::value, test, object).ok();
+  }
+
+  @Benchmark
+  public Object notHas() {
+    return Check.that(invalidBean).notHas(Bean::value, test, object).ok();
+  }
+
+  @Benchmark
+  public Object is_handCoded() {
+    if (!test.exists(valid, object)) {
+      throw new IllegalArgumentException("invalid value: " + valid);
+    }
+    return valid;
+  }
+
+  @Benchmark
+  public Object isNot_handCoded() {
+    if (test.exists(invalid, object)) {
+      throw new IllegalArgumentException("invalid value: " + invalid);
+    }
+    return invalid;
+  }
+
+  @Benchmark
+  public Object has_handCoded() {
+    if (!test.exists(validBean.value(), object)) {
+      throw new IllegalArgumentException("invalid value: " + validBean.value());
+    }
+    return validBean;
+  }
+
+  private void set(Relation test, Object valid, Object invalid, Object object) {
+    this.test = test;
+    this.valid = valid;
+    this.invalid = invalid;
+    this.object = object;
+    this.validBean = new Bean(valid);
+    this.invalidBean = new Bean(invalid);
+  }
+
+  public record Bean(Object value) {}
+
+}
@@ -0,0 +1,60 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.klojang.check.CommonChecks.positive;
+import static org.klojang.check.CommonExceptions.ARGUMENT;
+import static org.klojang.check.CommonExceptions.ARGUMENT_LIGHT;
+
+/**
+ * Compares the throughput of a failing check using the default exception factory
+ * with that of the same check using the stackless {@code ARGUMENT_LIGHT} factory.
+ * Since the cost of {@code fillInStackTrace} grows with the depth of the call
+ * stack, the check is executed at the bottom of a call chain of {@code depth}
+ * frames.
+ *
+ * <pre>{@code
+ * mvn -P jmh test-compile exec:exec -Djmh.args="StacklessExceptionBenchmark"
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StacklessExceptionBenchmark {
+
+  @Param({"0", "50"})
+  public int depth;
+
+  int age = -42;
+
+  @Benchmark
+  public Exception argument() {
+    return descend(depth, ARGUMENT);
+  }
+
+  @Benchmark
+  public Exception argumentLight() {
+    return descend(depth, ARGUMENT_LIGHT);
+  }
+
+  private Exception descend(int depth,
+      Function<String, IllegalArgumentException> excFactory) {
+    if (depth == 0) {
+      try {
+        Check.on(excFactory, age, "age").is(positive());
+      } catch (IllegalArgumentException e) {
+        return e;
+      }
+      return null;
+    }
+    return descend(depth - 1, excFactory);
+  }
+
+}
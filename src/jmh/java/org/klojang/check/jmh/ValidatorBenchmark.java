@@ -0,0 +1,129 @@
+package org.klojang.check.jmh;
+
+import org.klojang.check.Check;
+import org.klojang.check.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.*;
+
+/**
+ * Compares the interpreted and compiled forms of a {@link Validator} executing a
+ * chain of 12 {@code has(...)} checks on a bean, along with the equivalent
+ * {@code Check.that(...)} chain and hand-coded checks. Only the happy path is
+ * measured.
+ *
+ * <pre>{@code
+ * mvn -P jmh test-compile exec:exec -Djmh.args="ValidatorBenchmark"
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+  public record Person(String firstName,
+      String lastName,
+      String email,
+      String country,
+      String city,
+      String street,
+      String zipCode,
+      int age,
+      int height,
+      int weight,
+      List<String> roles,
+      List<String> phones) { }
+
+  private static Validator.Builder<Person> builder() {
+    return Validator.<Person>builder("person")
+        .has(Person::firstName, notEmpty())
+        .has(Person::lastName, notEmpty())
+        .has(Person::email, hasSubstring(), "@")
+        .has(Person::country, EQ(), "NL")
+        .has(Person::city, notNull())
+        .has(Person::street, notNull())
+        .has(Person::zipCode, (String x) -> x.length() == 6)
+        .has(Person::age, gte(), 18)
+        .has(Person::height, lt(), 250)
+        .has(Person::weight, positive())
+        .has(Person::roles, contains(), "user")
+        .has(Person::phones, (List<String> x) -> x.size() <= 3);
+  }
+
+  private static final MethodHandle COMPILED_HANDLE =
+      builder().compile().asMethodHandle();
+
+  Validator<Person> interpreted = builder().build();
+  Validator<Person> compiled = builder().compile();
+
+  Person person = new Person("John",
+      "Smith",
+      "john@smith.com",
+      "NL",
+      "Amsterdam",
+      "Damrak 1",
+      "1012LG",
+      42,
+      180,
+      80,
+      List.of("admin", "user"),
+      List.of("+31 20 123 4567"));
+
+  @Benchmark
+  public boolean handCoded() {
+    Person p = person;
+    return !p.firstName().isEmpty()
+        && !p.lastName().isEmpty()
+        && p.email().contains("@")
+        && p.country().equals("NL")
+        && p.city() != null
+        && p.street() != null
+        && p.zipCode().length() == 6
+        && p.age() >= 18
+        && p.height() < 250
+        && p.weight() > 0
+        && p.roles().contains("user")
+        && p.phones().size() <= 3;
+  }
+
+  @Benchmark
+  public Person checkThat() {
+    return Check.that(person, "person")
+        .has(Person::firstName, notEmpty())
+        .has(Person::lastName, notEmpty())
+        .has(Person::email, hasSubstring(), "@")
+        .has(Person::country, EQ(), "NL")
+        .has(Person::city, notNull())
+        .has(Person::street, notNull())
+        .has(Person::zipCode, x -> x.length() == 6)
+        .has(Person::age, gte(), 18)
+        .has(Person::height, lt(), 250)
+        .has(Person::weight, positive())
+        .has(Person::roles, contains(), "user")
+        .has(Person::phones, x -> x.size() <= 3)
+        .ok();
+  }
+
+  @Benchmark
+  public boolean interpreted() {
+    return interpreted.test(person);
+  }
+
+  @Benchmark
+  public boolean compiled() {
+    return compiled.test(person);
+  }
+
+  @Benchmark
+  public boolean compiled_staticFinalHandle() throws Throwable {
+    return (boolean) COMPILED_HANDLE.invokeExact((Object) person);
+  }
+
+}
@@ -7,4 +7,6 @@ module org.klojang.check {
   exports org.klojang.check.extra;
   exports org.klojang.check.fallible;
   exports org.klojang.check.types;
+
+  uses org.klojang.check.extra.NullRepellentProvider;
 }
@@ -0,0 +1,222 @@
+package org.klojang.check;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.klojang.check.CommonChecks.gte;
+import static org.klojang.check.CommonChecks.lt;
+import static org.klojang.check.CommonExceptions.INDEX;
+import static org.klojang.check.x.msg.MsgUtil.createException;
+
+/**
+ * The outcome of validating a batch of values using
+ * {@link Validator#validateAll(List) Validator.validateAll()} or
+ * {@link Validator#validateAllParallel(List) Validator.validateAllParallel()}. A
+ * {@code BatchReport} records which elements failed to pass the checks of the
+ * {@code Validator}, along with the {@link Violation} for each of them. It only
+ * allocates memory for the elements that failed. The error messages are only
+ * generated when requested.
+ *
+ * <blockquote><pre>{@code
+ * BatchReport report = PERSON.validateAll(rows);
+ * BitSet invalid = report.invalid();
+ * for (int i = invalid.nextSetBit(0); i >= 0; i = invalid.nextSetBit(i + 1)) {
+ *   quarantine(rows.get(i), report.violation(i).orElseThrow().getMessage());
+ * }
+ * }</pre></blockquote>
+ *
+ * @author Ayco Holleman
+ */
+public final class BatchReport {
+
+  private final int size;
+  private final BitSet invalid;
+  // The indexes of the invalid elements, in ascending order
+  private final int[] indexes;
+  // The violations of the invalid elements, in the same order as the indexes
+  private final Violation[] violations;
+
+  private BatchReport(int size, BitSet invalid, int[] indexes, Violation[] violations) {
+    this.size = size;
+    this.invalid = invalid;
+    this.indexes = indexes;
+    this.violations = violations;
+  }
+
+  /**
+   * Returns the number of elements that were validated.
+   *
+   * @return the number of elements that were validated
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns {@code true} if all elements passed all checks, {@code false}
+   * otherwise.
+   *
+   * @return {@code true} if all elements passed all checks
+   */
+  public boolean valid() {
+    return indexes.length == 0;
+  }
+
+  /**
+   * Returns the number of elements that failed to pass the checks.
+   *
+   * @return the number of elements that failed to pass the checks
+   */
+  public int invalidCount() {
+    return indexes.length;
+  }
+
+  /**
+   * Returns a {@code BitSet} in which the bits corresponding to the indexes of the
+   * invalid elements are set. The returned {@code BitSet} is a copy and can be
+   * freely modified.
+   *
+   * @return a {@code BitSet} containing the indexes of the invalid elements
+   */
+  public BitSet invalid() {
+    return (BitSet) invalid.clone();
+  }
+
+  /**
+   * Returns {@code true} if the element at the specified index failed to pass the
+   * checks, {@code false} otherwise.
+   *
+   * @param index the index of the element
+   * @return {@code true} if the element at the specified index failed to pass the
+   *     checks
+   * @throws IndexOutOfBoundsException if the index is out of bounds
+   */
+  public boolean isInvalid(int index) {
+    Check.on(INDEX, index, "index").is(gte(), 0).is(lt(), size);
+    return invalid.get(index);
+  }
+
+  /**
+   * Returns the {@code Violation} describing the first check that the element at
+   * the specified index failed, or an empty {@code Optional} if the element passed
+   * all checks.
+   *
+   * @param index the index of the element
+   * @return the {@code Violation} for the element at the specified index
+   * @throws IndexOutOfBoundsException if the index is out of bounds
+   */
+  public Optional<Violation> violation(int index) {
+    Check.on(INDEX, index, "index").is(gte(), 0).is(lt(), size);
+    int i = Arrays.binarySearch(indexes, index);
+    return i < 0 ? Optional.empty() : Optional.of(violations[i]);
+  }
+
+  /**
+   * Returns the violations of all invalid elements, in ascending order of the
+   * indexes of the elements. The returned list is unmodifiable.
+   *
+   * @return the violations of all invalid elements
+   */
+  public List<Violation> violations() {
+    return List.of(violations);
+  }
+
+  /**
+   * Throws an {@code IllegalArgumentException} if any element failed to pass the
+   * checks. The exception message is generated from the {@code Violation} of the
+   * first invalid element.
+   *
+   * @throws IllegalArgumentException if any element failed to pass the checks
+   */
+  public void check() throws IllegalArgumentException {
+    check(CommonExceptions.ARGUMENT);
+  }
+
+  /**
+   * Throws the exception produced by the specified exception factory if any
+   * element failed to pass the checks. The exception message is generated from the
+   * {@code Violation} of the first invalid element, prefixed with its index and
+   * the total number of invalid elements.
+   *
+   * @param excFactory a function that produces the exception from the error
+   *     message
+   * @param <X> the type of the exception
+   * @throws X if any element failed to pass the checks
+   */
+  public <X extends Exception> void check(Function<String, X> excFactory) throws X {
+    if (indexes.length != 0) {
+      throw createException(excFactory, this::getMessage);
+    }
+  }
+
+  private String getMessage() {
+    return "element " + indexes[0] + " (1 of " + indexes.length + " invalid elements): "
+        + violations[0].getMessage();
+  }
+
+  /*
+   * Accumulates the violations of a batch. Elements must be added in ascending
+   * order of their index. Builders for consecutive chunks of the same batch can be
+   * merged using addAll().
+   */
+  static final class Builder {
+
+    private int[] indexes;
+    private Violation[] violations;
+    private int count;
+
+    void add(int index, Violation violation) {
+      if (indexes == null) {
+        indexes = new int[8];
+        violations = new Violation[8];
+      } else if (count == indexes.length) {
+        grow(count + (count >> 1));
+      }
+      indexes[count] = index;
+      violations[count++] = violation;
+    }
+
+    // Appends the violations of a chunk following the chunk of this builder
+    void addAll(Builder other) {
+      if (other.count == 0) {
+        return;
+      }
+      if (indexes == null) {
+        indexes = other.indexes;
+        violations = other.violations;
+        count = other.count;
+        return;
+      }
+      if (count + other.count > indexes.length) {
+        grow(count + other.count);
+      }
+      System.arraycopy(other.indexes, 0, indexes, count, other.count);
+      System.arraycopy(other.violations, 0, violations, count, other.count);
+      count += other.count;
+    }
+
+    BatchReport build(int size) {
+      if (count == 0) {
+        return new BatchReport(size, new BitSet(0), new int[0], new Violation[0]);
+      }
+      BitSet invalid = new BitSet(indexes[count - 1] + 1);
+      for (int i = 0; i < count; ++i) {
+        invalid.set(indexes[i]);
+      }
+      return new BatchReport(size,
+          invalid,
+          Arrays.copyOf(indexes, count),
+          Arrays.copyOf(violations, count));
+    }
+
+    private void grow(int len) {
+      indexes = Arrays.copyOf(indexes, len);
+      violations = Arrays.copyOf(violations, len);
+    }
+
+  }
+
+}
@@ -9,10 +9,11 @@ import static org.klojang.check.x.msg.CustomMsgFormatter.formatWithUserArgs;
 
 /**
  * The central class of this Java module. All checks start out here. The
- * {@code Check} class provides static factory methods for {@link IntCheck} and
- * {@link ObjectCheck} instances, which do the actual orchestration of the checks to
- * be executed. The {@code Check} class does contain a few validation methods itself,
- * like {@link #fromTo(int, int, int) Check.fromTo()} and
+ * {@code Check} class provides static factory methods for {@link IntCheck},
+ * {@link LongCheck}, {@link DoubleCheck} and {@link ObjectCheck} instances, which do
+ * the actual orchestration of the checks to be executed. The {@code Check} class
+ * does contain a few validation methods itself, like
+ * {@link #fromTo(int, int, int) Check.fromTo()} and
  * {@link #offsetLength(int, int, int) Check.offsetLength()}. These stand somewhat
  * apart from the rest of the Klojang Check. They are included for convenience.
  *
@@ -221,6 +222,216 @@ public final class Check {
     return new ObjectCheck<>(value, tag, excFactory);
   }
 
+  /**
+   * Static factory method. Returns a {@link LongCheck} instance suitable for
+   * validating {@code long} values. Use this method rather than
+   * {@link #that(Object) Check.that()} if the value must not be boxed.
+   *
+   * @param value the value to be validated
+   * @return a {@code LongCheck} instance suitable for testing {@code long} values
+   */
+  public static LongCheck<IllegalArgumentException> thatLong(long value) {
+    return new LongCheck<>(value, null, DEF_EXC_FACTORY);
+  }
+
+  /**
+   * Static factory method. Returns a {@link LongCheck} instance suitable for
+   * validating {@code long} values. Use this method rather than
+   * {@link #that(Object, String) Check.that()} if the value must not be boxed.
+   *
+   * @param value the value to be validated
+   * @param tag a descriptive name for the value (in case the value is a method
+   *     argument probably something close to the parameter name)
+   * @return a {@code LongCheck} instance suitable for testing {@code long} values
+   */
+  public static LongCheck<IllegalArgumentException> thatLong(long value,
+      String tag) {
+    return new LongCheck<>(value, tag, DEF_EXC_FACTORY);
+  }
+
+  /**
+   * Static factory method. Returns a {@link LongCheck} instance suitable for
+   * validating {@code long} values. If the value fails any of the tests passed to
+   * the {@code LongCheck} instance, the exception produced by the provided
+   * exception factory is thrown.
+   *
+   * @param excFactory a function that will produce the exception if the value
+   *     fails to pass a test. The function will be pass the exception message and
+   *     must return the exception to be thrown
+   * @param value the value to be validated
+   * @param <X> the type of {@code Exception} thrown if the value fails to pass a
+   *     test
+   * @return a {@code LongCheck} instance suitable for testing {@code long} values
+   */
+  public static <X extends Exception> LongCheck<X> onLong(
+      Function<String, X> excFactory, long value) {
+    return new LongCheck<>(value, null, excFactory);
+  }
+
+  /**
+   * Static factory method. Returns a {@link LongCheck} instance suitable for
+   * validating {@code long} values. If the value fails any of the tests passed to
+   * the {@code LongCheck} instance, the exception produced by the provided
+   * exception factory is thrown.
+   *
+   * @param excFactory a function that will produce the exception if the value
+   *     fails to pass a test. The function will be pass the exception message and
+   *     must return the exception to be thrown
+   * @param value the value to be validated
+   * @param tag a descriptive name for the value (in case the value is a method
+   *     argument probably something close to the parameter name)
+   * @param <X> the type of {@code Exception} thrown if the value fails to pass a
+   *     test
+   * @return a {@code LongCheck} instance suitable for testing {@code long} values
+   */
+  public static <X extends Exception> LongCheck<X> onLong(
+      Function<String, X> excFactory, long value, String tag) {
+    return new LongCheck<>(value, tag, excFactory);
+  }
+
+  /**
+   * Static factory method. Returns a {@link DoubleCheck} instance suitable for
+   * validating {@code double} values. Use this method rather than
+   * {@link #that(Object) Check.that()} if the value must not be boxed.
+   *
+   * @param value the value to be validated
+   * @return a {@code DoubleCheck} instance suitable for testing {@code double}
+   *     values
+   */
+  public static DoubleCheck<IllegalArgumentException> thatDouble(double value) {
+    return new DoubleCheck<>(value, null, DEF_EXC_FACTORY);
+  }
+
+  /**
+   * Static factory method. Returns a {@link DoubleCheck} instance suitable for
+   * validating {@code double} values. Use this method rather than
+   * {@link #that(Object, String) Check.that()} if the value must not be boxed.
+   *
+   * @param value the value to be validated
+   * @param tag a descriptive name for the value (in case the value is a method
+   *     argument probably something close to the parameter name)
+   * @return a {@code DoubleCheck} instance suitable for testing {@code double}
+   *     values
+   */
+  public static DoubleCheck<IllegalArgumentException> thatDouble(double value,
+      String tag) {
+    return new DoubleCheck<>(value, tag, DEF_EXC_FACTORY);
+  }
+
+  /**
+   * Static factory method. Returns a {@link DoubleCheck} instance suitable for
+   * validating {@code double} values. If the value fails any of the tests passed to
+   * the {@code DoubleCheck} instance, the exception produced by the provided
+   * exception factory is thrown.
+   *
+   * @param excFactory a function that will produce the exception if the value
+   *     fails to pass a test. The function will be pass the exception message and
+   *     must return the exception to be thrown
+   * @param value the value to be validated
+   * @param <X> the type of {@code Exception} thrown if the value fails to pass a
+   *     test
+   * @return a {@code DoubleCheck} instance suitable for testing {@code double}
+   *     values
+   */
+  public static <X extends Exception> DoubleCheck<X> onDouble(
+      Function<String, X> excFactory, double value) {
+    return new DoubleCheck<>(value, null, excFactory);
+  }
+
+  /**
+   * Static factory method. Returns a {@link DoubleCheck} instance suitable for
+   * validating {@code double} values. If the value fails any of the tests passed to
+   * the {@code DoubleCheck} instance, the exception produced by the provided
+   * exception factory is thrown.
+   *
+   * @param excFactory a function that will produce the exception if the value
+   *     fails to pass a test. The function will be pass the exception message and
+   *     must return the exception to be thrown
+   * @param value the value to be validated
+   * @param tag a descriptive name for the value (in case the value is a method
+   *     argument probably something close to the parameter name)
+   * @param <X> the type of {@code Exception} thrown if the value fails to pass a
+   *     test
+   * @return a {@code DoubleCheck} instance suitable for testing {@code double}
+   *     values
+   */
+  public static <X extends Exception> DoubleCheck<X> onDouble(
+      Function<String, X> excFactory, double value, String tag) {
+    return new DoubleCheck<>(value, tag, excFactory);
+  }
+
+  /**
+   * Static factory method. Returns an {@link IntProbe} instance for testing the
+   * specified value without throwing an exception if it fails a test.
+   *
+   * @param value the value to be tested
+   * @return an {@code IntProbe} instance for testing the specified value
+   */
+  public static IntProbe test(int value) {
+    return new IntProbe(value, null);
+  }
+
+  /**
+   * Static factory method. Returns an {@link IntProbe} instance for testing the
+   * specified value without throwing an exception if it fails a test.
+   *
+   * @param value the value to be tested
+   * @param tag a descriptive name for the value
+   * @return an {@code IntProbe} instance for testing the specified value
+   */
+  public static IntProbe test(int value, String tag) {
+    return new IntProbe(value, tag);
+  }
+
+  /**
+   * Static factory method. Returns an {@link ObjectProbe} instance for testing the
+   * specified value without throwing an exception if it fails a test.
+   *
+   * <blockquote><pre>{@code
+   * if (Check.test(email).is(notNull()).is(containsMatch(), "@").valid()) {
+   *   // ...
+   * }
+   * }</pre></blockquote>
+   *
+   * @param value the value to be tested
+   * @param <T> the type of the value
+   * @return an {@code ObjectProbe} instance for testing the specified value
+   */
+  public static <T> ObjectProbe<T> test(T value) {
+    return new ObjectProbe<>(value, null);
+  }
+
+  /**
+   * Static factory method. Returns an {@link ObjectProbe} instance for testing the
+   * specified value without throwing an exception if it fails a test.
+   *
+   * @param value the value to be tested
+   * @param tag a descriptive name for the value
+   * @param <T> the type of the value
+   * @return an {@code ObjectProbe} instance for testing the specified value
+   */
+  public static <T> ObjectProbe<T> test(T value, String tag) {
+    return new ObjectProbe<>(value, tag);
+  }
+
+  /**
+   * Static factory method. Returns a {@link ViolationCollector} that executes all
+   * checks, rather than stopping at the first failing check, and reports all
+   * violations at once.
+   *
+   * <blockquote><pre>{@code
+   * ViolationCollector vc = Check.collecting();
+   * vc.that(name, "name").is(notEmpty());
+   * vc.that(age, "age").is(gte(), 18);
+   * vc.check();
+   * }</pre></blockquote>
+   *
+   * @return a new {@code ViolationCollector}
+   */
+  public static ViolationCollector collecting() {
+    return new ViolationCollector();
+  }
+
   /**
    * <p>All-in-one check for the specified array, offset and length.
    *
@@ -1,7 +1,12 @@
 package org.klojang.check;
 
 import org.klojang.check.extra.Emptyable;
+import org.klojang.check.extra.IntLookupSet;
+import org.klojang.check.extra.KeywordSet;
+import org.klojang.check.extra.LookupSet;
+import org.klojang.check.extra.PatternCache;
 import org.klojang.check.extra.Result;
+import org.klojang.check.extra.TraversalLimits;
 import org.klojang.check.types.*;
 import org.klojang.check.x.CheckImpls;
 import org.klojang.check.x.StringCheckImpls;
@@ -12,7 +17,6 @@ import java.util.*;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
-import static java.util.regex.Pattern.*;
 import static org.klojang.check.x.Misc.typeNotSupported;
 import static org.klojang.check.x.StringCheckImpls.NUMERICALS;
 import static org.klojang.check.x.StringCheckImpls.PARSABLES;
@@ -169,6 +173,29 @@ public final class CommonChecks {
     return CheckImpls::isDeepNotNull;
   }
 
+  /**
+   * Verifies that the argument is not {@code null} and, if it is an array, collection or map, that it does
+   * not contain any {@code null} values. Equivalent to {@link #deepNotNull()}, except that arrays,
+   * collections and maps containing at least the specified number of elements are scanned in parallel,
+   * using the common {@code ForkJoinPool}. Arrays and {@link RandomAccess} lists are split by index range.
+   * Other collections and maps are scanned using a parallel stream. The scan stops in all threads as soon
+   * as any thread finds a {@code null} value. For small collections the overhead of parallel execution
+   * outweighs its benefits, so the threshold should typically be in the tens of thousands or more.
+   *
+   * <blockquote><pre>{@code
+   * Check.that(cache).is(deepNotNullParallel(), 100_000);
+   * }</pre></blockquote>
+   *
+   * <p>This check (implicitly) performs a null check and can be safely executed
+   * without or instead of executing the {@link #notNull()} check first.
+   *
+   * @param <T> the type of the argument
+   * @return a function implementing the test described above
+   */
+  public static <T> Relation<T, Integer> deepNotNullParallel() {
+    return CheckImpls::isDeepNotNull;
+  }
+
   /**
    * Verifies that the argument is recursively non-empty. A value is defined to be deep-not-empty if any of
    * the following applies:
@@ -193,6 +220,9 @@ public final class CommonChecks {
    *   <li>it is a non-null object of any other type
    * </ul>
    *
+   * <p>To limit the effort spent on values from untrusted sources, use
+   * {@link #deepNotEmptyWithin()}.
+   *
    * <p>This check (implicitly) performs a null check and can be safely executed
    * without or instead of executing the {@link #notNull()} check first.
    *
@@ -203,6 +233,60 @@ public final class CommonChecks {
     return CheckImpls::isDeepNotEmpty;
   }
 
+  /**
+   * Verifies that the argument is recursively non-empty. Equivalent to {@link #deepNotEmpty()}, except that
+   * arrays, collections and maps containing at least the specified number of elements are scanned in
+   * parallel, using the common {@code ForkJoinPool}. Arrays and {@link RandomAccess} lists are split by
+   * index range. Other collections and maps are scanned using a parallel stream. Each element is then
+   * traversed as by {@code deepNotEmpty()}. The scan stops in all threads as soon as any thread finds an
+   * empty element. As with {@link #deepNotNullParallel()}, the threshold should typically be in the tens of
+   * thousands or more.
+   *
+   * <blockquote><pre>{@code
+   * Check.that(rows).is(deepNotEmptyParallel(), 100_000);
+   * }</pre></blockquote>
+   *
+   * <p>The elements are traversed independently of each other, so an element that
+   * (directly or indirectly) contains the argument itself causes the argument to be
+   * traversed again. This check does not limit the effort spent on the argument. For
+   * values from untrusted sources, use {@link #deepNotEmptyWithin()}.
+   *
+   * <p>This check (implicitly) performs a null check and can be safely executed
+   * without or instead of executing the {@link #notNull()} check first.
+   *
+   * @param <T> the type of the argument
+   * @return a function implementing the test described above
+   */
+  public static <T> Relation<T, Integer> deepNotEmptyParallel() {
+    return CheckImpls::isDeepNotEmpty;
+  }
+
+  /**
+   * Verifies that the argument is recursively non-empty, while putting an upper limit on the effort spent
+   * traversing it. Equivalent to {@link #deepNotEmpty()}, except that the argument fails the check if its
+   * collections, maps, arrays and {@code Optional}s are nested more deeply than allowed by the
+   * {@link TraversalLimits}, or if it contains more elements than allowed by the {@code TraversalLimits}.
+   * Use this check for values from untrusted sources, like configuration trees parsed from JSON.
+   *
+   * <blockquote><pre>{@code
+   * Check.that(config).is(deepNotEmptyWithin(), new TraversalLimits(32, 100_000));
+   * }</pre></blockquote>
+   *
+   * <p>Both {@code deepNotEmpty()} and {@code deepNotEmptyWithin()} traverse the
+   * argument iteratively, so they will not cause a {@code StackOverflowError} for
+   * deeply nested values. A collection, map or array that (directly or indirectly)
+   * contains itself is traversed just once.
+   *
+   * <p>This check (implicitly) performs a null check and can be safely executed
+   * without or instead of executing the {@link #notNull()} check first.
+   *
+   * @param <T> the type of the argument
+   * @return a function implementing the test described above
+   */
+  public static <T> Relation<T, TraversalLimits> deepNotEmptyWithin() {
+    return CheckImpls::isDeepNotEmpty;
+  }
+
   /**
    * Verifies that the argument is {@code null} or contains whitespace only. Probably more useful when called
    * from an {@code isNot} method.
@@ -475,6 +559,201 @@ public final class CommonChecks {
     return (x, y) -> x % y == 0;
   }
 
+  //////////////////////////////////////////////////////////////////////////////////
+  // LongPredicate
+  //////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Verifies that the argument is a positive {@code long} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static ComposableLongPredicate positiveLong() {
+    return x -> x > 0;
+  }
+
+  /**
+   * Verifies that the argument is a negative {@code long} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static ComposableLongPredicate negativeLong() {
+    return x -> x < 0;
+  }
+
+  /**
+   * Verifies that the argument is zero (0).
+   *
+   * @return a function implementing the test described above
+   */
+  public static ComposableLongPredicate zeroLong() {
+    return x -> x == 0;
+  }
+
+  //////////////////////////////////////////////////////////////////////////////////
+  // LongRelation
+  //////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Verifies that the argument equals the specified {@code long} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static LongRelation eqLong() {
+    return (x, y) -> x == y;
+  }
+
+  /**
+   * Verifies that the argument does not equal the specified {@code long} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static LongRelation neLong() {
+    return (x, y) -> x != y;
+  }
+
+  /**
+   * Verifies that the argument is greater than the specified {@code long} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static LongRelation gtLong() {
+    return (x, y) -> x > y;
+  }
+
+  /**
+   * Verifies that the argument is greater than or equal to the specified
+   * {@code long} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static LongRelation gteLong() {
+    return (x, y) -> x >= y;
+  }
+
+  /**
+   * Verifies that the argument is less than the specified {@code long} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static LongRelation ltLong() {
+    return (x, y) -> x < y;
+  }
+
+  /**
+   * Verifies that the argument is less than or equal to the specified {@code long}
+   * value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static LongRelation lteLong() {
+    return (x, y) -> x <= y;
+  }
+
+  /**
+   * Verifies that the argument is a multiple of the specified {@code long} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static LongRelation multipleOfLong() {
+    return (x, y) -> x % y == 0;
+  }
+
+  //////////////////////////////////////////////////////////////////////////////////
+  // DoublePredicate
+  //////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Verifies that the argument is a positive {@code double} value. {@code NaN} is
+   * not positive.
+   *
+   * @return a function implementing the test described above
+   */
+  public static ComposableDoublePredicate positiveDouble() {
+    return x -> x > 0;
+  }
+
+  /**
+   * Verifies that the argument is a negative {@code double} value. {@code NaN} is
+   * not negative.
+   *
+   * @return a function implementing the test described above
+   */
+  public static ComposableDoublePredicate negativeDouble() {
+    return x -> x < 0;
+  }
+
+  /**
+   * Verifies that the argument is neither infinite nor {@code NaN}. Equivalent to
+   * {@link Double#isFinite(double) Double::isFinite}.
+   *
+   * @return a function implementing the test described above
+   */
+  public static ComposableDoublePredicate finite() {
+    return Double::isFinite;
+  }
+
+  /**
+   * Verifies that the argument is not {@code NaN}.
+   *
+   * @return a function implementing the test described above
+   */
+  public static ComposableDoublePredicate notNaN() {
+    return x -> !Double.isNaN(x);
+  }
+
+  //////////////////////////////////////////////////////////////////////////////////
+  // DoubleRelation
+  //////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Verifies that the argument is greater than the specified {@code double} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static DoubleRelation gtDouble() {
+    return (x, y) -> x > y;
+  }
+
+  /**
+   * Verifies that the argument is greater than or equal to the specified
+   * {@code double} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static DoubleRelation gteDouble() {
+    return (x, y) -> x >= y;
+  }
+
+  /**
+   * Verifies that the argument is less than the specified {@code double} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static DoubleRelation ltDouble() {
+    return (x, y) -> x < y;
+  }
+
+  /**
+   * Verifies that the argument is less than or equal to the specified
+   * {@code double} value.
+   *
+   * @return a function implementing the test described above
+   */
+  public static DoubleRelation lteDouble() {
+    return (x, y) -> x <= y;
+  }
+
+  /**
+   * Verifies that the argument is a multiple of the specified {@code double} value.
+   * The test is exact: it passes only if the remainder of the division is 0.
+   *
+   * @return a function implementing the test described above
+   */
+  public static DoubleRelation multipleOfDouble() {
+    return (x, y) -> x % y == 0;
+  }
+
   //////////////////////////////////////////////////////////////////////////////////
   // Relation
   //////////////////////////////////////////////////////////////////////////////////
@@ -703,6 +982,40 @@ public final class CommonChecks {
     return CheckImpls::inArray;
   }
 
+  /**
+   * Verifies that the argument is an element of a {@link LookupSet}. Membership is
+   * determined in constant time, which makes this check preferable to
+   * {@link #in()} with a {@code List} and to {@link #inArray()} when checking
+   * against a large set of allowed values.
+   *
+   * <blockquote><pre>{@code
+   * LookupSet<String> currencies = LookupSet.of("EUR", "USD", "JPY");
+   * Check.that("EUR").is(inSet(), currencies); // yes
+   * }</pre></blockquote>
+   *
+   * @param <S> the type of the argument
+   * @return a function implementing the test described above
+   */
+  public static <S> Relation<S, LookupSet<? super S>> inSet() {
+    return (x, y) -> y.contains(x);
+  }
+
+  /**
+   * Verifies that the argument is not an element of a {@link LookupSet}. Useful for
+   * checking values against a large set of forbidden values.
+   *
+   * <blockquote><pre>{@code
+   * LookupSet<String> reserved = LookupSet.of("admin", "root", "system");
+   * Check.that("john").is(notInSet(), reserved); // yes
+   * }</pre></blockquote>
+   *
+   * @param <S> the type of the argument
+   * @return a function implementing the test described above
+   */
+  public static <S> Relation<S, LookupSet<? super S>> notInSet() {
+    return (x, y) -> !y.contains(x);
+  }
+
   /**
    * Verifies that a {@code Collection} argument contains all the elements of the specified collection.
    * Equivalent to {@link Collection#containsAll(Collection) Collection::containsAll}.
@@ -750,6 +1063,25 @@ public final class CommonChecks {
     return String::contains;
   }
 
+  /**
+   * Verifies that the argument contains at least one of the keywords in the specified
+   * {@link KeywordSet}. The keywords are compiled into an Aho–Corasick automaton when
+   * the {@code KeywordSet} is created, so the check takes time proportional to the
+   * length of the argument, no matter how many keywords there are. Whether case is
+   * ignored is determined by the {@code KeywordSet}.
+   *
+   * <blockquote><pre>{@code
+   * KeywordSet blocked = KeywordSet.ofIgnoreCase("viagra", "casino", "lottery");
+   * Check.that("Win the LOTTERY!").is(containsAnyOf(), blocked); // yes
+   * Check.that("Hello, World").isNot(containsAnyOf(), blocked); // yes
+   * }</pre></blockquote>
+   *
+   * @return a function implementing the test described above
+   */
+  public static Relation<String, KeywordSet> containsAnyOf() {
+    return (string, keywords) -> keywords.foundIn(string);
+  }
+
   /**
    * Verifies that the argument is a substring of the specified string.
    *
@@ -804,7 +1136,8 @@ public final class CommonChecks {
   /**
    * Verifies that the argument matches the specified pattern (that is, the pattern fully describes the
    * string). The subject of the returned {@code Relation} is the string to match; the object of the
-   * {@code Relation} is a regular expression to be compiled into a {@link Pattern}.
+   * {@code Relation} is a regular expression to be compiled into a {@link Pattern}. Compiled patterns are
+   * cached in the {@link PatternCache}.
    *
    * <blockquote><pre>{@code
    * Check.that("abcd123").is(matches(), "^\\w{4}\\d{3}$"); // yes
@@ -815,13 +1148,14 @@ public final class CommonChecks {
    */
   public static Relation<String, String> matches() {
     return (string, pattern) ->
-        hasPattern().exists(string, compile(pattern));
+        hasPattern().exists(string, PatternCache.get(pattern));
   }
 
   /**
    * Verifies that the argument contains the specified pattern (that is, the pattern can be found somewhere in
    * the string). The subject of the returned {@code Relation} is the string to match; the object of the
-   * {@code Relation} is a regular expression to be compiled into a {@link Pattern}.
+   * {@code Relation} is a regular expression to be compiled into a {@link Pattern}. Compiled patterns are
+   * cached in the {@link PatternCache}.
    *
    * <blockquote><pre>{@code
    * Check.that("abcd123").is(containsMatch(), "\\d{3}"); // yes
@@ -832,7 +1166,7 @@ public final class CommonChecks {
    */
   public static Relation<String, String> containsMatch() {
     return (string, pattern) ->
-        containsPattern().exists(string, compile(pattern));
+        containsPattern().exists(string, PatternCache.get(pattern));
   }
 
   /**
@@ -924,13 +1258,13 @@ public final class CommonChecks {
   }
 
   /**
-   * Verifies that a string value contains, ignoring case, the specified string.
+   * Verifies that a string value contains, ignoring case, the specified string. As with
+   * {@link Pattern#CASE_INSENSITIVE}, only the case of US-ASCII letters is ignored.
    *
    * @return a function implementing the test described above
    */
   public static Relation<String, String> hasSubstringIC() {
-    return (s, o) ->
-        containsPattern().exists(s, compile(o, CASE_INSENSITIVE | LITERAL));
+    return StringCheckImpls::hasSubstringIC;
   }
 
   //////////////////////////////////////////////////////////////////////////////////
@@ -987,7 +1321,9 @@ public final class CommonChecks {
   }
 
   /**
-   * Verifies that the argument is present in the specified {@code int} array.
+   * Verifies that the argument is present in the specified {@code int} array. The
+   * array is scanned from start to end. Use {@link #inIntSet()} to check against
+   * a large set of values.
    *
    * @return a function implementing the test described above
    */
@@ -1002,6 +1338,22 @@ public final class CommonChecks {
     };
   }
 
+  /**
+   * Verifies that the argument is present in the specified {@link IntLookupSet}.
+   * Membership is determined in constant or logarithmic time, depending on the
+   * values in the set.
+   *
+   * <blockquote><pre>{@code
+   * IntLookupSet ports = IntLookupSet.of(80, 443, 8080, 8443);
+   * Check.that(443).is(inIntSet(), ports); // yes
+   * }</pre></blockquote>
+   *
+   * @return a function implementing the test described above
+   */
+  public static IntObjRelation<IntLookupSet> inIntSet() {
+    return (x, y) -> y.contains(x);
+  }
+
   //////////////////////////////////////////////////////////////////////////////////
   // Special
   //////////////////////////////////////////////////////////////////////////////////
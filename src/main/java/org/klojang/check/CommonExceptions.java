@@ -5,11 +5,13 @@ import static org.klojang.check.extra.DuplicateValueException.Usage;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.NoSuchElementException;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.klojang.check.extra.DuplicateValueException;
+import org.klojang.check.extra.LazyMessageFactory;
 
 /**
  * Provides factories for some commonly thrown exceptions. Typically (but not
@@ -56,6 +58,33 @@ import org.klojang.check.extra.DuplicateValueException;
  *
  * </blockquote>
  *
+ * <p><b><a id="stackless-exceptions">Stackless exceptions</a></b>
+ *
+ * <p>Most of the cost of a failed check is spent not in the check itself, but in
+ * {@link Throwable#fillInStackTrace()}. If values are expected to fail frequently
+ * (for example, when validating untrusted input at a high rate), you can opt in to
+ * exceptions without a stack trace by passing {@link #ARGUMENT_LIGHT} or
+ * {@link #STATE_LIGHT} to {@code Check.on(...)}:
+ *
+ * <blockquote>
+ *
+ * <pre>{@code
+ * Check.on(ARGUMENT_LIGHT, request.getPageSize(), "pageSize").is(lte(), 1000);
+ * }</pre>
+ *
+ * </blockquote>
+ *
+ * <p>The exceptions produced by these factories are ordinary instances of
+ * {@code IllegalArgumentException} and {@code IllegalStateException}, so they can
+ * be caught as such. However, their {@link Throwable#getStackTrace()} method
+ * returns an empty array, and {@link Throwable#setStackTrace(StackTraceElement[])
+ * setStackTrace()} is a no-op. Only use them when the exception is going to be
+ * handled rather than logged, since the log will not tell you where it came from.
+ *
+ * <p>Similarly, {@link #ARGUMENT_LAZY} and {@link #STATE_LAZY} produce exceptions
+ * whose message is only generated when it is requested. See
+ * {@link LazyMessageFactory}.
+ *
  * @author Ayco Holleman
  */
 public final class CommonExceptions {
@@ -110,6 +139,34 @@ public final class CommonExceptions {
   public static final Function<String, IllegalArgumentException> ARGUMENT =
       IllegalArgumentException::new;
 
+  /**
+   * Produces an {@code IllegalArgumentException} without a stack trace. See
+   * <a href="#stackless-exceptions">Stackless exceptions</a>.
+   */
+  public static final Function<String, IllegalArgumentException> ARGUMENT_LIGHT =
+      StacklessArgumentException::new;
+
+  /**
+   * Produces an {@code IllegalStateException} without a stack trace. See
+   * <a href="#stackless-exceptions">Stackless exceptions</a>.
+   */
+  public static final Function<String, IllegalStateException> STATE_LIGHT =
+      StacklessStateException::new;
+
+  /**
+   * Produces an {@code IllegalArgumentException} whose message is only generated
+   * when it is requested. See {@link LazyMessageFactory}.
+   */
+  public static final LazyMessageFactory<IllegalArgumentException> ARGUMENT_LAZY =
+      LazyArgumentException::new;
+
+  /**
+   * Produces an {@code IllegalStateException} whose message is only generated when
+   * it is requested. See {@link LazyMessageFactory}.
+   */
+  public static final LazyMessageFactory<IllegalStateException> STATE_LAZY =
+      LazyStateException::new;
+
   /**
    * Returns a {@code Supplier} of an {@link IllegalStateException}.
    *
@@ -300,4 +357,113 @@ public final class CommonExceptions {
     return () -> new DuplicateValueException(message);
   }
 
+  /*
+   * IllegalArgumentException and IllegalStateException do not expose the
+   * (message, cause, enableSuppression, writableStackTrace) constructor, so we
+   * suppress the stack trace by overriding fillInStackTrace(). The list of
+   * suppressed exceptions is allocated lazily by Throwable, so it costs nothing
+   * unless somebody actually calls addSuppressed().
+   */
+
+  private static final class StacklessArgumentException extends
+      IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private StacklessArgumentException(String message) {
+      super(message);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+      return this;
+    }
+
+    @Override
+    public void setStackTrace(StackTraceElement[] stackTrace) { }
+
+  }
+
+  private static final class StacklessStateException extends
+      IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private StacklessStateException(String message) {
+      super(message);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+      return this;
+    }
+
+    @Override
+    public void setStackTrace(StackTraceElement[] stackTrace) { }
+
+  }
+
+  /*
+   * Renders the message on the first call to getMessage(). getMessage() is
+   * synchronized, so the Supplier is called at most once, even when the
+   * exception is shared between threads. The Supplier is transient: the message
+   * is rendered before the exception is serialized, so only the message itself
+   * ends up in the stream.
+   */
+
+  private static final class LazyArgumentException extends
+      IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Supplier<String> supplier;
+    private String message;
+
+    private LazyArgumentException(Supplier<String> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public synchronized String getMessage() {
+      if (supplier != null) {
+        message = supplier.get();
+        supplier = null;
+      }
+      return message;
+    }
+
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+      getMessage();
+      out.defaultWriteObject();
+    }
+
+  }
+
+  private static final class LazyStateException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Supplier<String> supplier;
+    private String message;
+
+    private LazyStateException(Supplier<String> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public synchronized String getMessage() {
+      if (supplier != null) {
+        message = supplier.get();
+        supplier = null;
+      }
+      return message;
+    }
+
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+      getMessage();
+      out.defaultWriteObject();
+    }
+
+  }
+
 }
@@ -440,13 +440,49 @@ public class CommonProperties {
     return fmt.apply(arg, argName);
   }
 
+  static String formatLongProperty(long arg,
+      String argName,
+      Object getter,
+      Class getterClass) {
+    BiFunction<Object, String, String> fmt = NAMES.get(getter);
+    if (fmt == null) {
+      String s0 = getterClass == LongUnaryOperator.class ? "applyAsLong" : "apply";
+      return simpleClassName(getterClass) + "." + s0 + "(" + arg + ")";
+    }
+    return fmt.apply(arg, argName);
+  }
+
+  static String formatDoubleProperty(double arg,
+      String argName,
+      Object getter,
+      Class getterClass) {
+    BiFunction<Object, String, String> fmt = NAMES.get(getter);
+    if (fmt == null) {
+      String s0 = getterClass == DoubleUnaryOperator.class ? "applyAsDouble" : "apply";
+      return simpleClassName(getterClass) + "." + s0 + "(" + arg + ")";
+    }
+    return fmt.apply(arg, argName);
+  }
+
+  /*
+   * Returns the name of the property if it can be determined without knowing the
+   * argument itself, else null. Used to resolve property names up front.
+   */
+  static String formatProperty(String argName, Object getter) {
+    if (argName == null) {
+      return null;
+    }
+    BiFunction<Object, String, String> fmt = NAMES.get(getter);
+    return fmt == null ? null : fmt.apply(null, argName);
+  }
+
   static {
     NAMES = Map.copyOf(tmp);
     tmp = null;
   }
 
   private static String base(String argName, Object arg) {
-    return ifNull(argName, simpleClassName(arg));
+    return argName == null ? simpleClassName(arg) : argName;
   }
 
   private static String ifNull(String value, String defVal) {
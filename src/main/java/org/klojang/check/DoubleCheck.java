@@ -0,0 +1,1181 @@
+package org.klojang.check;
+
+import org.klojang.check.fallible.FallibleDoubleConsumer;
+import org.klojang.check.fallible.FallibleDoubleUnaryOperator;
+import org.klojang.check.types.DoubleRelation;
+import org.klojang.check.types.Relation;
+import org.klojang.check.x.msg.MsgArgs;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.klojang.check.x.msg.CheckDefs.getDoublePredicateFormatter;
+import static org.klojang.check.x.msg.CheckDefs.getDoubleRelationFormatter;
+import static org.klojang.check.x.msg.MsgUtil.*;
+
+/**
+ * Facilitates the validation of {@code double} values. Unlike an
+ * {@code ObjectCheck<Double, X>}, a {@code DoubleCheck} never boxes the value it
+ * validates, except when building the error message for a value that failed a
+ * test. {@code DoubleCheck} instances are obtained via
+ * {@link Check#thatDouble(double) Check.thatDouble()} and
+ * {@link Check#onDouble(Function, double) Check.onDouble()}. See the
+ * <a href="../../../module-summary.html">module summary</a> for a detailed
+ * explanation.
+ *
+ * @param <X> The type of the exception that is thrown by default if the value
+ *     fails a test (this can be overridden for individual tests in the chain of
+ *     checks)
+ * @see IntCheck
+ */
+// The has(DoubleUnaryOperator, ...) and has(DoubleFunction<P>, ...) overloads are
+// told apart by the test that follows the property: a DoublePredicate or
+// DoubleRelation versus a Predicate or Relation. Checks from CommonChecks
+// always have one of those types. IntCheck has the same overloads.
+@SuppressWarnings("overloads")
+public final class DoubleCheck<X extends Exception> {
+
+  final double arg;
+  final String argName;
+  final Function<String, X> exc;
+
+  DoubleCheck(double arg, String argName, Function<String, X> exc) {
+    this.arg = arg;
+    this.argName = argName;
+    this.exc = exc;
+  }
+
+  /**
+   * Returns the {@code double} value validated by this instance. To be used as the
+   * last call after a chain of checks.
+   *
+   * @return the {@code double} value validated by this instance
+   */
+  public double ok() {
+    return arg;
+  }
+
+  /**
+   * Passes the validated value to the specified function and returns the value it
+   * computes. To be used as the last call after a chain of checks.
+   *
+   * @param transformer a function that transforms the {@code double} value
+   *     validated by this instance
+   * @param <X2> the type of the exception thrown if the transformation fails
+   * @return the value computed by the transformation function
+   * @throws X2 if the transformation fails
+   */
+  public <X2 extends Throwable> double ok(
+      FallibleDoubleUnaryOperator<X2> transformer) throws X2 {
+    return transformer.applyAsDouble(arg);
+  }
+
+  /**
+   * Passes the validated value to a consumer for further processing. To be used as
+   * the last call after a chain of checks.
+   *
+   * @param consumer a consumer of the {@code double} value validated by this
+   *     instance
+   * @param <X2> the type of the exception thrown if the consumer fails while
+   *     processing the value
+   * @throws X2 if the consumer fails while processing the value
+   */
+  public <X2 extends Throwable> void then(FallibleDoubleConsumer<X2> consumer)
+      throws X2 {
+    consumer.accept(arg);
+  }
+
+  /**
+   * Validates the argument using the specified test. While not strictly required,
+   * this method is meant to be passed a check from the {@link CommonChecks} class.
+   * When providing your own lambda or method reference, the error message wil not be
+   * very intelligible.
+   *
+   * @param test the test
+   * @return this instance
+   * @throws X if the {@code double} value does not pass the test
+   */
+  public DoubleCheck<X> is(DoublePredicate test) throws X {
+    if (test.test(arg)) {
+      return this;
+    }
+    Function<MsgArgs, String> formatter = getDoublePredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(exc, () -> getDefaultPredicateMessage(argName, arg));
+    }
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            argName,
+            arg,
+            double.class,
+            null));
+  }
+
+  /**
+   * Validates the argument using the specified test. While not strictly required,
+   * this method is meant to be passed a check from the {@link CommonChecks} class.
+   * When providing your own lambda or method reference, the error message wil not be
+   * very intelligible.
+   *
+   * @param test the test
+   * @return this instance
+   * @throws X if the {@code double} value does not pass the test
+   */
+  public DoubleCheck<X> isNot(DoublePredicate test) throws X {
+    if (!test.test(arg)) {
+      return this;
+    }
+    Function<MsgArgs, String> formatter = getDoublePredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(exc, () -> getDefaultPredicateMessage(argName, arg));
+    }
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            argName,
+            arg,
+            double.class,
+            null));
+  }
+
+  /**
+   * Validates the argument using the specified test. Allows you to provide a custom
+   * error message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param test the test
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @return this instance
+   * @throws X if the {@code double} value does not pass the test
+   */
+  public DoubleCheck<X> is(DoublePredicate test, String message, Object... msgArgs)
+      throws X {
+    if (test.test(arg)) {
+      return this;
+    }
+    throw createException(exc,
+        () -> getCustomMessage(message,
+            msgArgs,
+            test,
+            argName,
+            arg,
+            double.class,
+            null));
+  }
+
+  /**
+   * Validates the argument using the specified test. Allows you to provide a custom
+   * error message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param test the test
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @return this instance
+   * @throws X if the {@code double} value does not pass the test
+   */
+  public DoubleCheck<X> isNot(DoublePredicate test,
+      String message,
+      Object... msgArgs) throws X {
+    if (!test.test(arg)) {
+      return this;
+    }
+    throw createException(exc,
+        () -> getCustomMessage(message,
+            msgArgs,
+            test,
+            argName,
+            arg,
+            double.class,
+            null));
+  }
+
+  /**
+   * Validates the argument using the specified test. Allows you to throw a different
+   * type of exception for this particular test.
+   *
+   * @param test the test
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <X2> the type of the exception thrown if the {@code double} value does
+   *     not pass the test
+   * @return this instance
+   * @throws X2 if the {@code double} value does not pass the test
+   */
+  public <X2 extends Exception> DoubleCheck<X> is(DoublePredicate test,
+      Supplier<X2> exception) throws X2 {
+    if (test.test(arg)) {
+      return this;
+    }
+    throw exception.get();
+  }
+
+  /**
+   * Validates the argument using the specified test. Allows you to throw a different
+   * type of exception for this particular test.
+   *
+   * @param test the test
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <X2> the type of the exception thrown if the {@code double} value does
+   *     not pass the test
+   * @return this instance
+   * @throws X2 if the {@code double} value does not pass the test
+   */
+  public <X2 extends Exception> DoubleCheck<X> isNot(DoublePredicate test,
+      Supplier<X2> exception) throws X2 {
+    return is(test.negate(), exception);
+  }
+
+  /**
+   * Validates the argument using the specified test. While not strictly required,
+   * this method is meant to be passed a check from the {@link CommonChecks} class.
+   * When providing your own lambda or method reference, the error message wil not be
+   * very intelligible.
+   *
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @return this instance
+   * @throws X if the {@code double} value does not pass the test
+   */
+  public DoubleCheck<X> is(DoubleRelation test, double object) throws X {
+    if (test.exists(arg, object)) {
+      return this;
+    }
+    Function<MsgArgs, String> formatter = getDoubleRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(exc,
+          () -> getDefaultRelationMessage(argName, arg, object));
+    }
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            argName,
+            arg,
+            double.class,
+            object));
+  }
+
+  /**
+   * Validates the argument using the specified test. While not strictly required,
+   * this method is meant to be passed a check from the {@link CommonChecks} class.
+   * When providing your own lambda or method reference, the error message wil not be
+   * very intelligible.
+   *
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @return this instance
+   * @throws X if the {@code double} value does not pass the test
+   */
+  public DoubleCheck<X> isNot(DoubleRelation test, double object) throws X {
+    if (!test.exists(arg, object)) {
+      return this;
+    }
+    Function<MsgArgs, String> formatter = getDoubleRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(exc,
+          () -> getDefaultRelationMessage(argName, arg, object));
+    }
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            argName,
+            arg,
+            double.class,
+            object));
+  }
+
+  /**
+   * Validates the argument using the specified test. Allows you to provide a custom
+   * error message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @return this instance
+   * @throws X if the {@code double} value does not pass the test
+   */
+  public DoubleCheck<X> is(DoubleRelation test,
+      double object,
+      String message,
+      Object... msgArgs) throws X {
+    if (test.exists(arg, object)) {
+      return this;
+    }
+    throw createException(exc,
+        () -> getCustomMessage(message,
+            msgArgs,
+            test,
+            argName,
+            arg,
+            double.class,
+            object));
+  }
+
+  /**
+   * Validates the argument using the specified test. Allows you to provide a custom
+   * error message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @return this instance
+   * @throws X if the {@code double} value does not pass the test
+   */
+  public DoubleCheck<X> isNot(DoubleRelation test,
+      double object,
+      String message,
+      Object... msgArgs) throws X {
+    if (!test.exists(arg, object)) {
+      return this;
+    }
+    throw createException(exc,
+        () -> getCustomMessage(message,
+            msgArgs,
+            test,
+            argName,
+            arg,
+            double.class,
+            object));
+  }
+
+  /**
+   * Validates the argument using the specified test. Allows you to throw a different
+   * type of exception for this particular test.
+   *
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <X2> the type of the exception thrown if the {@code double} value does
+   *     not pass the test
+   * @return this instance
+   * @throws X2 if the {@code double} value does not pass the test
+   */
+  public <X2 extends Exception> DoubleCheck<X> is(DoubleRelation test,
+      double object,
+      Supplier<X2> exception) throws X2 {
+    if (test.exists(arg, object)) {
+      return this;
+    }
+    throw exception.get();
+  }
+
+  /**
+   * Validates the argument using the specified test. Allows you to throw a different
+   * type of exception for this particular test.
+   *
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <X2> the type of the exception thrown if the {@code double} value does
+   *     not pass the test
+   * @return this instance
+   * @throws X2 if the {@code double} value does not pass the test
+   */
+  public <X2 extends Exception> DoubleCheck<X> isNot(DoubleRelation test,
+      double object,
+      Supplier<X2> exception) throws X2 {
+    return is(test.negate(), object, exception);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param <P> the type of the extracted value
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public <P> DoubleCheck<X> has(DoubleFunction<P> property, Predicate<P> test) throws X {
+    return DoubleCheckHelper1.has(this, property, test);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param <P> the type of the extracted value
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public <P> DoubleCheck<X> notHas(DoubleFunction<P> property, Predicate<P> test)
+      throws X {
+    return DoubleCheckHelper1.notHas(this, property, test);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param name The name of the property being tested.
+   * @param test the test
+   * @param <P> the type of the extracted value
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public <P> DoubleCheck<X> has(DoubleFunction<P> property, String name, Predicate<P> test)
+      throws X {
+    return DoubleCheckHelper1.has(this, property, name, test);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param name The name of the property being tested.
+   * @param test the test
+   * @param <P> the type of the extracted value
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public <P> DoubleCheck<X> notHas(DoubleFunction<P> property,
+      String name,
+      Predicate<P> test) throws X {
+    return DoubleCheckHelper1.notHas(this, property, name, test);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to provide a custom error
+   * message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @param <P> the type of the extracted value
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public <P> DoubleCheck<X> has(
+      DoubleFunction<P> property, Predicate<P> test, String message, Object... msgArgs)
+      throws X {
+    return DoubleCheckHelper1.has(this, property, test, message, msgArgs);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to provide a custom error
+   * message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @param <P> the type of the extracted value
+   * @return this instance
+   * @throws X if the argument is invalid
+   */
+  public <P> DoubleCheck<X> notHas(
+      DoubleFunction<P> property, Predicate<P> test, String message, Object... msgArgs)
+      throws X {
+    return DoubleCheckHelper1.notHas(this, property, test, message, msgArgs);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to throw a different type of
+   * exception for this particular test.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <P> the type of the extracted value
+   * @param <X2> the type of the exception thrown if the argument is invalid
+   * @return this instance
+   * @throws X2 if the argument is invalid
+   */
+  public <P, X2 extends Exception> DoubleCheck<X> has(
+      DoubleFunction<P> property, Predicate<P> test, Supplier<X2> exception) throws X2 {
+    return DoubleCheckHelper1.has(this, property, test, exception);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to throw a different type of
+   * exception for this particular test.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <P> the type of the extracted value
+   * @param <X2> the type of the exception thrown if the argument is invalid
+   * @return this instance
+   * @throws X2 if the argument is invalid
+   */
+  public <P, X2 extends Exception> DoubleCheck<X> notHas(
+      DoubleFunction<P> property, Predicate<P> test, Supplier<X2> exception) throws X2 {
+    return DoubleCheckHelper1.has(this, property, test.negate(), exception);
+  }
+
+  //////////////////////////////////////////////////////////////////////////////////
+  //////////////////////////////////////////////////////////////////////////////////
+  //////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the value that the argument is tested against (called "the
+   *     object" of a relation)
+   * @param <P> the type of the extracted value
+   * @param <O> the type of the value being tested against
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public <P, O> DoubleCheck<X> has(DoubleFunction<P> property,
+      Relation<P, O> test,
+      O object) throws X {
+    return DoubleCheckHelper1.has(this, property, test, object);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the value that the argument is tested against (called "the
+   *     object" of a relation)
+   * @param <P> the type of the extracted value
+   * @param <O> the type of the value being tested against
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public <P, O> DoubleCheck<X> notHas(DoubleFunction<P> property,
+      Relation<P, O> test,
+      O object)
+      throws X {
+    return DoubleCheckHelper1.notHas(this, property, test, object);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param name The name of the property being tested.
+   * @param test the test
+   * @param object the value that the argument is tested against (called "the
+   *     object" of a relation)
+   * @param <P> the type of the extracted value
+   * @param <O> the type of the value being tested against
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public <P, O> DoubleCheck<X> has(DoubleFunction<P> property,
+      String name,
+      Relation<P, O> test,
+      O object)
+      throws X {
+    return DoubleCheckHelper1.has(this, property, name, test, object);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param name The name of the property being tested.
+   * @param test the test
+   * @param object the value that the argument is tested against (called "the
+   *     object" of a relation)
+   * @param <P> the type of the extracted value
+   * @param <O> the type of the value being tested against
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public <P, O> DoubleCheck<X> notHas(DoubleFunction<P> property,
+      String name,
+      Relation<P, O> test,
+      O object) throws X {
+    return DoubleCheckHelper1.notHas(this, property, name, test, object);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to provide a custom error
+   * message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the value that the argument is tested against (called "the
+   *     object" of a relation)
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @param <P> the type of the extracted value
+   * @param <O> the type of the value being tested against
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public <P, O> DoubleCheck<X> has(
+      DoubleFunction<P> property,
+      Relation<P, O> test,
+      O object,
+      String message,
+      Object... msgArgs)
+      throws X {
+    return DoubleCheckHelper1.has(this, property, test, object, message, msgArgs);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to provide a custom error
+   * message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the value that the argument is tested against (called "the
+   *     object" of a relation)
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @param <P> the type of the extracted value
+   * @param <O> the type of the value being tested against
+   * @return this instance
+   * @throws X if the argument is invalid
+   */
+  public <P, O> DoubleCheck<X> notHas(
+      DoubleFunction<P> property,
+      Relation<P, O> test,
+      O object,
+      String message,
+      Object... msgArgs)
+      throws X {
+    return DoubleCheckHelper1.notHas(this, property,
+        test,
+        object,
+        message,
+        msgArgs);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to throw a different type of
+   * exception for this particular test.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the value that the argument is tested against (called "the
+   *     object" of a relation)
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <P> the type of the extracted value
+   * @param <O> the type of the value being tested against
+   * @param <X2> the type of the exception thrown if the argument is invalid
+   * @return this instance
+   * @throws X2 if the argument is invalid
+   */
+  public <P, O, X2 extends Exception> DoubleCheck<X> has(
+      DoubleFunction<P> property, Relation<P, O> test, O object, Supplier<X2> exception)
+      throws X2 {
+    return DoubleCheckHelper1.has(this, property, test, object, exception);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to throw a different type of
+   * exception for this particular test.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the value that the argument is tested against (called "the
+   *     object" of a relation)
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <P> the type of the extracted value
+   * @param <O> the type of the value being tested against
+   * @param <X2> the type of the exception thrown if the argument is invalid
+   * @return this instance
+   * @throws X2 if the argument is invalid
+   */
+  public <P, O, X2 extends Exception> DoubleCheck<X> notHas(
+      DoubleFunction<P> property, Relation<P, O> test, O object, Supplier<X2> exception)
+      throws X2 {
+    return DoubleCheckHelper1.has(this, property,
+        test.negate(),
+        object,
+        exception);
+  }
+
+  //////////////////////////////////////////////////////////////////////////////////
+  //////////////////////////////////////////////////////////////////////////////////
+  //////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> has(DoubleUnaryOperator property, DoublePredicate test) throws X {
+    return DoubleCheckHelper2.has(this, property, test);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> notHas(DoubleUnaryOperator property, DoublePredicate test) throws X {
+    return DoubleCheckHelper2.notHas(this, property, test);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param name The name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> has(DoubleUnaryOperator property, String name, DoublePredicate test)
+      throws X {
+    return DoubleCheckHelper2.has(this, property, name, test);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param name The name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> notHas(DoubleUnaryOperator property,
+      String name,
+      DoublePredicate test) throws X {
+    return DoubleCheckHelper2.notHas(this, property, name, test);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to provide a custom error
+   * message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> has(
+      DoubleUnaryOperator property,
+      DoublePredicate test,
+      String message,
+      Object... msgArgs) throws X {
+    return DoubleCheckHelper2.has(this, property, test, message, msgArgs);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to provide a custom error
+   * message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> notHas(
+      DoubleUnaryOperator property,
+      DoublePredicate test,
+      String message,
+      Object... msgArgs) throws X {
+    return DoubleCheckHelper2.notHas(this, property, test, message, msgArgs);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to throw a different type of
+   * exception for this particular test.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <X2> the type of the exception thrown if the argument is invalid
+   * @return this instance
+   * @throws X2 if the argument is invalid
+   */
+  public <X2 extends Exception> DoubleCheck<X> has(
+      DoubleUnaryOperator property, DoublePredicate test, Supplier<X2> exception) throws
+      X2 {
+    return DoubleCheckHelper2.has(this, property, test, exception);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to throw a different type of
+   * exception for this particular test.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <X2> the type of the exception thrown if the argument is invalid
+   * @return this instance
+   * @throws X2 if the argument is invalid
+   */
+  public <X2 extends Exception> DoubleCheck<X> notHas(DoubleUnaryOperator property,
+      DoublePredicate test,
+      Supplier<X2> exception) throws X2 {
+    return DoubleCheckHelper2.has(this, property, test.negate(), exception);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> has(DoubleUnaryOperator property, DoubleRelation test, double object)
+      throws X {
+    return DoubleCheckHelper2.has(this, property, test, object);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> notHas(DoubleUnaryOperator property, DoubleRelation test, double object)
+      throws X {
+    return DoubleCheckHelper2.notHas(this, property, test, object);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param name The name of the property being tested
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> has(DoubleUnaryOperator property,
+      String name,
+      DoubleRelation test,
+      double object)
+      throws X {
+    return DoubleCheckHelper2.has(this, property, name, test, object);
+  }
+
+  /**
+   * Validates a property of the argument. While not strictly required, this method
+   * is meant to be passed a check from the {@link CommonChecks} class
+   * <i>and</i> a property extractor function from the {@link CommonProperties}
+   * class. When providing your own lambdas and/or method references, the error
+   * message wil not be very intelligible
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param name a descriptive name for the property being tested
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> notHas(DoubleUnaryOperator property,
+      String name,
+      DoubleRelation test,
+      double object)
+      throws X {
+    return DoubleCheckHelper2.notHas(this, property, name, test, object);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to provide a custom error
+   * message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> has(
+      DoubleUnaryOperator property,
+      DoubleRelation test,
+      double object,
+      String message,
+      Object... msgArgs)
+      throws X {
+    return DoubleCheckHelper2.has(this, property, test, object, message, msgArgs);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to provide a custom error
+   * message. See the paragraph on <a
+   * href="../../../module-summary.html#custom-error-messages">Custom Error
+   * Messages</a> in the module description for how to specify a custom message.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @param message the message pattern
+   * @param msgArgs the message arguments
+   * @return this instance
+   * @throws X if the property does not pass the test
+   */
+  public DoubleCheck<X> notHas(
+      DoubleUnaryOperator property,
+      DoubleRelation test,
+      double object,
+      String message,
+      Object... msgArgs)
+      throws X {
+    return DoubleCheckHelper2.notHas(this, property,
+        test,
+        object,
+        message,
+        msgArgs);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to throw a different type of
+   * exception for this particular test.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <X2> the type of the exception thrown if the property does not pass
+   *     the test
+   * @return this instance
+   * @throws X2 if the property does not pass the test
+   */
+  public <X2 extends Exception> DoubleCheck<X> has(
+      DoubleUnaryOperator property,
+      DoubleRelation test,
+      double object,
+      Supplier<X2> exception)
+      throws X2 {
+    return DoubleCheckHelper2.has(this, property, test, object, exception);
+  }
+
+  /**
+   * Validates a property of the argument. Allows you to throw a different type of
+   * exception for this particular test.
+   *
+   * @param property a function that exposes some property of the {@code double}
+   *     value (for example its absolute value or its square root), which is then
+   *     validated using the specified test
+   * @param test the test
+   * @param object the object of the {@code DoubleRelation}
+   * @param exception the supplier of the exception to be thrown if the argument
+   *     is invalid
+   * @param <X2> the type of the exception thrown if the property does not pass
+   *     the test
+   * @return this instance
+   * @throws X2 if the property does not pass the test
+   */
+  public <X2 extends Exception> DoubleCheck<X> notHas(
+      DoubleUnaryOperator property,
+      DoubleRelation test,
+      double object,
+      Supplier<X2> exception)
+      throws X2 {
+    return has(property, test.negate(), object, exception);
+  }
+
+  /**
+   * Returns a <i>new</i> {@code DoubleCheck} instance for validating the specified
+   * value. The new instance inherits the exception factory of this instance.
+   *
+   * @param arg the value to be validated.
+   * @return a new {@code DoubleCheck} instance for validating the specified value
+   */
+  public DoubleCheck<X> and(double arg) {
+    return new DoubleCheck<>(arg, DEF_ARG_NAME, exc);
+  }
+
+  /**
+   * Returns a <i>new</i> {@code DoubleCheck} instance for validating the specified
+   * value. The new instance inherits the exception factory of this instance.
+   *
+   * @param arg the value to be validated.
+   * @param argName the name of the argument, field or variable being validated
+   * @return a new {@code DoubleCheck} instance for validating the specified value
+   */
+  public DoubleCheck<X> and(double arg, String argName) {
+    return new DoubleCheck<>(arg, argName, exc);
+  }
+
+  String FQN(String name) {
+    if (argName == null) {
+      return name;
+    }
+    return argName + "." + name;
+  }
+
+}
@@ -0,0 +1,288 @@
+package org.klojang.check;
+
+import org.klojang.check.types.DoubleRelation;
+import org.klojang.check.x.msg.MsgArgs;
+
+import java.util.function.Function;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+import static org.klojang.check.CommonProperties.formatDoubleProperty;
+import static org.klojang.check.x.msg.CheckDefs.getDoublePredicateFormatter;
+import static org.klojang.check.x.msg.CheckDefs.getDoubleRelationFormatter;
+import static org.klojang.check.x.msg.MsgUtil.*;
+
+/**
+ * Helper class for DoubleCheck.
+ */
+final class DoubleCheckHelper2 {
+
+  private DoubleCheckHelper2() {
+    throw new UnsupportedOperationException();
+  }
+
+  static <X extends Exception> DoubleCheck<X> has(DoubleCheck<X> check,
+      DoubleUnaryOperator prop, DoublePredicate test) throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (test.test(val)) {
+      return check;
+    }
+    String name = formatDoubleProperty(check.arg,
+        check.argName,
+        prop,
+        DoubleUnaryOperator.class);
+    Function<MsgArgs, String> formatter = getDoublePredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc, () -> getDefaultPredicateMessage(name, val));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, double.class, null));
+  }
+
+  static <X extends Exception> DoubleCheck<X> notHas(DoubleCheck<X> check,
+      DoubleUnaryOperator prop, DoublePredicate test) throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (!test.test(val)) {
+      return check;
+    }
+    String name = formatDoubleProperty(check.arg,
+        check.argName,
+        prop,
+        DoubleUnaryOperator.class);
+    Function<MsgArgs, String> formatter = getDoublePredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(name, check.arg));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, double.class, null));
+  }
+
+  static <X extends Exception> DoubleCheck<X> has(DoubleCheck<X> check,
+      DoubleUnaryOperator prop, String name, DoublePredicate test) throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (test.test(val)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getDoublePredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), check.arg));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            check.FQN(name),
+            val,
+            double.class,
+            null));
+  }
+
+  static <X extends Exception> DoubleCheck<X> notHas(DoubleCheck<X> check,
+      DoubleUnaryOperator prop, String name, DoublePredicate test)
+      throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (!test.test(val)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getDoublePredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), check.arg));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            check.FQN(name),
+            val,
+            double.class,
+            null));
+  }
+
+  static <X extends Exception> DoubleCheck<X> has(DoubleCheck<X> check,
+      DoubleUnaryOperator prop,
+      DoublePredicate test,
+      String msg,
+      Object[] msgArgs) throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (test.test(val)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            double.class,
+            null));
+  }
+
+  static <X extends Exception> DoubleCheck<X> notHas(DoubleCheck<X> check,
+      DoubleUnaryOperator prop,
+      DoublePredicate test,
+      String msg,
+      Object[] msgArgs)
+      throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (!test.test(val)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            double.class,
+            null));
+  }
+
+  static <X extends Exception, X2 extends Exception> DoubleCheck<X> has(DoubleCheck<X> check,
+      DoubleUnaryOperator prop,
+      DoublePredicate test,
+      Supplier<X2> exc)
+      throws X2 {
+    if (test.test(prop.applyAsDouble(check.arg))) {
+      return check;
+    }
+    throw exc.get();
+  }
+
+  static <X extends Exception> DoubleCheck<X> has(DoubleCheck<X> check,
+      DoubleUnaryOperator prop, DoubleRelation test, double obj) throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (test.exists(val, obj)) {
+      return check;
+    }
+    String name = formatDoubleProperty(check.arg,
+        check.argName,
+        prop,
+        DoubleUnaryOperator.class);
+    Function<MsgArgs, String> formatter = getDoubleRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, double.class, obj));
+  }
+
+  static <X extends Exception> DoubleCheck<X> notHas(DoubleCheck<X> check,
+      DoubleUnaryOperator prop, DoubleRelation test, double obj) throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (!test.exists(val, obj)) {
+      return check;
+    }
+    String name = formatDoubleProperty(check.arg,
+        check.argName,
+        prop,
+        DoubleUnaryOperator.class);
+    Function<MsgArgs, String> formatter = getDoubleRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, double.class, obj));
+  }
+
+  static <X extends Exception> DoubleCheck<X> has(DoubleCheck<X> check,
+      DoubleUnaryOperator prop, String name, DoubleRelation test, double obj)
+      throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (test.exists(val, obj)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getDoubleRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), check.arg, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            check.FQN(name),
+            val,
+            double.class,
+            obj));
+  }
+
+  static <X extends Exception> DoubleCheck<X> notHas(DoubleCheck<X> check,
+      DoubleUnaryOperator prop, String name, DoubleRelation test, double obj)
+      throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (!test.exists(val, obj)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getDoubleRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            check.FQN(name),
+            val,
+            double.class,
+            obj));
+  }
+
+  static <X extends Exception> DoubleCheck<X> has(DoubleCheck<X> check,
+      DoubleUnaryOperator prop,
+      DoubleRelation test,
+      double obj,
+      String msg,
+      Object[] msgArgs)
+      throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (test.exists(val, obj)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            double.class,
+            obj));
+  }
+
+  static <X extends Exception> DoubleCheck<X> notHas(DoubleCheck<X> check,
+      DoubleUnaryOperator prop,
+      DoubleRelation test,
+      double obj,
+      String msg,
+      Object[] msgArgs)
+      throws X {
+    double val = prop.applyAsDouble(check.arg);
+    if (!test.exists(val, obj)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            double.class,
+            obj));
+  }
+
+  static <X extends Exception, X2 extends Exception> DoubleCheck<X> has(
+      DoubleCheck<X> check,
+      DoubleUnaryOperator prop, DoubleRelation test, double obj, Supplier<X2> exc) throws X2 {
+    if (test.exists(prop.applyAsDouble(check.arg), obj)) {
+      return check;
+    }
+    throw exc.get();
+  }
+
+}
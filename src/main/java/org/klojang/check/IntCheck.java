@@ -123,10 +123,16 @@ public final class IntCheck<X extends Exception> {
     }
     Function<MsgArgs, String> formatter = getIntPredicateFormatter(test);
     if (formatter == null) {
-      throw exc.apply(getDefaultPredicateMessage(argName, arg));
+      throw createException(exc, () -> getDefaultPredicateMessage(argName, arg));
     }
-    throw exc.apply(
-        getPrefabMessage(formatter, test, false, argName, arg, int.class, null));
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            argName,
+            arg,
+            int.class,
+            null));
   }
 
   /**
@@ -145,10 +151,16 @@ public final class IntCheck<X extends Exception> {
     }
     Function<MsgArgs, String> formatter = getIntPredicateFormatter(test);
     if (formatter == null) {
-      throw exc.apply(getDefaultPredicateMessage(argName, arg));
+      throw createException(exc, () -> getDefaultPredicateMessage(argName, arg));
     }
-    throw exc.apply(
-        getPrefabMessage(formatter, test, true, argName, arg, int.class, null));
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            argName,
+            arg,
+            int.class,
+            null));
   }
 
   /**
@@ -168,8 +180,8 @@ public final class IntCheck<X extends Exception> {
     if (test.test(arg)) {
       return this;
     }
-    throw exc.apply(
-        getCustomMessage(message,
+    throw createException(exc,
+        () -> getCustomMessage(message,
             msgArgs,
             test,
             argName,
@@ -197,8 +209,8 @@ public final class IntCheck<X extends Exception> {
     if (!test.test(arg)) {
       return this;
     }
-    throw exc.apply(
-        getCustomMessage(message,
+    throw createException(exc,
+        () -> getCustomMessage(message,
             msgArgs,
             test,
             argName,
@@ -264,10 +276,17 @@ public final class IntCheck<X extends Exception> {
     }
     Function<MsgArgs, String> formatter = getIntRelationFormatter(test);
     if (formatter == null) {
-      throw exc.apply(getDefaultRelationMessage(argName, arg, object));
+      throw createException(exc,
+          () -> getDefaultRelationMessage(argName, arg, object));
     }
-    throw exc.apply(
-        getPrefabMessage(formatter, test, false, argName, arg, int.class, object));
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            argName,
+            arg,
+            int.class,
+            object));
   }
 
   /**
@@ -287,10 +306,17 @@ public final class IntCheck<X extends Exception> {
     }
     Function<MsgArgs, String> formatter = getIntRelationFormatter(test);
     if (formatter == null) {
-      throw exc.apply(getDefaultRelationMessage(argName, arg, object));
+      throw createException(exc,
+          () -> getDefaultRelationMessage(argName, arg, object));
     }
-    throw exc.apply(
-        getPrefabMessage(formatter, test, true, argName, arg, int.class, object));
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            argName,
+            arg,
+            int.class,
+            object));
   }
 
   /**
@@ -313,8 +339,8 @@ public final class IntCheck<X extends Exception> {
     if (test.exists(arg, object)) {
       return this;
     }
-    throw exc.apply(
-        getCustomMessage(message,
+    throw createException(exc,
+        () -> getCustomMessage(message,
             msgArgs,
             test,
             argName,
@@ -344,8 +370,8 @@ public final class IntCheck<X extends Exception> {
     if (!test.exists(arg, object)) {
       return this;
     }
-    throw exc.apply(
-        getCustomMessage(message,
+    throw createException(exc,
+        () -> getCustomMessage(message,
             msgArgs,
             test,
             argName,
@@ -416,10 +442,17 @@ public final class IntCheck<X extends Exception> {
     }
     Function<MsgArgs, String> formatter = getIntObjRelationFormatter(test);
     if (formatter == null) {
-      throw exc.apply(getDefaultRelationMessage(argName, arg, object));
+      throw createException(exc,
+          () -> getDefaultRelationMessage(argName, arg, object));
     }
-    throw exc.apply(
-        getPrefabMessage(formatter, test, false, argName, arg, int.class, object));
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            argName,
+            arg,
+            int.class,
+            object));
   }
 
   /**
@@ -440,10 +473,17 @@ public final class IntCheck<X extends Exception> {
     }
     Function<MsgArgs, String> formatter = getIntObjRelationFormatter(test);
     if (formatter == null) {
-      throw exc.apply(getDefaultRelationMessage(argName, arg, object));
+      throw createException(exc,
+          () -> getDefaultRelationMessage(argName, arg, object));
     }
-    throw exc.apply(
-        getPrefabMessage(formatter, test, true, argName, arg, int.class, object));
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            argName,
+            arg,
+            int.class,
+            object));
   }
 
   /**
@@ -468,8 +508,8 @@ public final class IntCheck<X extends Exception> {
     if (test.exists(arg, object)) {
       return this;
     }
-    throw exc.apply(
-        getCustomMessage(message,
+    throw createException(exc,
+        () -> getCustomMessage(message,
             msgArgs,
             test,
             argName,
@@ -500,8 +540,8 @@ public final class IntCheck<X extends Exception> {
     if (!test.exists(arg, object)) {
       return this;
     }
-    throw exc.apply(
-        getCustomMessage(message,
+    throw createException(exc,
+        () -> getCustomMessage(message,
             msgArgs,
             test,
             argName,
@@ -577,7 +617,7 @@ public final class IntCheck<X extends Exception> {
    * @throws X if the property does not pass the test
    */
   public <P> IntCheck<X> has(IntFunction<P> property, Predicate<P> test) throws X {
-    return IntCheckHelper1.help(this).has(property, test);
+    return IntCheckHelper1.has(this, property, test);
   }
 
   /**
@@ -597,7 +637,7 @@ public final class IntCheck<X extends Exception> {
    */
   public <P> IntCheck<X> notHas(IntFunction<P> property, Predicate<P> test)
       throws X {
-    return IntCheckHelper1.help(this).notHas(property, test);
+    return IntCheckHelper1.notHas(this, property, test);
   }
 
   /**
@@ -618,7 +658,7 @@ public final class IntCheck<X extends Exception> {
    */
   public <P> IntCheck<X> has(IntFunction<P> property, String name, Predicate<P> test)
       throws X {
-    return IntCheckHelper1.help(this).has(property, name, test);
+    return IntCheckHelper1.has(this, property, name, test);
   }
 
   /**
@@ -640,7 +680,7 @@ public final class IntCheck<X extends Exception> {
   public <P> IntCheck<X> notHas(IntFunction<P> property,
       String name,
       Predicate<P> test) throws X {
-    return IntCheckHelper1.help(this).notHas(property, name, test);
+    return IntCheckHelper1.notHas(this, property, name, test);
   }
 
   /**
@@ -662,7 +702,7 @@ public final class IntCheck<X extends Exception> {
   public <P> IntCheck<X> has(
       IntFunction<P> property, Predicate<P> test, String message, Object... msgArgs)
       throws X {
-    return IntCheckHelper1.help(this).has(property, test, message, msgArgs);
+    return IntCheckHelper1.has(this, property, test, message, msgArgs);
   }
 
   /**
@@ -684,7 +724,7 @@ public final class IntCheck<X extends Exception> {
   public <P> IntCheck<X> notHas(
       IntFunction<P> property, Predicate<P> test, String message, Object... msgArgs)
       throws X {
-    return IntCheckHelper1.help(this).notHas(property, test, message, msgArgs);
+    return IntCheckHelper1.notHas(this, property, test, message, msgArgs);
   }
 
   /**
@@ -704,7 +744,7 @@ public final class IntCheck<X extends Exception> {
    */
   public <P, X2 extends Exception> IntCheck<X> has(
       IntFunction<P> property, Predicate<P> test, Supplier<X2> exception) throws X2 {
-    return IntCheckHelper1.help(this).has(property, test, exception);
+    return IntCheckHelper1.has(this, property, test, exception);
   }
 
   /**
@@ -724,7 +764,7 @@ public final class IntCheck<X extends Exception> {
    */
   public <P, X2 extends Exception> IntCheck<X> notHas(
       IntFunction<P> property, Predicate<P> test, Supplier<X2> exception) throws X2 {
-    return IntCheckHelper1.help(this).has(property, test.negate(), exception);
+    return IntCheckHelper1.has(this, property, test.negate(), exception);
   }
 
   //////////////////////////////////////////////////////////////////////////////////
@@ -752,7 +792,7 @@ public final class IntCheck<X extends Exception> {
   public <P, O> IntCheck<X> has(IntFunction<P> property,
       Relation<P, O> test,
       O object) throws X {
-    return IntCheckHelper1.help(this).has(property, test, object);
+    return IntCheckHelper1.has(this, property, test, object);
   }
 
   /**
@@ -777,7 +817,7 @@ public final class IntCheck<X extends Exception> {
       Relation<P, O> test,
       O object)
       throws X {
-    return IntCheckHelper1.help(this).notHas(property, test, object);
+    return IntCheckHelper1.notHas(this, property, test, object);
   }
 
   /**
@@ -804,7 +844,7 @@ public final class IntCheck<X extends Exception> {
       Relation<P, O> test,
       O object)
       throws X {
-    return IntCheckHelper1.help(this).has(property, name, test, object);
+    return IntCheckHelper1.has(this, property, name, test, object);
   }
 
   /**
@@ -830,7 +870,7 @@ public final class IntCheck<X extends Exception> {
       String name,
       Relation<P, O> test,
       O object) throws X {
-    return IntCheckHelper1.help(this).notHas(property, name, test, object);
+    return IntCheckHelper1.notHas(this, property, name, test, object);
   }
 
   /**
@@ -859,7 +899,7 @@ public final class IntCheck<X extends Exception> {
       String message,
       Object... msgArgs)
       throws X {
-    return IntCheckHelper1.help(this).has(property, test, object, message, msgArgs);
+    return IntCheckHelper1.has(this, property, test, object, message, msgArgs);
   }
 
   /**
@@ -888,7 +928,7 @@ public final class IntCheck<X extends Exception> {
       String message,
       Object... msgArgs)
       throws X {
-    return IntCheckHelper1.help(this).notHas(property,
+    return IntCheckHelper1.notHas(this, property,
         test,
         object,
         message,
@@ -916,7 +956,7 @@ public final class IntCheck<X extends Exception> {
   public <P, O, X2 extends Exception> IntCheck<X> has(
       IntFunction<P> property, Relation<P, O> test, O object, Supplier<X2> exception)
       throws X2 {
-    return IntCheckHelper1.help(this).has(property, test, object, exception);
+    return IntCheckHelper1.has(this, property, test, object, exception);
   }
 
   /**
@@ -940,7 +980,7 @@ public final class IntCheck<X extends Exception> {
   public <P, O, X2 extends Exception> IntCheck<X> notHas(
       IntFunction<P> property, Relation<P, O> test, O object, Supplier<X2> exception)
       throws X2 {
-    return IntCheckHelper1.help(this).has(property,
+    return IntCheckHelper1.has(this, property,
         test.negate(),
         object,
         exception);
@@ -965,7 +1005,7 @@ public final class IntCheck<X extends Exception> {
    * @throws X if the property does not pass the test
    */
   public IntCheck<X> has(IntUnaryOperator property, IntPredicate test) throws X {
-    return IntCheckHelper2.help(this).has(property, test);
+    return IntCheckHelper2.has(this, property, test);
   }
 
   /**
@@ -983,7 +1023,7 @@ public final class IntCheck<X extends Exception> {
    * @throws X if the property does not pass the test
    */
   public IntCheck<X> notHas(IntUnaryOperator property, IntPredicate test) throws X {
-    return IntCheckHelper2.help(this).notHas(property, test);
+    return IntCheckHelper2.notHas(this, property, test);
   }
 
   /**
@@ -1005,7 +1045,7 @@ public final class IntCheck<X extends Exception> {
    */
   public IntCheck<X> has(IntUnaryOperator property, String name, IntPredicate test)
       throws X {
-    return IntCheckHelper2.help(this).has(property, name, test);
+    return IntCheckHelper2.has(this, property, name, test);
   }
 
   /**
@@ -1028,7 +1068,7 @@ public final class IntCheck<X extends Exception> {
   public IntCheck<X> notHas(IntUnaryOperator property,
       String name,
       IntPredicate test) throws X {
-    return IntCheckHelper2.help(this).notHas(property, name, test);
+    return IntCheckHelper2.notHas(this, property, name, test);
   }
 
   /**
@@ -1051,7 +1091,7 @@ public final class IntCheck<X extends Exception> {
       IntPredicate test,
       String message,
       Object... msgArgs) throws X {
-    return IntCheckHelper2.help(this).has(property, test, message, msgArgs);
+    return IntCheckHelper2.has(this, property, test, message, msgArgs);
   }
 
   /**
@@ -1074,7 +1114,7 @@ public final class IntCheck<X extends Exception> {
       IntPredicate test,
       String message,
       Object... msgArgs) throws X {
-    return IntCheckHelper2.help(this).notHas(property, test, message, msgArgs);
+    return IntCheckHelper2.notHas(this, property, test, message, msgArgs);
   }
 
   /**
@@ -1094,7 +1134,7 @@ public final class IntCheck<X extends Exception> {
   public <X2 extends Exception> IntCheck<X> has(
       IntUnaryOperator property, IntPredicate test, Supplier<X2> exception) throws
       X2 {
-    return IntCheckHelper2.help(this).has(property, test, exception);
+    return IntCheckHelper2.has(this, property, test, exception);
   }
 
   /**
@@ -1114,7 +1154,7 @@ public final class IntCheck<X extends Exception> {
   public <X2 extends Exception> IntCheck<X> notHas(IntUnaryOperator property,
       IntPredicate test,
       Supplier<X2> exception) throws X2 {
-    return IntCheckHelper2.help(this).has(property, test.negate(), exception);
+    return IntCheckHelper2.has(this, property, test.negate(), exception);
   }
 
   /**
@@ -1134,7 +1174,7 @@ public final class IntCheck<X extends Exception> {
    */
   public IntCheck<X> has(IntUnaryOperator property, IntRelation test, int object)
       throws X {
-    return IntCheckHelper2.help(this).has(property, test, object);
+    return IntCheckHelper2.has(this, property, test, object);
   }
 
   /**
@@ -1154,7 +1194,7 @@ public final class IntCheck<X extends Exception> {
    */
   public IntCheck<X> notHas(IntUnaryOperator property, IntRelation test, int object)
       throws X {
-    return IntCheckHelper2.help(this).notHas(property, test, object);
+    return IntCheckHelper2.notHas(this, property, test, object);
   }
 
   /**
@@ -1178,7 +1218,7 @@ public final class IntCheck<X extends Exception> {
       IntRelation test,
       int object)
       throws X {
-    return IntCheckHelper2.help(this).has(property, name, test, object);
+    return IntCheckHelper2.has(this, property, name, test, object);
   }
 
   /**
@@ -1202,7 +1242,7 @@ public final class IntCheck<X extends Exception> {
       IntRelation test,
       int object)
       throws X {
-    return IntCheckHelper2.help(this).notHas(property, name, test, object);
+    return IntCheckHelper2.notHas(this, property, name, test, object);
   }
 
   /**
@@ -1228,7 +1268,7 @@ public final class IntCheck<X extends Exception> {
       String message,
       Object... msgArgs)
       throws X {
-    return IntCheckHelper2.help(this).has(property, test, object, message, msgArgs);
+    return IntCheckHelper2.has(this, property, test, object, message, msgArgs);
   }
 
   /**
@@ -1254,7 +1294,7 @@ public final class IntCheck<X extends Exception> {
       String message,
       Object... msgArgs)
       throws X {
-    return IntCheckHelper2.help(this).notHas(property,
+    return IntCheckHelper2.notHas(this, property,
         test,
         object,
         message,
@@ -1283,7 +1323,7 @@ public final class IntCheck<X extends Exception> {
       int object,
       Supplier<X2> exception)
       throws X2 {
-    return IntCheckHelper2.help(this).has(property, test, object, exception);
+    return IntCheckHelper2.has(this, property, test, object, exception);
   }
 
   /**
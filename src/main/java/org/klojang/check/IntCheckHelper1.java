@@ -13,20 +13,14 @@ import static org.klojang.check.x.msg.CheckDefs.getPredicateFormatter;
 import static org.klojang.check.x.msg.CheckDefs.getRelationFormatter;
 import static org.klojang.check.x.msg.MsgUtil.*;
 
-final class IntCheckHelper1<X extends Exception> {
+final class IntCheckHelper1 {
 
-  static <X extends Exception> IntCheckHelper1<X> help(IntCheck<X> check) {
-    return new IntCheckHelper1<>(check);
+  private IntCheckHelper1() {
+    throw new UnsupportedOperationException();
   }
 
-  private final IntCheck<X> check;
-
-  private IntCheckHelper1(IntCheck<X> check) {
-    this.check = check;
-  }
-
-  <P> IntCheck<X> has(IntFunction<P> prop, Predicate<P> test) throws X {
-    IntCheck<X> check = this.check;
+  static <X extends Exception, P> IntCheck<X> has(IntCheck<X> check,
+      IntFunction<P> prop, Predicate<P> test) throws X {
     P val = prop.apply(check.arg);
     if (test.test(val)) {
       return check;
@@ -34,14 +28,14 @@ final class IntCheckHelper1<X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, IntFunction.class);
     Function<MsgArgs, String> formatter = getPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(name, val));
+      throw createException(check.exc, () -> getDefaultPredicateMessage(name, val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, name, val, null, null));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, null, null));
   }
 
-  <P> IntCheck<X> notHas(IntFunction<P> prop, Predicate<P> test) throws X {
-    IntCheck<X> check = this.check;
+  static <X extends Exception, P> IntCheck<X> notHas(IntCheck<X> check,
+      IntFunction<P> prop, Predicate<P> test) throws X {
     P val = prop.apply(check.arg);
     if (!test.test(val)) {
       return check;
@@ -49,53 +43,67 @@ final class IntCheckHelper1<X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, IntFunction.class);
     Function<MsgArgs, String> formatter = getPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(name, val));
+      throw createException(check.exc, () -> getDefaultPredicateMessage(name, val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, true, name, val, null, null));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, null, null));
   }
 
-  <P> IntCheck<X> has(IntFunction<P> prop, String name, Predicate<P> test) throws X {
-    IntCheck<X> check = this.check;
+  static <X extends Exception, P> IntCheck<X> has(IntCheck<X> check,
+      IntFunction<P> prop, String name, Predicate<P> test) throws X {
     P val = prop.apply(check.arg);
     if (test.test(val)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(check.FQN(name), val));
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, check.FQN(name), val, null, null));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            check.FQN(name),
+            val,
+            null,
+            null));
   }
 
-  <P> IntCheck<X> notHas(IntFunction<P> prop, String name, Predicate<P> test)
+  static <X extends Exception, P> IntCheck<X> notHas(IntCheck<X> check,
+      IntFunction<P> prop, String name, Predicate<P> test)
       throws X {
-    IntCheck<X> check = this.check;
     P val = prop.apply(check.arg);
     if (!test.test(val)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(check.FQN(name), val));
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, true, check.FQN(name), val, null, null));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            check.FQN(name),
+            val,
+            null,
+            null));
   }
 
-  <P> IntCheck<X> has(IntFunction<P> prop,
+  static <X extends Exception, P> IntCheck<X> has(IntCheck<X> check,
+      IntFunction<P> prop,
       Predicate<P> test,
       String msg,
       Object[] msgArgs)
       throws X {
-    IntCheck<X> check = this.check;
     P val = prop.apply(check.arg);
     if (test.test(val)) {
       return check;
     }
-    throw check.exc.apply(
-        getCustomMessage(msg,
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
             msgArgs,
             test,
             check.argName,
@@ -104,18 +112,18 @@ final class IntCheckHelper1<X extends Exception> {
             null));
   }
 
-  <P> IntCheck<X> notHas(IntFunction<P> prop,
+  static <X extends Exception, P> IntCheck<X> notHas(IntCheck<X> check,
+      IntFunction<P> prop,
       Predicate<P> test,
       String msg,
       Object[] msgArgs)
       throws X {
-    IntCheck<X> check = this.check;
     P val = prop.apply(check.arg);
     if (!test.test(val)) {
       return check;
     }
-    throw check.exc.apply(
-        getCustomMessage(msg,
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
             msgArgs,
             test,
             check.argName,
@@ -124,9 +132,9 @@ final class IntCheckHelper1<X extends Exception> {
             null));
   }
 
-  <P, X2 extends Exception> IntCheck<X> has(
+  static <X extends Exception, P, X2 extends Exception> IntCheck<X> has(
+      IntCheck<X> check,
       IntFunction<P> prop, Predicate<P> test, Supplier<X2> exception) throws X2 {
-    IntCheck<X> check = this.check;
     P val = prop.apply(check.arg);
     if (test.test(val)) {
       return check;
@@ -138,8 +146,8 @@ final class IntCheckHelper1<X extends Exception> {
   //////////////////////////////////////////////////////////////////////////////////
   //////////////////////////////////////////////////////////////////////////////////
 
-  <P, O> IntCheck<X> has(IntFunction<P> prop, Relation<P, O> test, O obj) throws X {
-    IntCheck<X> check = this.check;
+  static <X extends Exception, P, O> IntCheck<X> has(IntCheck<X> check,
+      IntFunction<P> prop, Relation<P, O> test, O obj) throws X {
     P val = prop.apply(check.arg);
     if (test.exists(val, obj)) {
       return check;
@@ -147,15 +155,16 @@ final class IntCheckHelper1<X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, IntFunction.class);
     Function<MsgArgs, String> formatter = getRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(name, val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, name, val, null, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, null, obj));
   }
 
-  <P, O> IntCheck<X> notHas(IntFunction<P> prop, Relation<P, O> test, O obj)
+  static <X extends Exception, P, O> IntCheck<X> notHas(IntCheck<X> check,
+      IntFunction<P> prop, Relation<P, O> test, O obj)
       throws X {
-    IntCheck<X> check = this.check;
     P val = prop.apply(check.arg);
     if (!test.exists(val, obj)) {
       return check;
@@ -163,59 +172,74 @@ final class IntCheckHelper1<X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, IntFunction.class);
     Function<MsgArgs, String> formatter = getRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(name, val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, true, name, val, null, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, null, obj));
   }
 
-  <P, O> IntCheck<X> has(IntFunction<P> prop,
+  static <X extends Exception, P, O> IntCheck<X> has(IntCheck<X> check,
+      IntFunction<P> prop,
       String name,
       Relation<P, O> test,
       O obj) throws X {
-    IntCheck<X> check = this.check;
     P val = prop.apply(check.arg);
     if (test.exists(val, obj)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(check.FQN(name), val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, check.FQN(name), val, null, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            check.FQN(name),
+            val,
+            null,
+            obj));
   }
 
-  <P, O> IntCheck<X> notHas(IntFunction<P> prop,
+  static <X extends Exception, P, O> IntCheck<X> notHas(IntCheck<X> check,
+      IntFunction<P> prop,
       String name,
       Relation<P, O> test,
       O obj) throws X {
-    IntCheck<X> check = this.check;
     P val = prop.apply(check.arg);
     if (!test.exists(val, obj)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(check.FQN(name), val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, check.FQN(name), val, null, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            check.FQN(name),
+            val,
+            null,
+            obj));
   }
 
-  <P, O> IntCheck<X> has(IntFunction<P> prop,
+  static <X extends Exception, P, O> IntCheck<X> has(IntCheck<X> check,
+      IntFunction<P> prop,
       Relation<P, O> test,
       O obj,
       String msg,
       Object[] msgArgs)
       throws X {
-    IntCheck<X> check = this.check;
     P val = prop.apply(check.arg);
     if (test.exists(val, obj)) {
       return check;
     }
-    throw check.exc.apply(
-        getCustomMessage(msg,
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
             msgArgs,
             test,
             check.argName,
@@ -224,19 +248,19 @@ final class IntCheckHelper1<X extends Exception> {
             obj));
   }
 
-  <P, O> IntCheck<X> notHas(IntFunction<P> prop,
+  static <X extends Exception, P, O> IntCheck<X> notHas(IntCheck<X> check,
+      IntFunction<P> prop,
       Relation<P, O> test,
       O obj,
       String msg,
       Object[] msgArgs)
       throws X {
-    IntCheck<X> check = this.check;
     P val = prop.apply(check.arg);
     if (!test.exists(val, obj)) {
       return check;
     }
-    throw check.exc.apply(
-        getCustomMessage(msg,
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
             msgArgs,
             test,
             check.argName,
@@ -245,10 +269,10 @@ final class IntCheckHelper1<X extends Exception> {
             null));
   }
 
-  <P, O, X2 extends Exception> IntCheck<X> has(
+  static <X extends Exception, P, O, X2 extends Exception> IntCheck<X> has(
+      IntCheck<X> check,
       IntFunction<P> prop, Relation<P, O> test, O obj, Supplier<X2> exception)
       throws X2 {
-    IntCheck<X> check = this.check;
     P val = prop.apply(check.arg);
     if (test.exists(val, obj)) {
       return check;
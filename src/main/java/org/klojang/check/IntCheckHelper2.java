@@ -16,20 +16,14 @@ import static org.klojang.check.x.msg.MsgUtil.*;
 /**
  * Helper class for IntCheck.
  */
-final class IntCheckHelper2<X extends Exception> {
+final class IntCheckHelper2 {
 
-  static <X extends Exception> IntCheckHelper2<X> help(IntCheck<X> check) {
-    return new IntCheckHelper2<>(check);
+  private IntCheckHelper2() {
+    throw new UnsupportedOperationException();
   }
 
-  private final IntCheck<X> check;
-
-  private IntCheckHelper2(IntCheck<X> check) {
-    this.check = check;
-  }
-
-  IntCheck<X> has(IntUnaryOperator prop, IntPredicate test) throws X {
-    IntCheck<X> check = this.check;
+  static <X extends Exception> IntCheck<X> has(IntCheck<X> check,
+      IntUnaryOperator prop, IntPredicate test) throws X {
     int val = prop.applyAsInt(check.arg);
     if (test.test(val)) {
       return check;
@@ -40,14 +34,14 @@ final class IntCheckHelper2<X extends Exception> {
         IntUnaryOperator.class);
     Function<MsgArgs, String> formatter = getIntPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(name, val));
+      throw createException(check.exc, () -> getDefaultPredicateMessage(name, val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, name, val, int.class, null));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, int.class, null));
   }
 
-  IntCheck<X> notHas(IntUnaryOperator prop, IntPredicate test) throws X {
-    IntCheck<X> check = this.check;
+  static <X extends Exception> IntCheck<X> notHas(IntCheck<X> check,
+      IntUnaryOperator prop, IntPredicate test) throws X {
     int val = prop.applyAsInt(check.arg);
     if (!test.test(val)) {
       return check;
@@ -58,24 +52,26 @@ final class IntCheckHelper2<X extends Exception> {
         IntUnaryOperator.class);
     Function<MsgArgs, String> formatter = getIntPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(name, check.arg));
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(name, check.arg));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, true, name, val, int.class, null));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, int.class, null));
   }
 
-  IntCheck<X> has(IntUnaryOperator prop, String name, IntPredicate test) throws X {
-    IntCheck<X> check = this.check;
+  static <X extends Exception> IntCheck<X> has(IntCheck<X> check,
+      IntUnaryOperator prop, String name, IntPredicate test) throws X {
     int val = prop.applyAsInt(check.arg);
     if (test.test(val)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getIntPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(check.FQN(name), check.arg));
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), check.arg));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             false,
             check.FQN(name),
@@ -84,19 +80,20 @@ final class IntCheckHelper2<X extends Exception> {
             null));
   }
 
-  IntCheck<X> notHas(IntUnaryOperator prop, String name, IntPredicate test)
+  static <X extends Exception> IntCheck<X> notHas(IntCheck<X> check,
+      IntUnaryOperator prop, String name, IntPredicate test)
       throws X {
-    IntCheck<X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.test(val)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getIntPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(check.FQN(name), check.arg));
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), check.arg));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             true,
             check.FQN(name),
@@ -105,17 +102,17 @@ final class IntCheckHelper2<X extends Exception> {
             null));
   }
 
-  IntCheck<X> has(IntUnaryOperator prop,
+  static <X extends Exception> IntCheck<X> has(IntCheck<X> check,
+      IntUnaryOperator prop,
       IntPredicate test,
       String msg,
       Object[] msgArgs) throws X {
-    IntCheck<X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (test.test(val)) {
       return check;
     }
-    throw check.exc.apply(
-        getCustomMessage(msg,
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
             msgArgs,
             test,
             check.argName,
@@ -124,18 +121,18 @@ final class IntCheckHelper2<X extends Exception> {
             null));
   }
 
-  IntCheck<X> notHas(IntUnaryOperator prop,
+  static <X extends Exception> IntCheck<X> notHas(IntCheck<X> check,
+      IntUnaryOperator prop,
       IntPredicate test,
       String msg,
       Object[] msgArgs)
       throws X {
-    IntCheck<X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.test(val)) {
       return check;
     }
-    throw check.exc.apply(
-        getCustomMessage(msg,
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
             msgArgs,
             test,
             check.argName,
@@ -144,19 +141,19 @@ final class IntCheckHelper2<X extends Exception> {
             null));
   }
 
-  <X2 extends Exception> IntCheck<X> has(IntUnaryOperator prop,
+  static <X extends Exception, X2 extends Exception> IntCheck<X> has(IntCheck<X> check,
+      IntUnaryOperator prop,
       IntPredicate test,
       Supplier<X2> exc)
       throws X2 {
-    IntCheck<X> check = this.check;
     if (test.test(prop.applyAsInt(check.arg))) {
       return check;
     }
     throw exc.get();
   }
 
-  IntCheck<X> has(IntUnaryOperator prop, IntRelation test, int obj) throws X {
-    IntCheck<X> check = this.check;
+  static <X extends Exception> IntCheck<X> has(IntCheck<X> check,
+      IntUnaryOperator prop, IntRelation test, int obj) throws X {
     int val = prop.applyAsInt(check.arg);
     if (test.exists(val, obj)) {
       return check;
@@ -167,14 +164,15 @@ final class IntCheckHelper2<X extends Exception> {
         IntUnaryOperator.class);
     Function<MsgArgs, String> formatter = getIntRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(name, val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, name, val, int.class, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, int.class, obj));
   }
 
-  IntCheck<X> notHas(IntUnaryOperator prop, IntRelation test, int obj) throws X {
-    IntCheck<X> check = this.check;
+  static <X extends Exception> IntCheck<X> notHas(IntCheck<X> check,
+      IntUnaryOperator prop, IntRelation test, int obj) throws X {
     int val = prop.applyAsInt(check.arg);
     if (!test.exists(val, obj)) {
       return check;
@@ -185,25 +183,27 @@ final class IntCheckHelper2<X extends Exception> {
         IntUnaryOperator.class);
     Function<MsgArgs, String> formatter = getIntRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(name, val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, true, name, val, int.class, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, int.class, obj));
   }
 
-  IntCheck<X> has(IntUnaryOperator prop, String name, IntRelation test, int obj)
+  static <X extends Exception> IntCheck<X> has(IntCheck<X> check,
+      IntUnaryOperator prop, String name, IntRelation test, int obj)
       throws X {
-    IntCheck<X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (test.exists(val, obj)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getIntRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(check.FQN(name), check.arg, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), check.arg, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             false,
             check.FQN(name),
@@ -212,19 +212,20 @@ final class IntCheckHelper2<X extends Exception> {
             obj));
   }
 
-  IntCheck<X> notHas(IntUnaryOperator prop, String name, IntRelation test, int obj)
+  static <X extends Exception> IntCheck<X> notHas(IntCheck<X> check,
+      IntUnaryOperator prop, String name, IntRelation test, int obj)
       throws X {
-    IntCheck<X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.exists(val, obj)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getIntRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(check.FQN(name), val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             true,
             check.FQN(name),
@@ -233,19 +234,19 @@ final class IntCheckHelper2<X extends Exception> {
             obj));
   }
 
-  IntCheck<X> has(IntUnaryOperator prop,
+  static <X extends Exception> IntCheck<X> has(IntCheck<X> check,
+      IntUnaryOperator prop,
       IntRelation test,
       int obj,
       String msg,
       Object[] msgArgs)
       throws X {
-    IntCheck<X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (test.exists(val, obj)) {
       return check;
     }
-    throw check.exc.apply(
-        getCustomMessage(msg,
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
             msgArgs,
             test,
             check.argName,
@@ -254,19 +255,19 @@ final class IntCheckHelper2<X extends Exception> {
             obj));
   }
 
-  IntCheck<X> notHas(IntUnaryOperator prop,
+  static <X extends Exception> IntCheck<X> notHas(IntCheck<X> check,
+      IntUnaryOperator prop,
       IntRelation test,
       int obj,
       String msg,
       Object[] msgArgs)
       throws X {
-    IntCheck<X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.exists(val, obj)) {
       return check;
     }
-    throw check.exc.apply(
-        getCustomMessage(msg,
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
             msgArgs,
             test,
             check.argName,
@@ -275,9 +276,9 @@ final class IntCheckHelper2<X extends Exception> {
             obj));
   }
 
-  <X2 extends Exception> IntCheck<X> has(
+  static <X extends Exception, X2 extends Exception> IntCheck<X> has(
+      IntCheck<X> check,
       IntUnaryOperator prop, IntRelation test, int obj, Supplier<X2> exc) throws X2 {
-    IntCheck<X> check = this.check;
     if (test.exists(prop.applyAsInt(check.arg), obj)) {
       return check;
     }
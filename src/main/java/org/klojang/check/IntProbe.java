@@ -0,0 +1,322 @@
+package org.klojang.check;
+
+import org.klojang.check.types.IntObjRelation;
+import org.klojang.check.types.IntRelation;
+import org.klojang.check.x.msg.MsgArgs;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import static org.klojang.check.x.msg.CheckDefs.*;
+
+/**
+ * A non-throwing counterpart of {@link IntCheck}. Instances are obtained via
+ * {@link Check#test(int) Check.test()}. See {@link ObjectProbe}.
+ *
+ * @author Ayco Holleman
+ */
+public final class IntProbe {
+
+  final int arg;
+  final String argName;
+
+  // null unless obtained via a ViolationCollector
+  private final ViolationCollector collector;
+
+  private Violation violation;
+  // whether subsequent tests must be skipped
+  private boolean halted;
+
+  IntProbe(int arg, String argName) {
+    this(arg, argName, null);
+  }
+
+  IntProbe(int arg, String argName, ViolationCollector collector) {
+    this.arg = arg;
+    this.argName = argName;
+    this.collector = collector;
+  }
+
+  /**
+   * Returns {@code true} if the value passed all tests, {@code false} otherwise.
+   *
+   * @return {@code true} if the value passed all tests, {@code false} otherwise
+   */
+  public boolean valid() {
+    return violation == null;
+  }
+
+  /**
+   * Returns the {@code Violation} describing the first test that the value failed,
+   * or an empty {@code Optional} if the value passed all tests.
+   *
+   * @return the {@code Violation} describing the first test that the value failed
+   */
+  public Optional<Violation> violation() {
+    return Optional.ofNullable(violation);
+  }
+
+  /**
+   * Tests the value using the specified test.
+   *
+   * @param test the test
+   * @return this instance
+   */
+  public IntProbe is(IntPredicate test) {
+    if (!halted && !test.test(arg)) {
+      fail(true, violation(getIntPredicateFormatter(test),
+          test,
+          false,
+          false,
+          null));
+    }
+    return this;
+  }
+
+  /**
+   * Tests the value using the specified test. The value is valid if it does
+   * <i>not</i> pass the test.
+   *
+   * @param test the test
+   * @return this instance
+   */
+  public IntProbe isNot(IntPredicate test) {
+    if (!halted && test.test(arg)) {
+      fail(true, violation(getIntPredicateFormatter(test), test, true, false, null));
+    }
+    return this;
+  }
+
+  /**
+   * Tests the value using the specified test.
+   *
+   * @param test the test
+   * @param object the object of the {@code IntRelation}
+   * @return this instance
+   */
+  public IntProbe is(IntRelation test, int object) {
+    if (!halted && !test.exists(arg, object)) {
+      fail(true, violation(getIntRelationFormatter(test),
+          test,
+          false,
+          true,
+          object));
+    }
+    return this;
+  }
+
+  /**
+   * Tests the value using the specified test. The value is valid if it does
+   * <i>not</i> pass the test.
+   *
+   * @param test the test
+   * @param object the object of the {@code IntRelation}
+   * @return this instance
+   */
+  public IntProbe isNot(IntRelation test, int object) {
+    if (!halted && test.exists(arg, object)) {
+      fail(true, violation(getIntRelationFormatter(test), test, true, true, object));
+    }
+    return this;
+  }
+
+  /**
+   * Tests the value using the specified test.
+   *
+   * @param test the test
+   * @param object the object of the {@code IntObjRelation}
+   * @param <O> the type of the object of the {@code IntObjRelation}
+   * @return this instance
+   */
+  public <O> IntProbe is(IntObjRelation<O> test, O object) {
+    if (!halted && !test.exists(arg, object)) {
+      fail(true, violation(getIntObjRelationFormatter(test),
+          test,
+          false,
+          true,
+          object));
+    }
+    return this;
+  }
+
+  /**
+   * Tests the value using the specified test. The value is valid if it does
+   * <i>not</i> pass the test.
+   *
+   * @param test the test
+   * @param object the object of the {@code IntObjRelation}
+   * @param <O> the type of the object of the {@code IntObjRelation}
+   * @return this instance
+   */
+  public <O> IntProbe isNot(IntObjRelation<O> test, O object) {
+    if (!halted && test.exists(arg, object)) {
+      fail(true, violation(getIntObjRelationFormatter(test),
+          test,
+          true,
+          true,
+          object));
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value.
+   *
+   * @param property a function that exposes some property of the {@code int}
+   *     value, which is then tested using the specified test
+   * @param test the test
+   * @return this instance
+   */
+  public IntProbe has(IntUnaryOperator property, IntPredicate test) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (!test.test(val)) {
+        fail(false, propertyViolation(getIntPredicateFormatter(test),
+            test,
+            false,
+            false,
+            property,
+            val,
+            null));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value. The value is valid if the property does
+   * <i>not</i> pass the test.
+   *
+   * @param property a function that exposes some property of the {@code int}
+   *     value, which is then tested using the specified test
+   * @param test the test
+   * @return this instance
+   */
+  public IntProbe notHas(IntUnaryOperator property, IntPredicate test) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (test.test(val)) {
+        fail(false, propertyViolation(getIntPredicateFormatter(test),
+            test,
+            true,
+            false,
+            property,
+            val,
+            null));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value.
+   *
+   * @param property a function that exposes some property of the {@code int}
+   *     value, which is then tested using the specified test
+   * @param test the test
+   * @param object the object of the {@code IntRelation}
+   * @return this instance
+   */
+  public IntProbe has(IntUnaryOperator property, IntRelation test, int object) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (!test.exists(val, object)) {
+        fail(false, propertyViolation(getIntRelationFormatter(test),
+            test,
+            false,
+            true,
+            property,
+            val,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value. The value is valid if the property does
+   * <i>not</i> pass the test.
+   *
+   * @param property a function that exposes some property of the {@code int}
+   *     value, which is then tested using the specified test
+   * @param test the test
+   * @param object the object of the {@code IntRelation}
+   * @return this instance
+   */
+  public IntProbe notHas(IntUnaryOperator property, IntRelation test, int object) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (test.exists(val, object)) {
+        fail(false, propertyViolation(getIntRelationFormatter(test),
+            test,
+            true,
+            true,
+            property,
+            val,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /*
+   * Records the violation. A stand-alone probe halts at the first violation. A
+   * probe obtained from a ViolationCollector only halts if the value itself was
+   * found to be invalid, because subsequent tests are likely to depend on it. If
+   * a property was found to be invalid, the remaining tests are still executed.
+   */
+  private void fail(boolean fatal, Violation v) {
+    if (violation == null) {
+      violation = v;
+    }
+    if (collector != null) {
+      collector.add(v);
+    }
+    if (fatal || collector == null) {
+      halted = true;
+    }
+  }
+
+  private Violation violation(Function<MsgArgs, String> formatter,
+      Object test,
+      boolean negated,
+      boolean relation,
+      Object object) {
+    return new Violation(formatter,
+        test,
+        negated,
+        relation,
+        arg,
+        argName,
+        argName,
+        null,
+        null,
+        arg,
+        int.class,
+        object);
+  }
+
+  private Violation propertyViolation(Function<MsgArgs, String> formatter,
+      Object test,
+      boolean negated,
+      boolean relation,
+      IntUnaryOperator property,
+      int value,
+      Object object) {
+    return new Violation(formatter,
+        test,
+        negated,
+        relation,
+        arg,
+        argName,
+        argName,
+        property,
+        IntUnaryOperator.class,
+        value,
+        int.class,
+        object);
+  }
+
+}
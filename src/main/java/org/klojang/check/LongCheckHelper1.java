@@ -0,0 +1,283 @@
+package org.klojang.check;
+
+import org.klojang.check.types.Relation;
+import org.klojang.check.x.msg.MsgArgs;
+
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.klojang.check.CommonProperties.formatProperty;
+import static org.klojang.check.x.msg.CheckDefs.getPredicateFormatter;
+import static org.klojang.check.x.msg.CheckDefs.getRelationFormatter;
+import static org.klojang.check.x.msg.MsgUtil.*;
+
+final class LongCheckHelper1 {
+
+  private LongCheckHelper1() {
+    throw new UnsupportedOperationException();
+  }
+
+  static <X extends Exception, P> LongCheck<X> has(LongCheck<X> check,
+      LongFunction<P> prop, Predicate<P> test) throws X {
+    P val = prop.apply(check.arg);
+    if (test.test(val)) {
+      return check;
+    }
+    String name = formatProperty(check.arg, check.argName, prop, LongFunction.class);
+    Function<MsgArgs, String> formatter = getPredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc, () -> getDefaultPredicateMessage(name, val));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, null, null));
+  }
+
+  static <X extends Exception, P> LongCheck<X> notHas(LongCheck<X> check,
+      LongFunction<P> prop, Predicate<P> test) throws X {
+    P val = prop.apply(check.arg);
+    if (!test.test(val)) {
+      return check;
+    }
+    String name = formatProperty(check.arg, check.argName, prop, LongFunction.class);
+    Function<MsgArgs, String> formatter = getPredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc, () -> getDefaultPredicateMessage(name, val));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, null, null));
+  }
+
+  static <X extends Exception, P> LongCheck<X> has(LongCheck<X> check,
+      LongFunction<P> prop, String name, Predicate<P> test) throws X {
+    P val = prop.apply(check.arg);
+    if (test.test(val)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getPredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), val));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            check.FQN(name),
+            val,
+            null,
+            null));
+  }
+
+  static <X extends Exception, P> LongCheck<X> notHas(LongCheck<X> check,
+      LongFunction<P> prop, String name, Predicate<P> test)
+      throws X {
+    P val = prop.apply(check.arg);
+    if (!test.test(val)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getPredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), val));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            check.FQN(name),
+            val,
+            null,
+            null));
+  }
+
+  static <X extends Exception, P> LongCheck<X> has(LongCheck<X> check,
+      LongFunction<P> prop,
+      Predicate<P> test,
+      String msg,
+      Object[] msgArgs)
+      throws X {
+    P val = prop.apply(check.arg);
+    if (test.test(val)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            null,
+            null));
+  }
+
+  static <X extends Exception, P> LongCheck<X> notHas(LongCheck<X> check,
+      LongFunction<P> prop,
+      Predicate<P> test,
+      String msg,
+      Object[] msgArgs)
+      throws X {
+    P val = prop.apply(check.arg);
+    if (!test.test(val)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            null,
+            null));
+  }
+
+  static <X extends Exception, P, X2 extends Exception> LongCheck<X> has(
+      LongCheck<X> check,
+      LongFunction<P> prop, Predicate<P> test, Supplier<X2> exception) throws X2 {
+    P val = prop.apply(check.arg);
+    if (test.test(val)) {
+      return check;
+    }
+    throw exception.get();
+  }
+
+  //////////////////////////////////////////////////////////////////////////////////
+  //////////////////////////////////////////////////////////////////////////////////
+  //////////////////////////////////////////////////////////////////////////////////
+
+  static <X extends Exception, P, O> LongCheck<X> has(LongCheck<X> check,
+      LongFunction<P> prop, Relation<P, O> test, O obj) throws X {
+    P val = prop.apply(check.arg);
+    if (test.exists(val, obj)) {
+      return check;
+    }
+    String name = formatProperty(check.arg, check.argName, prop, LongFunction.class);
+    Function<MsgArgs, String> formatter = getRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, null, obj));
+  }
+
+  static <X extends Exception, P, O> LongCheck<X> notHas(LongCheck<X> check,
+      LongFunction<P> prop, Relation<P, O> test, O obj)
+      throws X {
+    P val = prop.apply(check.arg);
+    if (!test.exists(val, obj)) {
+      return check;
+    }
+    String name = formatProperty(check.arg, check.argName, prop, LongFunction.class);
+    Function<MsgArgs, String> formatter = getRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, null, obj));
+  }
+
+  static <X extends Exception, P, O> LongCheck<X> has(LongCheck<X> check,
+      LongFunction<P> prop,
+      String name,
+      Relation<P, O> test,
+      O obj) throws X {
+    P val = prop.apply(check.arg);
+    if (test.exists(val, obj)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            check.FQN(name),
+            val,
+            null,
+            obj));
+  }
+
+  static <X extends Exception, P, O> LongCheck<X> notHas(LongCheck<X> check,
+      LongFunction<P> prop,
+      String name,
+      Relation<P, O> test,
+      O obj) throws X {
+    P val = prop.apply(check.arg);
+    if (!test.exists(val, obj)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            check.FQN(name),
+            val,
+            null,
+            obj));
+  }
+
+  static <X extends Exception, P, O> LongCheck<X> has(LongCheck<X> check,
+      LongFunction<P> prop,
+      Relation<P, O> test,
+      O obj,
+      String msg,
+      Object[] msgArgs)
+      throws X {
+    P val = prop.apply(check.arg);
+    if (test.exists(val, obj)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            null,
+            obj));
+  }
+
+  static <X extends Exception, P, O> LongCheck<X> notHas(LongCheck<X> check,
+      LongFunction<P> prop,
+      Relation<P, O> test,
+      O obj,
+      String msg,
+      Object[] msgArgs)
+      throws X {
+    P val = prop.apply(check.arg);
+    if (!test.exists(val, obj)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            null,
+            null));
+  }
+
+  static <X extends Exception, P, O, X2 extends Exception> LongCheck<X> has(
+      LongCheck<X> check,
+      LongFunction<P> prop, Relation<P, O> test, O obj, Supplier<X2> exception)
+      throws X2 {
+    P val = prop.apply(check.arg);
+    if (test.exists(val, obj)) {
+      return check;
+    }
+    throw exception.get();
+  }
+
+}
@@ -0,0 +1,288 @@
+package org.klojang.check;
+
+import org.klojang.check.types.LongRelation;
+import org.klojang.check.x.msg.MsgArgs;
+
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+import static org.klojang.check.CommonProperties.formatLongProperty;
+import static org.klojang.check.x.msg.CheckDefs.getLongPredicateFormatter;
+import static org.klojang.check.x.msg.CheckDefs.getLongRelationFormatter;
+import static org.klojang.check.x.msg.MsgUtil.*;
+
+/**
+ * Helper class for LongCheck.
+ */
+final class LongCheckHelper2 {
+
+  private LongCheckHelper2() {
+    throw new UnsupportedOperationException();
+  }
+
+  static <X extends Exception> LongCheck<X> has(LongCheck<X> check,
+      LongUnaryOperator prop, LongPredicate test) throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (test.test(val)) {
+      return check;
+    }
+    String name = formatLongProperty(check.arg,
+        check.argName,
+        prop,
+        LongUnaryOperator.class);
+    Function<MsgArgs, String> formatter = getLongPredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc, () -> getDefaultPredicateMessage(name, val));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, long.class, null));
+  }
+
+  static <X extends Exception> LongCheck<X> notHas(LongCheck<X> check,
+      LongUnaryOperator prop, LongPredicate test) throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (!test.test(val)) {
+      return check;
+    }
+    String name = formatLongProperty(check.arg,
+        check.argName,
+        prop,
+        LongUnaryOperator.class);
+    Function<MsgArgs, String> formatter = getLongPredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(name, check.arg));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, long.class, null));
+  }
+
+  static <X extends Exception> LongCheck<X> has(LongCheck<X> check,
+      LongUnaryOperator prop, String name, LongPredicate test) throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (test.test(val)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getLongPredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), check.arg));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            check.FQN(name),
+            val,
+            long.class,
+            null));
+  }
+
+  static <X extends Exception> LongCheck<X> notHas(LongCheck<X> check,
+      LongUnaryOperator prop, String name, LongPredicate test)
+      throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (!test.test(val)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getLongPredicateFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), check.arg));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            check.FQN(name),
+            val,
+            long.class,
+            null));
+  }
+
+  static <X extends Exception> LongCheck<X> has(LongCheck<X> check,
+      LongUnaryOperator prop,
+      LongPredicate test,
+      String msg,
+      Object[] msgArgs) throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (test.test(val)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            long.class,
+            null));
+  }
+
+  static <X extends Exception> LongCheck<X> notHas(LongCheck<X> check,
+      LongUnaryOperator prop,
+      LongPredicate test,
+      String msg,
+      Object[] msgArgs)
+      throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (!test.test(val)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            long.class,
+            null));
+  }
+
+  static <X extends Exception, X2 extends Exception> LongCheck<X> has(LongCheck<X> check,
+      LongUnaryOperator prop,
+      LongPredicate test,
+      Supplier<X2> exc)
+      throws X2 {
+    if (test.test(prop.applyAsLong(check.arg))) {
+      return check;
+    }
+    throw exc.get();
+  }
+
+  static <X extends Exception> LongCheck<X> has(LongCheck<X> check,
+      LongUnaryOperator prop, LongRelation test, long obj) throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (test.exists(val, obj)) {
+      return check;
+    }
+    String name = formatLongProperty(check.arg,
+        check.argName,
+        prop,
+        LongUnaryOperator.class);
+    Function<MsgArgs, String> formatter = getLongRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, long.class, obj));
+  }
+
+  static <X extends Exception> LongCheck<X> notHas(LongCheck<X> check,
+      LongUnaryOperator prop, LongRelation test, long obj) throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (!test.exists(val, obj)) {
+      return check;
+    }
+    String name = formatLongProperty(check.arg,
+        check.argName,
+        prop,
+        LongUnaryOperator.class);
+    Function<MsgArgs, String> formatter = getLongRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, long.class, obj));
+  }
+
+  static <X extends Exception> LongCheck<X> has(LongCheck<X> check,
+      LongUnaryOperator prop, String name, LongRelation test, long obj)
+      throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (test.exists(val, obj)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getLongRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), check.arg, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            check.FQN(name),
+            val,
+            long.class,
+            obj));
+  }
+
+  static <X extends Exception> LongCheck<X> notHas(LongCheck<X> check,
+      LongUnaryOperator prop, String name, LongRelation test, long obj)
+      throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (!test.exists(val, obj)) {
+      return check;
+    }
+    Function<MsgArgs, String> formatter = getLongRelationFormatter(test);
+    if (formatter == null) {
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
+    }
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            check.FQN(name),
+            val,
+            long.class,
+            obj));
+  }
+
+  static <X extends Exception> LongCheck<X> has(LongCheck<X> check,
+      LongUnaryOperator prop,
+      LongRelation test,
+      long obj,
+      String msg,
+      Object[] msgArgs)
+      throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (test.exists(val, obj)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            long.class,
+            obj));
+  }
+
+  static <X extends Exception> LongCheck<X> notHas(LongCheck<X> check,
+      LongUnaryOperator prop,
+      LongRelation test,
+      long obj,
+      String msg,
+      Object[] msgArgs)
+      throws X {
+    long val = prop.applyAsLong(check.arg);
+    if (!test.exists(val, obj)) {
+      return check;
+    }
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            long.class,
+            obj));
+  }
+
+  static <X extends Exception, X2 extends Exception> LongCheck<X> has(
+      LongCheck<X> check,
+      LongUnaryOperator prop, LongRelation test, long obj, Supplier<X2> exc) throws X2 {
+    if (test.exists(prop.applyAsLong(check.arg), obj)) {
+      return check;
+    }
+    throw exc.get();
+  }
+
+}
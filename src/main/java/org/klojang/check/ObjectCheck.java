@@ -99,10 +99,10 @@ public final class ObjectCheck<T, X extends Exception> {
     }
     Function<MsgArgs, String> formatter = getPredicateFormatter(test);
     if (formatter == null) {
-      throw exc.apply(getDefaultPredicateMessage(argName, arg));
+      throw createException(exc, () -> getDefaultPredicateMessage(argName, arg));
     }
-    throw exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
             test,
             false,
             argName,
@@ -127,10 +127,10 @@ public final class ObjectCheck<T, X extends Exception> {
     }
     Function<MsgArgs, String> formatter = getPredicateFormatter(test);
     if (formatter == null) {
-      throw exc.apply(getDefaultPredicateMessage(argName, arg));
+      throw createException(exc, () -> getDefaultPredicateMessage(argName, arg));
     }
-    throw exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(exc,
+        () -> getPrefabMessage(formatter,
             test,
             true,
             argName,
@@ -156,8 +156,8 @@ public final class ObjectCheck<T, X extends Exception> {
     if (test.test(arg)) {
       return this;
     }
-    throw exc.apply(
-        getCustomMessage(message,
+    throw createException(exc,
+        () -> getCustomMessage(message,
             msgArgs,
             test,
             argName,
@@ -187,8 +187,8 @@ public final class ObjectCheck<T, X extends Exception> {
     if (!test.test(arg)) {
       return this;
     }
-    throw exc.apply(
-        getCustomMessage(message,
+    throw createException(exc,
+        () -> getCustomMessage(message,
             msgArgs,
             test,
             argName,
@@ -253,10 +253,11 @@ public final class ObjectCheck<T, X extends Exception> {
     }
     Function<MsgArgs, String> formatter = getRelationFormatter(test);
     if (formatter == null) {
-      throw exc.apply(getDefaultRelationMessage(argName, arg, object));
+      throw createException(exc,
+          () -> getDefaultRelationMessage(argName, arg, object));
     }
-    throw exc.apply(
-        getPrefabMessage(formatter, test, false, argName, arg, null, object));
+    throw createException(exc,
+        () -> getPrefabMessage(formatter, test, false, argName, arg, null, object));
   }
 
   /**
@@ -278,10 +279,11 @@ public final class ObjectCheck<T, X extends Exception> {
     }
     Function<MsgArgs, String> formatter = getRelationFormatter(test);
     if (formatter == null) {
-      throw exc.apply(getDefaultRelationMessage(argName, arg, object));
+      throw createException(exc,
+          () -> getDefaultRelationMessage(argName, arg, object));
     }
-    throw exc.apply(
-        getPrefabMessage(formatter, test, true, argName, arg, null, object));
+    throw createException(exc,
+        () -> getPrefabMessage(formatter, test, true, argName, arg, null, object));
   }
 
   /**
@@ -307,8 +309,8 @@ public final class ObjectCheck<T, X extends Exception> {
     if (test.exists(arg, object)) {
       return this;
     }
-    throw exc.apply(
-        getCustomMessage(message,
+    throw createException(exc,
+        () -> getCustomMessage(message,
             msgArgs,
             test,
             argName,
@@ -337,8 +339,8 @@ public final class ObjectCheck<T, X extends Exception> {
     if (!test.exists(arg, object)) {
       return this;
     }
-    throw exc.apply(
-        getCustomMessage(message,
+    throw createException(exc,
+        () -> getCustomMessage(message,
             msgArgs,
             test,
             argName,
@@ -406,7 +408,7 @@ public final class ObjectCheck<T, X extends Exception> {
    */
   public <P> ObjectCheck<T, X> has(Function<T, P> property, Predicate<P> test)
       throws X {
-    return ObjectCheckHelper1.help(this).has(property, test);
+    return ObjectCheckHelper1.has(this, property, test);
   }
 
   /**
@@ -427,7 +429,7 @@ public final class ObjectCheck<T, X extends Exception> {
    */
   public <P> ObjectCheck<T, X> notHas(Function<T, P> property, Predicate<P> test)
       throws X {
-    return ObjectCheckHelper1.help(this).notHas(property, test);
+    return ObjectCheckHelper1.notHas(this, property, test);
   }
 
   /**
@@ -453,7 +455,7 @@ public final class ObjectCheck<T, X extends Exception> {
       String name,
       Predicate<P> test)
       throws X {
-    return ObjectCheckHelper1.help(this).has(property, name, test);
+    return ObjectCheckHelper1.has(this, property, name, test);
   }
 
   /**
@@ -477,7 +479,7 @@ public final class ObjectCheck<T, X extends Exception> {
       String name,
       Predicate<P> test)
       throws X {
-    return ObjectCheckHelper1.help(this).notHas(property, name, test);
+    return ObjectCheckHelper1.notHas(this, property, name, test);
   }
 
   /**
@@ -500,7 +502,7 @@ public final class ObjectCheck<T, X extends Exception> {
   public <P> ObjectCheck<T, X> has(
       Function<T, P> property, Predicate<P> test, String message, Object... msgArgs)
       throws X {
-    return ObjectCheckHelper1.help(this).has(property, test, message, msgArgs);
+    return ObjectCheckHelper1.has(this, property, test, message, msgArgs);
   }
 
   /**
@@ -523,7 +525,7 @@ public final class ObjectCheck<T, X extends Exception> {
   public <P> ObjectCheck<T, X> notHas(
       Function<T, P> property, Predicate<P> test, String message, Object... msgArgs)
       throws X {
-    return ObjectCheckHelper1.help(this).notHas(property, test, message, msgArgs);
+    return ObjectCheckHelper1.notHas(this, property, test, message, msgArgs);
   }
 
   /**
@@ -545,7 +547,7 @@ public final class ObjectCheck<T, X extends Exception> {
    */
   public <P, X2 extends Exception> ObjectCheck<T, X> has(
       Function<T, P> property, Predicate<P> test, Supplier<X2> exception) throws X2 {
-    return ObjectCheckHelper1.help(this).has(property, test, exception);
+    return ObjectCheckHelper1.has(this, property, test, exception);
   }
 
   /**
@@ -567,7 +569,7 @@ public final class ObjectCheck<T, X extends Exception> {
    */
   public <P, X2 extends Exception> ObjectCheck<T, X> notHas(
       Function<T, P> property, Predicate<P> test, Supplier<X2> exception) throws X2 {
-    return ObjectCheckHelper1.help(this).has(property, test.negate(), exception);
+    return ObjectCheckHelper1.has(this, property, test.negate(), exception);
   }
 
   /**
@@ -593,7 +595,7 @@ public final class ObjectCheck<T, X extends Exception> {
       Relation<P, O> test,
       O object)
       throws X {
-    return ObjectCheckHelper1.help(this).has(property, test, object);
+    return ObjectCheckHelper1.has(this, property, test, object);
   }
 
   /**
@@ -619,7 +621,7 @@ public final class ObjectCheck<T, X extends Exception> {
       Relation<P, O> test,
       O object)
       throws X {
-    return ObjectCheckHelper1.help(this).notHas(property, test, object);
+    return ObjectCheckHelper1.notHas(this, property, test, object);
   }
 
   /**
@@ -644,7 +646,7 @@ public final class ObjectCheck<T, X extends Exception> {
    */
   public <P, O> ObjectCheck<T, X> has(
       Function<T, P> property, String name, Relation<P, O> test, O object) throws X {
-    return ObjectCheckHelper1.help(this).has(property, name, test, object);
+    return ObjectCheckHelper1.has(this, property, name, test, object);
   }
 
   /**
@@ -671,7 +673,7 @@ public final class ObjectCheck<T, X extends Exception> {
    */
   public <P, O> ObjectCheck<T, X> notHas(
       Function<T, P> property, String name, Relation<P, O> test, O object) throws X {
-    return ObjectCheckHelper1.help(this).notHas(property, name, test, object);
+    return ObjectCheckHelper1.notHas(this, property, name, test, object);
   }
 
   /**
@@ -701,7 +703,7 @@ public final class ObjectCheck<T, X extends Exception> {
       String message,
       Object... msgArgs)
       throws X {
-    return ObjectCheckHelper1.help(this).has(property,
+    return ObjectCheckHelper1.has(this, property,
         test,
         object,
         message,
@@ -735,7 +737,7 @@ public final class ObjectCheck<T, X extends Exception> {
       String message,
       Object... msgArgs)
       throws X {
-    return ObjectCheckHelper1.help(this).notHas(property,
+    return ObjectCheckHelper1.notHas(this, property,
         test,
         object,
         message,
@@ -765,7 +767,7 @@ public final class ObjectCheck<T, X extends Exception> {
   public <P, O, X2 extends Exception> ObjectCheck<T, X> has(
       Function<T, P> property, Relation<P, O> test, O object, Supplier<X2> exception)
       throws X2 {
-    return ObjectCheckHelper1.help(this).has(property, test, object, exception);
+    return ObjectCheckHelper1.has(this, property, test, object, exception);
   }
 
   /**
@@ -791,7 +793,7 @@ public final class ObjectCheck<T, X extends Exception> {
   public <P, O, X2 extends Exception> ObjectCheck<T, X> notHas(
       Function<T, P> property, Relation<P, O> test, O object, Supplier<X2> exception)
       throws X2 {
-    return ObjectCheckHelper1.help(this).has(property,
+    return ObjectCheckHelper1.has(this, property,
         test.negate(),
         object,
         exception);
@@ -814,7 +816,7 @@ public final class ObjectCheck<T, X extends Exception> {
    */
   public ObjectCheck<T, X> has(ToIntFunction<T> property, IntPredicate test)
       throws X {
-    return ObjectCheckHelper2.help(this).has(property, test);
+    return ObjectCheckHelper2.has(this, property, test);
   }
 
   /**
@@ -834,7 +836,7 @@ public final class ObjectCheck<T, X extends Exception> {
    */
   public ObjectCheck<T, X> notHas(ToIntFunction<T> property, IntPredicate test)
       throws X {
-    return ObjectCheckHelper2.help(this).notHas(property, test);
+    return ObjectCheckHelper2.notHas(this, property, test);
   }
 
   /**
@@ -856,7 +858,7 @@ public final class ObjectCheck<T, X extends Exception> {
   public ObjectCheck<T, X> has(ToIntFunction<T> property,
       String name,
       IntPredicate test) throws X {
-    return ObjectCheckHelper2.help(this).has(property, name, test);
+    return ObjectCheckHelper2.has(this, property, name, test);
   }
 
   /**
@@ -879,7 +881,7 @@ public final class ObjectCheck<T, X extends Exception> {
       String name,
       IntPredicate test)
       throws X {
-    return ObjectCheckHelper2.help(this).notHas(property, name, test);
+    return ObjectCheckHelper2.notHas(this, property, name, test);
   }
 
   /**
@@ -903,7 +905,7 @@ public final class ObjectCheck<T, X extends Exception> {
       IntPredicate test,
       String message,
       Object... msgArgs) throws X {
-    return ObjectCheckHelper2.help(this).has(property, test, message, msgArgs);
+    return ObjectCheckHelper2.has(this, property, test, message, msgArgs);
   }
 
   /**
@@ -927,7 +929,7 @@ public final class ObjectCheck<T, X extends Exception> {
       IntPredicate test,
       String message,
       Object... msgArgs) throws X {
-    return ObjectCheckHelper2.help(this).notHas(property, test, message, msgArgs);
+    return ObjectCheckHelper2.notHas(this, property, test, message, msgArgs);
   }
 
   /**
@@ -949,7 +951,7 @@ public final class ObjectCheck<T, X extends Exception> {
   public <X2 extends Exception> ObjectCheck<T, X> has(
       ToIntFunction<T> property, IntPredicate test, Supplier<X2> exception) throws
       X2 {
-    return ObjectCheckHelper2.help(this).has(property, test, exception);
+    return ObjectCheckHelper2.has(this, property, test, exception);
   }
 
   /**
@@ -971,7 +973,7 @@ public final class ObjectCheck<T, X extends Exception> {
   public <X2 extends Exception> ObjectCheck<T, X> notHas(
       ToIntFunction<T> property, IntPredicate test, Supplier<X2> exception) throws
       X2 {
-    return ObjectCheckHelper2.help(this).has(property, test.negate(), exception);
+    return ObjectCheckHelper2.has(this, property, test.negate(), exception);
   }
 
   /**
@@ -1004,7 +1006,7 @@ public final class ObjectCheck<T, X extends Exception> {
       IntObjRelation<O> test,
       O object)
       throws X {
-    return ObjectCheckHelper2.help(this).has(property, test, object);
+    return ObjectCheckHelper2.has(this, property, test, object);
   }
 
   /**
@@ -1037,7 +1039,7 @@ public final class ObjectCheck<T, X extends Exception> {
       IntObjRelation<O> test,
       O object)
       throws X {
-    return ObjectCheckHelper2.help(this).notHas(property, test, object);
+    return ObjectCheckHelper2.notHas(this, property, test, object);
   }
 
   /**
@@ -1072,7 +1074,7 @@ public final class ObjectCheck<T, X extends Exception> {
   public <O> ObjectCheck<T, X> has(
       ToIntFunction<T> property, String name, IntObjRelation<O> test, O object)
       throws X {
-    return ObjectCheckHelper2.help(this).has(property, name, test, object);
+    return ObjectCheckHelper2.has(this, property, name, test, object);
   }
 
   /**
@@ -1107,7 +1109,7 @@ public final class ObjectCheck<T, X extends Exception> {
   public <O> ObjectCheck<T, X> notHas(
       ToIntFunction<T> property, String name, IntObjRelation<O> test, O object)
       throws X {
-    return ObjectCheckHelper2.help(this).notHas(property, name, test, object);
+    return ObjectCheckHelper2.notHas(this, property, name, test, object);
   }
 
   /**
@@ -1144,7 +1146,7 @@ public final class ObjectCheck<T, X extends Exception> {
       String message,
       Object... msgArgs)
       throws X {
-    return ObjectCheckHelper2.help(this).has(property,
+    return ObjectCheckHelper2.has(this, property,
         test,
         object,
         message,
@@ -1185,7 +1187,7 @@ public final class ObjectCheck<T, X extends Exception> {
       String message,
       Object... msgArgs)
       throws X {
-    return ObjectCheckHelper2.help(this).notHas(property,
+    return ObjectCheckHelper2.notHas(this, property,
         test,
         object,
         message,
@@ -1216,7 +1218,7 @@ public final class ObjectCheck<T, X extends Exception> {
       IntObjRelation<O> test,
       O object,
       Supplier<X2> exception) throws X2 {
-    return ObjectCheckHelper2.help(this).has(property, test, object, exception);
+    return ObjectCheckHelper2.has(this, property, test, object, exception);
   }
 
   /**
@@ -1251,7 +1253,7 @@ public final class ObjectCheck<T, X extends Exception> {
       IntObjRelation<O> test,
       O object,
       Supplier<X2> exception) throws X2 {
-    return ObjectCheckHelper2.help(this).has(property,
+    return ObjectCheckHelper2.has(this, property,
         test.negate(),
         object,
         exception);
@@ -1285,7 +1287,7 @@ public final class ObjectCheck<T, X extends Exception> {
   public ObjectCheck<T, X> has(ToIntFunction<T> property,
       IntRelation test,
       int object) throws X {
-    return ObjectCheckHelper2.help(this).has(property, test, object);
+    return ObjectCheckHelper2.has(this, property, test, object);
   }
 
   /**
@@ -1317,7 +1319,7 @@ public final class ObjectCheck<T, X extends Exception> {
       IntRelation test,
       int object)
       throws X {
-    return ObjectCheckHelper2.help(this).notHas(property, test, object);
+    return ObjectCheckHelper2.notHas(this, property, test, object);
   }
 
   /**
@@ -1353,7 +1355,7 @@ public final class ObjectCheck<T, X extends Exception> {
       IntRelation test,
       int object)
       throws X {
-    return ObjectCheckHelper2.help(this).has(property, name, test, object);
+    return ObjectCheckHelper2.has(this, property, name, test, object);
   }
 
   /**
@@ -1387,7 +1389,7 @@ public final class ObjectCheck<T, X extends Exception> {
   public ObjectCheck<T, X> notHas(
       ToIntFunction<T> property, String name, IntRelation test, int object)
       throws X {
-    return ObjectCheckHelper2.help(this).notHas(property, name, test, object);
+    return ObjectCheckHelper2.notHas(this, property, name, test, object);
   }
 
   /**
@@ -1423,7 +1425,7 @@ public final class ObjectCheck<T, X extends Exception> {
       String message,
       Object... msgArgs)
       throws X {
-    return ObjectCheckHelper2.help(this).has(property,
+    return ObjectCheckHelper2.has(this, property,
         test,
         object,
         message,
@@ -1463,7 +1465,7 @@ public final class ObjectCheck<T, X extends Exception> {
       String message,
       Object... msgArgs)
       throws X {
-    return ObjectCheckHelper2.help(this).notHas(property,
+    return ObjectCheckHelper2.notHas(this, property,
         test,
         object,
         message,
@@ -1502,7 +1504,7 @@ public final class ObjectCheck<T, X extends Exception> {
       int object,
       Supplier<X2> exception)
       throws X2 {
-    return ObjectCheckHelper2.help(this).has(property, test, object, exception);
+    return ObjectCheckHelper2.has(this, property, test, object, exception);
   }
 
   /**
@@ -1537,7 +1539,7 @@ public final class ObjectCheck<T, X extends Exception> {
       int object,
       Supplier<X2> exception)
       throws X2 {
-    return ObjectCheckHelper2.help(this).has(property,
+    return ObjectCheckHelper2.has(this, property,
         test.negate(),
         object,
         exception);
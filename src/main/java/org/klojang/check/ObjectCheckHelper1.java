@@ -16,31 +16,26 @@ import org.klojang.check.x.msg.MsgArgs;
 /**
  * Helper class for ObjectCheck.
  */
-final class ObjectCheckHelper1<T, X extends Exception> {
+final class ObjectCheckHelper1 {
 
-  static <T, X extends Exception> ObjectCheckHelper1<T, X> help(ObjectCheck<T, X> check) {
-    return new ObjectCheckHelper1<>(check);
+  private ObjectCheckHelper1() {
+    throw new UnsupportedOperationException();
   }
 
-  private final ObjectCheck<T, X> check;
-
-  private ObjectCheckHelper1(ObjectCheck<T, X> check) {
-    this.check = check;
-  }
-
-  <P> ObjectCheck<T, X> has(Function<T, P> prop, String name, Predicate<P> test)
+  static <T, X extends Exception, P> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      Function<T, P> prop, String name, Predicate<P> test)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     P val = prop.apply(check.arg);
     if (test.test(val)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(check.FQN(name), val));
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             false,
             check.FQN(name),
@@ -49,19 +44,20 @@ final class ObjectCheckHelper1<T, X extends Exception> {
             null));
   }
 
-  <P> ObjectCheck<T, X> notHas(Function<T, P> prop, String name, Predicate<P> test)
+  static <T, X extends Exception, P> ObjectCheck<T, X> notHas(ObjectCheck<T, X> check,
+      Function<T, P> prop, String name, Predicate<P> test)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     P val = prop.apply(check.arg);
     if (!test.test(val)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(check.FQN(name), val));
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             true,
             check.FQN(name),
@@ -70,8 +66,8 @@ final class ObjectCheckHelper1<T, X extends Exception> {
             null));
   }
 
-  <P> ObjectCheck<T, X> has(Function<T, P> prop, Predicate<P> test) throws X {
-    ObjectCheck<T, X> check = this.check;
+  static <T, X extends Exception, P> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      Function<T, P> prop, Predicate<P> test) throws X {
     P val = prop.apply(check.arg);
     if (test.test(val)) {
       return check;
@@ -79,14 +75,14 @@ final class ObjectCheckHelper1<T, X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, Function.class);
     Function<MsgArgs, String> formatter = getPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(name, val));
+      throw createException(check.exc, () -> getDefaultPredicateMessage(name, val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, name, val, null, null));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, null, null));
   }
 
-  <P> ObjectCheck<T, X> notHas(Function<T, P> prop, Predicate<P> test) throws X {
-    ObjectCheck<T, X> check = this.check;
+  static <T, X extends Exception, P> ObjectCheck<T, X> notHas(ObjectCheck<T, X> check,
+      Function<T, P> prop, Predicate<P> test) throws X {
     P val = prop.apply(check.arg);
     if (!test.test(val)) {
       return check;
@@ -94,23 +90,23 @@ final class ObjectCheckHelper1<T, X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, Function.class);
     Function<MsgArgs, String> formatter = getPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(name, val));
+      throw createException(check.exc, () -> getDefaultPredicateMessage(name, val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, true, name, val, null, null));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, null, null));
   }
 
-  <P> ObjectCheck<T, X> has(Function<T, P> prop,
+  static <T, X extends Exception, P> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      Function<T, P> prop,
       Predicate<P> test,
       String msg,
       Object[] msgArgs)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     P val = prop.apply(check.arg);
     if (test.test(val)) {
       return check;
     }
-    throw check.exc.apply(getCustomMessage(msg,
+    throw createException(check.exc, () -> getCustomMessage(msg,
         msgArgs,
         test,
         check.argName,
@@ -119,17 +115,17 @@ final class ObjectCheckHelper1<T, X extends Exception> {
         null));
   }
 
-  <P> ObjectCheck<T, X> notHas(Function<T, P> prop,
+  static <T, X extends Exception, P> ObjectCheck<T, X> notHas(ObjectCheck<T, X> check,
+      Function<T, P> prop,
       Predicate<P> test,
       String msg,
       Object[] msgArgs)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     P val = prop.apply(check.arg);
     if (!test.test(val)) {
       return check;
     }
-    throw check.exc.apply(getCustomMessage(msg,
+    throw createException(check.exc, () -> getCustomMessage(msg,
         msgArgs,
         test,
         check.argName,
@@ -138,19 +134,19 @@ final class ObjectCheckHelper1<T, X extends Exception> {
         null));
   }
 
-  <P, X2 extends Exception> ObjectCheck<T, X> has(
+  static <T, X extends Exception, P, X2 extends Exception> ObjectCheck<T, X> has(
+      ObjectCheck<T, X> check,
       Function<T, P> prop, Predicate<P> test, Supplier<X2> exc) throws X2 {
-    ObjectCheck<T, X> check = this.check;
     if (test.test(prop.apply(check.arg))) {
       return check;
     }
     throw exc.get();
   }
 
-  public <P, O> ObjectCheck<T, X> has(Function<T, P> prop,
+  static <T, X extends Exception, P, O> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      Function<T, P> prop,
       Relation<P, O> test,
       O obj) throws X {
-    ObjectCheck<T, X> check = this.check;
     P val = prop.apply(check.arg);
     if (test.exists(val, obj)) {
       return check;
@@ -158,16 +154,18 @@ final class ObjectCheckHelper1<T, X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, Function.class);
     Function<MsgArgs, String> formatter = getRelationFormatter(test);
     if (formatter == null) {
-       throw check.exc.apply(getDefaultRelationMessage(name, val, obj));
+       throw createException(check.exc,
+           () -> getDefaultRelationMessage(name, val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, name, val, null, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, null, obj));
   }
 
-  public <P, O> ObjectCheck<T, X> notHas(Function<T, P> prop,
+  static <T, X extends Exception, P, O> ObjectCheck<T, X> notHas(
+      ObjectCheck<T, X> check,
+      Function<T, P> prop,
       Relation<P, O> test,
       O obj) throws X {
-    ObjectCheck<T, X> check = this.check;
     P val = prop.apply(check.arg);
     if (!test.exists(val, obj)) {
       return check;
@@ -175,57 +173,73 @@ final class ObjectCheckHelper1<T, X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, Function.class);
     Function<MsgArgs, String> formatter = getRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(name, val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, true, name, val, null, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, null, obj));
   }
 
-  <P, O> ObjectCheck<T, X> has(Function<T, P> prop,
+  static <T, X extends Exception, P, O> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      Function<T, P> prop,
       String name,
       Relation<P, O> test,
       O obj)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     P val = prop.apply(check.arg);
     if (test.exists(val, obj)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(check.FQN(name), val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, check.FQN(name), val, null, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            false,
+            check.FQN(name),
+            val,
+            null,
+            obj));
   }
 
-  <P, O> ObjectCheck<T, X> notHas(Function<T, P> prop,
+  static <T, X extends Exception, P, O> ObjectCheck<T, X> notHas(
+      ObjectCheck<T, X> check,
+      Function<T, P> prop,
       String name,
       Relation<P, O> test,
       O obj)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     P val = prop.apply(check.arg);
     if (!test.exists(val, obj)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(check.FQN(name), val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, true, check.FQN(name), val, null, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
+            test,
+            true,
+            check.FQN(name),
+            val,
+            null,
+            obj));
   }
 
-  <P, O> ObjectCheck<T, X> has(
+  static <T, X extends Exception, P, O> ObjectCheck<T, X> has(
+      ObjectCheck<T, X> check,
       Function<T, P> prop, Relation<P, O> test, O obj, String msg, Object[] msgArgs)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     P val = prop.apply(check.arg);
     if (test.exists(val, obj)) {
       return check;
     }
-    throw check.exc.apply(getCustomMessage(msg,
+    throw createException(check.exc, () -> getCustomMessage(msg,
         msgArgs,
         test,
         check.argName,
@@ -234,15 +248,15 @@ final class ObjectCheckHelper1<T, X extends Exception> {
         obj));
   }
 
-  <P, O> ObjectCheck<T, X> notHas(
+  static <T, X extends Exception, P, O> ObjectCheck<T, X> notHas(
+      ObjectCheck<T, X> check,
       Function<T, P> prop, Relation<P, O> test, O obj, String msg, Object[] msgArgs)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     P val = prop.apply(check.arg);
     if (!test.exists(val, obj)) {
       return check;
     }
-    throw check.exc.apply(getCustomMessage(msg,
+    throw createException(check.exc, () -> getCustomMessage(msg,
         msgArgs,
         test,
         check.argName,
@@ -251,9 +265,9 @@ final class ObjectCheckHelper1<T, X extends Exception> {
         obj));
   }
 
-  <P, O, X2 extends Exception> ObjectCheck<T, X> has(
+  static <T, X extends Exception, P, O, X2 extends Exception> ObjectCheck<T, X> has(
+      ObjectCheck<T, X> check,
       Function<T, P> prop, Relation<P, O> test, O obj, Supplier<X2> exc) throws X2 {
-    ObjectCheck<T, X> check = this.check;
     if (test.exists(prop.apply(check.arg), obj)) {
       return check;
     }
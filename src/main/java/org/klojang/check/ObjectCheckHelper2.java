@@ -17,20 +17,14 @@ import static org.klojang.check.x.msg.MsgUtil.*;
  * Helper class for ObjectCheck. Helps with has() methods that extract and validate an int
  * property of the argument.
  */
-final class ObjectCheckHelper2<T, X extends Exception> {
+final class ObjectCheckHelper2 {
 
-  static <T, X extends Exception> ObjectCheckHelper2<T, X> help(ObjectCheck<T, X> check) {
-    return new ObjectCheckHelper2<>(check);
+  private ObjectCheckHelper2() {
+    throw new UnsupportedOperationException();
   }
 
-  private final ObjectCheck<T, X> check;
-
-  private ObjectCheckHelper2(ObjectCheck<T, X> check) {
-    this.check = check;
-  }
-
-  ObjectCheck<T, X> has(ToIntFunction<T> prop, IntPredicate test) throws X {
-    ObjectCheck<T, X> check = this.check;
+  static <T, X extends Exception> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop, IntPredicate test) throws X {
     int val = prop.applyAsInt(check.arg);
     if (test.test(val)) {
       return check;
@@ -38,14 +32,14 @@ final class ObjectCheckHelper2<T, X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, Function.class);
     Function<MsgArgs, String> formatter = getIntPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(name, val));
+      throw createException(check.exc, () -> getDefaultPredicateMessage(name, val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, name, val, int.class, null));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, int.class, null));
   }
 
-  ObjectCheck<T, X> notHas(ToIntFunction<T> prop, IntPredicate test) throws X {
-    ObjectCheck<T, X> check = this.check;
+  static <T, X extends Exception> ObjectCheck<T, X> notHas(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop, IntPredicate test) throws X {
     int val = prop.applyAsInt(check.arg);
     if (!test.test(val)) {
       return check;
@@ -53,25 +47,26 @@ final class ObjectCheckHelper2<T, X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, Function.class);
     Function<MsgArgs, String> formatter = getIntPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(name, val));
+      throw createException(check.exc, () -> getDefaultPredicateMessage(name, val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, true, name, val, int.class, null));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, int.class, null));
   }
 
-  ObjectCheck<T, X> has(ToIntFunction<T> prop, String name, IntPredicate test)
+  static <T, X extends Exception> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop, String name, IntPredicate test)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (test.test(val)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getIntPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(check.FQN(name), val));
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             false,
             check.FQN(name),
@@ -80,19 +75,20 @@ final class ObjectCheckHelper2<T, X extends Exception> {
             null));
   }
 
-  ObjectCheck<T, X> notHas(ToIntFunction<T> prop, String name, IntPredicate test)
+  static <T, X extends Exception> ObjectCheck<T, X> notHas(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop, String name, IntPredicate test)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.test(val)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getIntPredicateFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultPredicateMessage(check.FQN(name), val));
+      throw createException(check.exc,
+          () -> getDefaultPredicateMessage(check.FQN(name), val));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             true,
             check.FQN(name),
@@ -101,45 +97,57 @@ final class ObjectCheckHelper2<T, X extends Exception> {
             null));
   }
 
-  ObjectCheck<T, X> has(ToIntFunction<T> prop,
+  static <T, X extends Exception> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop,
       IntPredicate test,
       String msg,
       Object[] msgArgs)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (test.test(val)) {
       return check;
     }
-    throw check.exc.apply(
-        getCustomMessage(msg, msgArgs, test, check.argName, val, int.class, null));
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            int.class,
+            null));
   }
 
-  ObjectCheck<T, X> notHas(
+  static <T, X extends Exception> ObjectCheck<T, X> notHas(
+      ObjectCheck<T, X> check,
       ToIntFunction<T> prop, IntPredicate test, String msg, Object[] msgArgs)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.test(val)) {
       return check;
     }
-    throw check.exc.apply(
-        getCustomMessage(msg, msgArgs, test, check.argName, val, int.class, null));
+    throw createException(check.exc,
+        () -> getCustomMessage(msg,
+            msgArgs,
+            test,
+            check.argName,
+            val,
+            int.class,
+            null));
   }
 
-  <X2 extends Exception> ObjectCheck<T, X> has(
+  static <T, X extends Exception, X2 extends Exception> ObjectCheck<T, X> has(
+      ObjectCheck<T, X> check,
       ToIntFunction<T> prop, IntPredicate test, Supplier<X2> exception) throws X2 {
-    ObjectCheck<T, X> check = this.check;
     if (test.test(prop.applyAsInt(check.arg))) {
       return check;
     }
     throw exception.get();
   }
 
-  public <O> ObjectCheck<T, X> has(ToIntFunction<T> prop,
+  static <T, X extends Exception, O> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop,
       IntObjRelation<O> test,
       O obj) throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (test.exists(val, obj)) {
       return check;
@@ -147,17 +155,18 @@ final class ObjectCheckHelper2<T, X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, Function.class);
     Function<MsgArgs, String> formatter = getIntObjRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(name, val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, name, val, int.class, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, int.class, obj));
   }
 
-  public <O> ObjectCheck<T, X> notHas(ToIntFunction<T> prop,
+  static <T, X extends Exception, O> ObjectCheck<T, X> notHas(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop,
       IntObjRelation<O> test,
       O obj)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.exists(val, obj)) {
       return check;
@@ -165,28 +174,30 @@ final class ObjectCheckHelper2<T, X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, Function.class);
     Function<MsgArgs, String> formatter = getIntObjRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(name, val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, true, name, val, int.class, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, int.class, obj));
   }
 
-  <O> ObjectCheck<T, X> has(ToIntFunction<T> prop,
+  static <T, X extends Exception, O> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop,
       String name,
       IntObjRelation<O> test,
       O obj)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (test.exists(val, obj)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getIntObjRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(check.FQN(name), val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             false,
             check.FQN(name),
@@ -195,22 +206,23 @@ final class ObjectCheckHelper2<T, X extends Exception> {
             obj));
   }
 
-  <O> ObjectCheck<T, X> notHas(ToIntFunction<T> prop,
+  static <T, X extends Exception, O> ObjectCheck<T, X> notHas(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop,
       String name,
       IntObjRelation<O> test,
       O obj)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.exists(val, obj)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getIntObjRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(check.FQN(name), val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             true,
             check.FQN(name),
@@ -219,18 +231,18 @@ final class ObjectCheckHelper2<T, X extends Exception> {
             obj));
   }
 
-  <O> ObjectCheck<T, X> has(
+  static <T, X extends Exception, O> ObjectCheck<T, X> has(
+      ObjectCheck<T, X> check,
       ToIntFunction<T> prop,
       IntObjRelation<O> test,
       O obj,
       String msg,
       Object[] msgArgs) throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (test.exists(val, obj)) {
       return check;
     }
-    throw check.exc.apply(getCustomMessage(msg,
+    throw createException(check.exc, () -> getCustomMessage(msg,
         msgArgs,
         test,
         check.argName,
@@ -239,18 +251,18 @@ final class ObjectCheckHelper2<T, X extends Exception> {
         obj));
   }
 
-  <O> ObjectCheck<T, X> notHas(
+  static <T, X extends Exception, O> ObjectCheck<T, X> notHas(
+      ObjectCheck<T, X> check,
       ToIntFunction<T> prop,
       IntObjRelation<O> test,
       O obj,
       String msg,
       Object[] msgArgs) throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.exists(val, obj)) {
       return check;
     }
-    throw check.exc.apply(getCustomMessage(msg,
+    throw createException(check.exc, () -> getCustomMessage(msg,
         msgArgs,
         test,
         check.argName,
@@ -259,19 +271,19 @@ final class ObjectCheckHelper2<T, X extends Exception> {
         obj));
   }
 
-  <O, X2 extends Exception> ObjectCheck<T, X> has(
+  static <T, X extends Exception, O, X2 extends Exception> ObjectCheck<T, X> has(
+      ObjectCheck<T, X> check,
       ToIntFunction<T> prop, IntObjRelation<O> test, O obj, Supplier<X2> exception)
       throws X2 {
-    ObjectCheck<T, X> check = this.check;
     if (test.exists(prop.applyAsInt(check.arg), obj)) {
       return check;
     }
     throw exception.get();
   }
 
-  public ObjectCheck<T, X> has(ToIntFunction<T> prop, IntRelation test, int obj)
+  static <T, X extends Exception> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop, IntRelation test, int obj)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (test.exists(val, obj)) {
       return check;
@@ -279,15 +291,16 @@ final class ObjectCheckHelper2<T, X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, Function.class);
     Function<MsgArgs, String> formatter = getIntRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(name, val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, false, name, val, int.class, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, false, name, val, int.class, obj));
   }
 
-  public ObjectCheck<T, X> notHas(ToIntFunction<T> prop, IntRelation test, int obj)
+  static <T, X extends Exception> ObjectCheck<T, X> notHas(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop, IntRelation test, int obj)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.exists(val, obj)) {
       return check;
@@ -295,27 +308,29 @@ final class ObjectCheckHelper2<T, X extends Exception> {
     String name = formatProperty(check.arg, check.argName, prop, Function.class);
     Function<MsgArgs, String> formatter = getIntRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(name, val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(name, val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter, test, true, name, val, int.class, obj));
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter, test, true, name, val, int.class, obj));
   }
 
-  ObjectCheck<T, X> has(ToIntFunction<T> prop,
+  static <T, X extends Exception> ObjectCheck<T, X> has(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop,
       String name,
       IntRelation test,
       int obj) throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (test.exists(val, obj)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getIntRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(check.FQN(name), val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             false,
             check.FQN(name),
@@ -324,21 +339,22 @@ final class ObjectCheckHelper2<T, X extends Exception> {
             obj));
   }
 
-  ObjectCheck<T, X> notHas(ToIntFunction<T> prop,
+  static <T, X extends Exception> ObjectCheck<T, X> notHas(ObjectCheck<T, X> check,
+      ToIntFunction<T> prop,
       String name,
       IntRelation test,
       int obj) throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.exists(val, obj)) {
       return check;
     }
     Function<MsgArgs, String> formatter = getIntRelationFormatter(test);
     if (formatter == null) {
-      throw check.exc.apply(getDefaultRelationMessage(check.FQN(name), val, obj));
+      throw createException(check.exc,
+          () -> getDefaultRelationMessage(check.FQN(name), val, obj));
     }
-    throw check.exc.apply(
-        getPrefabMessage(formatter,
+    throw createException(check.exc,
+        () -> getPrefabMessage(formatter,
             test,
             true,
             check.FQN(name),
@@ -347,15 +363,15 @@ final class ObjectCheckHelper2<T, X extends Exception> {
             obj));
   }
 
-  ObjectCheck<T, X> has(
+  static <T, X extends Exception> ObjectCheck<T, X> has(
+      ObjectCheck<T, X> check,
       ToIntFunction<T> prop, IntRelation test, int obj, String msg, Object[] msgArgs)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (test.exists(val, obj)) {
       return check;
     }
-    throw check.exc.apply(getCustomMessage(msg,
+    throw createException(check.exc, () -> getCustomMessage(msg,
         msgArgs,
         test,
         check.argName,
@@ -364,15 +380,15 @@ final class ObjectCheckHelper2<T, X extends Exception> {
         obj));
   }
 
-  ObjectCheck<T, X> notHas(
+  static <T, X extends Exception> ObjectCheck<T, X> notHas(
+      ObjectCheck<T, X> check,
       ToIntFunction<T> prop, IntRelation test, int obj, String msg, Object[] msgArgs)
       throws X {
-    ObjectCheck<T, X> check = this.check;
     int val = prop.applyAsInt(check.arg);
     if (!test.exists(val, obj)) {
       return check;
     }
-    throw check.exc.apply(getCustomMessage(msg,
+    throw createException(check.exc, () -> getCustomMessage(msg,
         msgArgs,
         test,
         check.argName,
@@ -381,10 +397,10 @@ final class ObjectCheckHelper2<T, X extends Exception> {
         obj));
   }
 
-  <X2 extends Exception> ObjectCheck<T, X> has(
+  static <T, X extends Exception, X2 extends Exception> ObjectCheck<T, X> has(
+      ObjectCheck<T, X> check,
       ToIntFunction<T> prop, IntRelation test, int obj, Supplier<X2> exception)
       throws X2 {
-    ObjectCheck<T, X> check = this.check;
     if (test.exists(prop.applyAsInt(check.arg), obj)) {
       return check;
     }
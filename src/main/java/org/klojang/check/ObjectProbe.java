@@ -0,0 +1,873 @@
+package org.klojang.check;
+
+import org.klojang.check.types.IntObjRelation;
+import org.klojang.check.types.IntRelation;
+import org.klojang.check.types.Relation;
+import org.klojang.check.x.msg.MsgArgs;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import static org.klojang.check.x.msg.CheckDefs.*;
+
+/**
+ * A non-throwing counterpart of {@link ObjectCheck}. Instances are obtained via
+ * {@link Check#test(Object) Check.test()}. An {@code ObjectProbe} executes the
+ * same checks as an {@code ObjectCheck}, but rather than throwing an exception
+ * when the value fails a test, it records a {@link Violation} and skips all
+ * subsequent tests. Use {@link #valid()} or {@link #violation()} to retrieve the
+ * outcome. No error message is generated unless you ask the {@code Violation} for
+ * it.
+ *
+ * <blockquote><pre>{@code
+ * List<String> names = input.stream()
+ *     .filter(s -> Check.test(s).is(notNull()).has(strlen(), lte(), 30).valid())
+ *     .toList();
+ * }</pre></blockquote>
+ *
+ * <p>An {@code ObjectProbe} obtained from a {@link ViolationCollector} behaves
+ * slightly differently. It passes every {@code Violation} on to the
+ * {@code ViolationCollector}, and it only skips the subsequent tests if the value
+ * itself failed a test (one of the {@code is(...)} or {@code isNot(...)}
+ * methods). If a <i>property</i> of the value failed a test, the remaining tests
+ * are still executed.
+ *
+ * @param <T> the type of the value being tested
+ * @author Ayco Holleman
+ */
+// The has(ToIntFunction<T>, ...) and has(Function<T, P>, ...) overloads are told
+// apart by the test that follows the property: an IntPredicate, IntRelation or
+// IntObjRelation versus a Predicate or Relation. ObjectCheck has the same
+// overloads.
+@SuppressWarnings("overloads")
+public final class ObjectProbe<T> {
+
+  final T arg;
+  final String argName;
+
+  // null unless obtained via a ViolationCollector
+  private final ViolationCollector collector;
+
+  private Violation violation;
+  // whether subsequent tests must be skipped
+  private boolean halted;
+
+  ObjectProbe(T arg, String argName) {
+    this(arg, argName, null);
+  }
+
+  ObjectProbe(T arg, String argName, ViolationCollector collector) {
+    this.arg = arg;
+    this.argName = argName;
+    this.collector = collector;
+  }
+
+  /**
+   * Returns {@code true} if the value passed all tests, {@code false} otherwise.
+   *
+   * @return {@code true} if the value passed all tests, {@code false} otherwise
+   */
+  public boolean valid() {
+    return violation == null;
+  }
+
+  /**
+   * Returns the {@code Violation} describing the first test that the value failed,
+   * or an empty {@code Optional} if the value passed all tests.
+   *
+   * @return the {@code Violation} describing the first test that the value failed
+   */
+  public Optional<Violation> violation() {
+    return Optional.ofNullable(violation);
+  }
+
+  /**
+   * Tests the value using the specified test.
+   *
+   * @param test the test
+   * @return this instance
+   */
+  public ObjectProbe<T> is(Predicate<T> test) {
+    if (!halted && !test.test(arg)) {
+      fail(true, predicateViolation(test, false));
+    }
+    return this;
+  }
+
+  /**
+   * Tests the value using the specified test. The value is valid if it does
+   * <i>not</i> pass the test.
+   *
+   * @param test the test
+   * @return this instance
+   */
+  public ObjectProbe<T> isNot(Predicate<T> test) {
+    if (!halted && test.test(arg)) {
+      fail(true, predicateViolation(test, true));
+    }
+    return this;
+  }
+
+  /**
+   * Tests the value using the specified test.
+   *
+   * @param test the test
+   * @param object the object of the {@code Relation}
+   * @param <O> the type of the object of the {@code Relation}
+   * @return this instance
+   */
+  public <O> ObjectProbe<T> is(Relation<T, O> test, O object) {
+    if (!halted && !test.exists(arg, object)) {
+      fail(true, relationViolation(test, false, object));
+    }
+    return this;
+  }
+
+  /**
+   * Tests the value using the specified test. The value is valid if it does
+   * <i>not</i> pass the test.
+   *
+   * @param test the test
+   * @param object the object of the {@code Relation}
+   * @param <O> the type of the object of the {@code Relation}
+   * @return this instance
+   */
+  public <O> ObjectProbe<T> isNot(Relation<T, O> test, O object) {
+    if (!halted && test.exists(arg, object)) {
+      fail(true, relationViolation(test, true, object));
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param test the test
+   * @param <P> the type of the property
+   * @return this instance
+   */
+  public <P> ObjectProbe<T> has(Function<T, P> property, Predicate<P> test) {
+    if (!halted) {
+      P val = property.apply(arg);
+      if (!test.test(val)) {
+        fail(false, propertyViolation(getPredicateFormatter(test),
+            test,
+            false,
+            false,
+            argName,
+            property,
+            Function.class,
+            val,
+            null,
+            null));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value. The value is valid if the property does
+   * <i>not</i> pass the test.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param test the test
+   * @param <P> the type of the property
+   * @return this instance
+   */
+  public <P> ObjectProbe<T> notHas(Function<T, P> property, Predicate<P> test) {
+    if (!halted) {
+      P val = property.apply(arg);
+      if (test.test(val)) {
+        fail(false, propertyViolation(getPredicateFormatter(test),
+            test,
+            true,
+            false,
+            argName,
+            property,
+            Function.class,
+            val,
+            null,
+            null));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param name the name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @param <P> the type of the property
+   * @return this instance
+   */
+  public <P> ObjectProbe<T> has(Function<T, P> property,
+      String name,
+      Predicate<P> test) {
+    if (!halted) {
+      P val = property.apply(arg);
+      if (!test.test(val)) {
+        fail(false, propertyViolation(getPredicateFormatter(test),
+            test,
+            false,
+            false,
+            FQN(name),
+            null,
+            null,
+            val,
+            null,
+            null));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value. The value is valid if the property does
+   * <i>not</i> pass the test.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param name the name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @param <P> the type of the property
+   * @return this instance
+   */
+  public <P> ObjectProbe<T> notHas(Function<T, P> property,
+      String name,
+      Predicate<P> test) {
+    if (!halted) {
+      P val = property.apply(arg);
+      if (test.test(val)) {
+        fail(false, propertyViolation(getPredicateFormatter(test),
+            test,
+            true,
+            false,
+            FQN(name),
+            null,
+            null,
+            val,
+            null,
+            null));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param test the test
+   * @param object the object of the {@code Relation}
+   * @param <P> the type of the property
+   * @param <O> the type of the object of the {@code Relation}
+   * @return this instance
+   */
+  public <P, O> ObjectProbe<T> has(Function<T, P> property,
+      Relation<P, O> test,
+      O object) {
+    if (!halted) {
+      P val = property.apply(arg);
+      if (!test.exists(val, object)) {
+        fail(false, propertyViolation(getRelationFormatter(test),
+            test,
+            false,
+            true,
+            argName,
+            property,
+            Function.class,
+            val,
+            null,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value. The value is valid if the property does
+   * <i>not</i> pass the test.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param test the test
+   * @param object the object of the {@code Relation}
+   * @param <P> the type of the property
+   * @param <O> the type of the object of the {@code Relation}
+   * @return this instance
+   */
+  public <P, O> ObjectProbe<T> notHas(Function<T, P> property,
+      Relation<P, O> test,
+      O object) {
+    if (!halted) {
+      P val = property.apply(arg);
+      if (test.exists(val, object)) {
+        fail(false, propertyViolation(getRelationFormatter(test),
+            test,
+            true,
+            true,
+            argName,
+            property,
+            Function.class,
+            val,
+            null,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param name the name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @param object the object of the {@code Relation}
+   * @param <P> the type of the property
+   * @param <O> the type of the object of the {@code Relation}
+   * @return this instance
+   */
+  public <P, O> ObjectProbe<T> has(Function<T, P> property,
+      String name,
+      Relation<P, O> test,
+      O object) {
+    if (!halted) {
+      P val = property.apply(arg);
+      if (!test.exists(val, object)) {
+        fail(false, propertyViolation(getRelationFormatter(test),
+            test,
+            false,
+            true,
+            FQN(name),
+            null,
+            null,
+            val,
+            null,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests a property of the value. The value is valid if the property does
+   * <i>not</i> pass the test.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param name the name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @param object the object of the {@code Relation}
+   * @param <P> the type of the property
+   * @param <O> the type of the object of the {@code Relation}
+   * @return this instance
+   */
+  public <P, O> ObjectProbe<T> notHas(Function<T, P> property,
+      String name,
+      Relation<P, O> test,
+      O object) {
+    if (!halted) {
+      P val = property.apply(arg);
+      if (test.exists(val, object)) {
+        fail(false, propertyViolation(getRelationFormatter(test),
+            test,
+            true,
+            true,
+            FQN(name),
+            null,
+            null,
+            val,
+            null,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param test the test
+   * @return this instance
+   */
+  public ObjectProbe<T> has(ToIntFunction<T> property, IntPredicate test) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (!test.test(val)) {
+        fail(false, propertyViolation(getIntPredicateFormatter(test),
+            test,
+            false,
+            false,
+            argName,
+            property,
+            ToIntFunction.class,
+            val,
+            int.class,
+            null));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value. The value is valid if the property
+   * does <i>not</i> pass the test.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param test the test
+   * @return this instance
+   */
+  public ObjectProbe<T> notHas(ToIntFunction<T> property, IntPredicate test) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (test.test(val)) {
+        fail(false, propertyViolation(getIntPredicateFormatter(test),
+            test,
+            true,
+            false,
+            argName,
+            property,
+            ToIntFunction.class,
+            val,
+            int.class,
+            null));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param name the name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @return this instance
+   */
+  public ObjectProbe<T> has(ToIntFunction<T> property,
+      String name,
+      IntPredicate test) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (!test.test(val)) {
+        fail(false, propertyViolation(getIntPredicateFormatter(test),
+            test,
+            false,
+            false,
+            FQN(name),
+            null,
+            null,
+            val,
+            int.class,
+            null));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value. The value is valid if the property
+   * does <i>not</i> pass the test.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param name the name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @return this instance
+   */
+  public ObjectProbe<T> notHas(ToIntFunction<T> property,
+      String name,
+      IntPredicate test) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (test.test(val)) {
+        fail(false, propertyViolation(getIntPredicateFormatter(test),
+            test,
+            true,
+            false,
+            FQN(name),
+            null,
+            null,
+            val,
+            int.class,
+            null));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param test the test
+   * @param object the object of the {@code IntRelation}
+   * @return this instance
+   */
+  public ObjectProbe<T> has(ToIntFunction<T> property,
+      IntRelation test,
+      int object) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (!test.exists(val, object)) {
+        fail(false, propertyViolation(getIntRelationFormatter(test),
+            test,
+            false,
+            true,
+            argName,
+            property,
+            ToIntFunction.class,
+            val,
+            int.class,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param name the name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @param object the object of the {@code IntRelation}
+   * @return this instance
+   */
+  public ObjectProbe<T> has(ToIntFunction<T> property,
+      String name,
+      IntRelation test,
+      int object) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (!test.exists(val, object)) {
+        fail(false, propertyViolation(getIntRelationFormatter(test),
+            test,
+            false,
+            true,
+            FQN(name),
+            null,
+            null,
+            val,
+            int.class,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value. The value is valid if the property
+   * does <i>not</i> pass the test.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param name the name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @param object the object of the {@code IntRelation}
+   * @return this instance
+   */
+  public ObjectProbe<T> notHas(ToIntFunction<T> property,
+      String name,
+      IntRelation test,
+      int object) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (test.exists(val, object)) {
+        fail(false, propertyViolation(getIntRelationFormatter(test),
+            test,
+            true,
+            true,
+            FQN(name),
+            null,
+            null,
+            val,
+            int.class,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param test the test
+   * @param object the object of the {@code IntObjRelation}
+   * @param <O> the type of the object of the {@code IntObjRelation}
+   * @return this instance
+   */
+  public <O> ObjectProbe<T> has(ToIntFunction<T> property,
+      IntObjRelation<O> test,
+      O object) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (!test.exists(val, object)) {
+        fail(false, propertyViolation(getIntObjRelationFormatter(test),
+            test,
+            false,
+            true,
+            argName,
+            property,
+            ToIntFunction.class,
+            val,
+            int.class,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value. The value is valid if the property
+   * does <i>not</i> pass the test.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param test the test
+   * @param object the object of the {@code IntObjRelation}
+   * @param <O> the type of the object of the {@code IntObjRelation}
+   * @return this instance
+   */
+  public <O> ObjectProbe<T> notHas(ToIntFunction<T> property,
+      IntObjRelation<O> test,
+      O object) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (test.exists(val, object)) {
+        fail(false, propertyViolation(getIntObjRelationFormatter(test),
+            test,
+            true,
+            true,
+            argName,
+            property,
+            ToIntFunction.class,
+            val,
+            int.class,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param name the name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @param object the object of the {@code IntObjRelation}
+   * @param <O> the type of the object of the {@code IntObjRelation}
+   * @return this instance
+   */
+  public <O> ObjectProbe<T> has(ToIntFunction<T> property,
+      String name,
+      IntObjRelation<O> test,
+      O object) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (!test.exists(val, object)) {
+        fail(false, propertyViolation(getIntObjRelationFormatter(test),
+            test,
+            false,
+            true,
+            FQN(name),
+            null,
+            null,
+            val,
+            int.class,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value. The value is valid if the property
+   * does <i>not</i> pass the test.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param name the name of the property being tested. In error messages the
+   *     fully-qualified name will be used and constructed using
+   *     {@code argName + "." + name}.
+   * @param test the test
+   * @param object the object of the {@code IntObjRelation}
+   * @param <O> the type of the object of the {@code IntObjRelation}
+   * @return this instance
+   */
+  public <O> ObjectProbe<T> notHas(ToIntFunction<T> property,
+      String name,
+      IntObjRelation<O> test,
+      O object) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (test.exists(val, object)) {
+        fail(false, propertyViolation(getIntObjRelationFormatter(test),
+            test,
+            true,
+            true,
+            FQN(name),
+            null,
+            null,
+            val,
+            int.class,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tests an {@code int} property of the value. The value is valid if the property
+   * does <i>not</i> pass the test.
+   *
+   * @param property a function that extracts the value to be tested from the
+   *     value of this instance
+   * @param test the test
+   * @param object the object of the {@code IntRelation}
+   * @return this instance
+   */
+  public ObjectProbe<T> notHas(ToIntFunction<T> property,
+      IntRelation test,
+      int object) {
+    if (!halted) {
+      int val = property.applyAsInt(arg);
+      if (test.exists(val, object)) {
+        fail(false, propertyViolation(getIntRelationFormatter(test),
+            test,
+            true,
+            true,
+            argName,
+            property,
+            ToIntFunction.class,
+            val,
+            int.class,
+            object));
+      }
+    }
+    return this;
+  }
+
+  /*
+   * Records the violation. A stand-alone probe halts at the first violation. A
+   * probe obtained from a ViolationCollector only halts if the value itself was
+   * found to be invalid, because subsequent tests are likely to depend on it. If
+   * a property was found to be invalid, the remaining tests are still executed.
+   */
+  private void fail(boolean fatal, Violation v) {
+    if (violation == null) {
+      violation = v;
+    }
+    if (collector != null) {
+      collector.add(v);
+    }
+    if (fatal || collector == null) {
+      halted = true;
+    }
+  }
+
+  private String FQN(String name) {
+    if (argName == null) {
+      return name;
+    }
+    return argName + "." + name;
+  }
+
+  private Violation predicateViolation(Predicate<T> test, boolean negated) {
+    return new Violation(getPredicateFormatter(test),
+        test,
+        negated,
+        false,
+        arg,
+        argName,
+        argName,
+        null,
+        null,
+        arg,
+        null,
+        null);
+  }
+
+  private Violation relationViolation(Relation<T, ?> test,
+      boolean negated,
+      Object object) {
+    return new Violation(getRelationFormatter(test),
+        test,
+        negated,
+        true,
+        arg,
+        argName,
+        argName,
+        null,
+        null,
+        arg,
+        null,
+        object);
+  }
+
+  private Violation propertyViolation(
+      Function<MsgArgs, String> formatter,
+      Object test,
+      boolean negated,
+      boolean relation,
+      String name,
+      Object property,
+      Class<?> propertyClass,
+      Object value,
+      Class<?> type,
+      Object object) {
+    return new Violation(formatter,
+        test,
+        negated,
+        relation,
+        arg,
+        argName,
+        name,
+        property,
+        propertyClass,
+        value,
+        type,
+        object);
+  }
+
+}
@@ -0,0 +1,917 @@
+package org.klojang.check;
+
+import org.klojang.check.types.IntRelation;
+import org.klojang.check.types.Relation;
+import org.klojang.check.x.msg.MsgArgs;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.klojang.check.CommonChecks.positive;
+import static org.klojang.check.CommonProperties.formatProperty;
+import static org.klojang.check.x.msg.CheckDefs.*;
+
+/**
+ * An immutable, thread-safe, reusable chain of checks. A {@code Validator} is
+ * meant for code paths that validate many values using the same chain of checks.
+ * Whereas {@code Check.that(...)} resolves the error message formatter and the
+ * property names of a check when the check fails, a {@code Validator} resolves
+ * them once, when it is built. Applying the validator then costs just one virtual
+ * call per check.
+ *
+ * <blockquote><pre>{@code
+ * static final Validator<String> USER_NAME = Validator.<String>builder("userName")
+ *     .is(notNull())
+ *     .has(strlen(), lte(), 64)
+ *     .is(matches(), "[a-z][a-z0-9_]*")
+ *     .build();
+ *
+ * public void setUserName(String userName) {
+ *   this.userName = USER_NAME.check(userName);
+ * }
+ * }</pre></blockquote>
+ *
+ * <p>The checks are executed in the order in which they were added to the
+ * builder. Validation stops at the first check that fails.
+ *
+ * <p><b><a id="compiled-validators">Compiled validators</a></b>
+ *
+ * <p>{@link Builder#compile()} produces a {@code Validator} whose checks are
+ * assembled into a single {@link MethodHandle} tree. In an interpreted
+ * {@code Validator}, all checks are dispatched through the same (megamorphic)
+ * {@code Predicate.test} call site, which the JIT compiler cannot inline. The
+ * method handle tree on the other hand is a constant chain of bound checks, which
+ * the JIT compiler can inline as a whole &#8212; provided it can see the method
+ * handle as a constant. For the best results, store the result of
+ * {@link #asMethodHandle()} in a {@code static final} field and call it using
+ * {@code invokeExact}:
+ *
+ * <blockquote><pre>{@code
+ * static final MethodHandle IS_VALID = Validator.<Person>builder("person")
+ *     .has(Person::name, notEmpty())
+ *     ...
+ *     .compile()
+ *     .asMethodHandle();
+ *
+ * boolean valid = (boolean) IS_VALID.invokeExact((Object) person);
+ * }</pre></blockquote>
+ *
+ * <p>Only the happy path is compiled. Once a value is found to be invalid, the
+ * checks are run again in interpreted mode to find out which check failed.
+ *
+ * @param <T> the type of the values validated by this {@code Validator}
+ * @author Ayco Holleman
+ */
+public final class Validator<T> {
+
+  /**
+   * Returns a builder for a {@code Validator}. Error messages will refer to the
+   * value as "argument".
+   *
+   * @param <T> the type of the values validated by the {@code Validator}
+   * @return a builder for a {@code Validator}
+   */
+  public static <T> Builder<T> builder() {
+    return new Builder<>(null);
+  }
+
+  /**
+   * Returns a builder for a {@code Validator}.
+   *
+   * @param tag a descriptive name for the values validated by the
+   *     {@code Validator}. It is used in error messages.
+   * @param <T> the type of the values validated by the {@code Validator}
+   * @return a builder for a {@code Validator}
+   */
+  public static <T> Builder<T> builder(String tag) {
+    return new Builder<>(tag);
+  }
+
+  /*
+   * A single, pre-resolved check. Returns null if the value passes the check,
+   * else the Violation.
+   */
+  @FunctionalInterface
+  interface Link<T> {
+    Violation apply(T value);
+  }
+
+  // The default maximum number of elements validated by a single fork/join task
+  private static final int DEFAULT_THRESHOLD = 8192;
+
+  private final Link<T>[] links;
+  // The compiled checks; null for an interpreted Validator
+  private final MethodHandle handle;
+
+  private Validator(Link<T>[] links, MethodHandle handle) {
+    this.links = links;
+    this.handle = handle;
+  }
+
+  /**
+   * Returns a {@code MethodHandle} of type {@code (Object)boolean} that returns
+   * {@code true} if its argument passes all checks of this {@code Validator}. For
+   * a compiled {@code Validator} this is the method handle tree containing the
+   * checks. Otherwise, it is a method handle bound to {@link #test(Object)}.
+   *
+   * @return a {@code MethodHandle} executing the checks of this {@code Validator}
+   */
+  public MethodHandle asMethodHandle() {
+    return handle == null ? ValidatorHandles.bind(this) : handle;
+  }
+
+  /**
+   * Returns {@code true} if the checks of this {@code Validator} have been
+   * compiled into a {@code MethodHandle} tree.
+   *
+   * @return {@code true} if this is a compiled {@code Validator}
+   */
+  public boolean isCompiled() {
+    return handle != null;
+  }
+
+  /**
+   * Returns {@code true} if the specified value passes all checks, {@code false}
+   * otherwise.
+   *
+   * @param value the value to be validated
+   * @return {@code true} if the specified value passes all checks, {@code false}
+   *     otherwise
+   */
+  public boolean test(T value) {
+    if (handle != null) {
+      return invoke(value);
+    }
+    for (Link<T> link : links) {
+      if (link.apply(value) != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the {@code Violation} describing the first check that the specified
+   * value failed, or an empty {@code Optional} if the value passed all checks.
+   *
+   * @param value the value to be validated
+   * @return the {@code Violation} describing the first check that the specified
+   *     value failed
+   */
+  public Optional<Violation> validate(T value) {
+    return Optional.ofNullable(firstViolation(value));
+  }
+
+  /**
+   * Validates all elements of the specified list. Rather than stopping at the
+   * first invalid element, all elements are validated. The returned
+   * {@link BatchReport} records which elements failed, and why. Only the invalid
+   * elements cause memory to be allocated.
+   *
+   * @param values the values to be validated
+   * @return a {@code BatchReport} for the specified list
+   */
+  public BatchReport validateAll(List<? extends T> values) {
+    Check.notNull(values, "values");
+    BatchReport.Builder report = new BatchReport.Builder();
+    if (values instanceof RandomAccess) {
+      for (int i = 0, size = values.size(); i < size; ++i) {
+        Violation violation = firstViolation(values.get(i));
+        if (violation != null) {
+          report.add(i, violation);
+        }
+      }
+    } else {
+      int i = 0;
+      for (T value : values) {
+        Violation violation = firstViolation(value);
+        if (violation != null) {
+          report.add(i, violation);
+        }
+        ++i;
+      }
+    }
+    return report.build(values.size());
+  }
+
+  /**
+   * Validates all elements of the specified array. See
+   * {@link #validateAll(List)}.
+   *
+   * @param values the values to be validated
+   * @return a {@code BatchReport} for the specified array
+   */
+  public BatchReport validateAll(T[] values) {
+    Check.notNull(values, "values");
+    BatchReport.Builder report = new BatchReport.Builder();
+    for (int i = 0; i < values.length; ++i) {
+      Violation violation = firstViolation(values[i]);
+      if (violation != null) {
+        report.add(i, violation);
+      }
+    }
+    return report.build(values.length);
+  }
+
+  /**
+   * Validates all elements of the specified list in parallel, using the common
+   * {@code ForkJoinPool}. Equivalent to
+   * {@link #validateAllParallel(List, int, ForkJoinPool) validateAllParallel(values,
+   * 8192, ForkJoinPool.commonPool())}.
+   *
+   * @param values the values to be validated
+   * @return a {@code BatchReport} for the specified list
+   */
+  public BatchReport validateAllParallel(List<? extends T> values) {
+    return validateAllParallel(values, DEFAULT_THRESHOLD, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Validates all elements of the specified list in parallel. The list is
+   * recursively split in halves until the chunks contain no more than
+   * {@code threshold} elements. The chunks are then validated concurrently using
+   * the specified {@code ForkJoinPool}. The returned {@link BatchReport} is the
+   * same as the one returned by {@link #validateAll(List)}. Lists that do not
+   * implement {@link RandomAccess}, and lists with no more than {@code threshold}
+   * elements, are validated sequentially.
+   *
+   * @param values the values to be validated
+   * @param threshold the maximum number of elements validated by a single task
+   * @param pool the {@code ForkJoinPool} executing the tasks
+   * @return a {@code BatchReport} for the specified list
+   */
+  public BatchReport validateAllParallel(List<? extends T> values,
+      int threshold,
+      ForkJoinPool pool) {
+    Check.notNull(values, "values");
+    Check.that(threshold, "threshold").is(positive());
+    Check.notNull(pool, "pool");
+    if (values.size() <= threshold || !(values instanceof RandomAccess)) {
+      return validateAll(values);
+    }
+    return pool.invoke(new BatchTask(values::get, 0, values.size(), threshold))
+        .build(values.size());
+  }
+
+  /**
+   * Validates all elements of the specified array in parallel, using the common
+   * {@code ForkJoinPool}. Equivalent to
+   * {@link #validateAllParallel(Object[], int, ForkJoinPool)
+   * validateAllParallel(values, 8192, ForkJoinPool.commonPool())}.
+   *
+   * @param values the values to be validated
+   * @return a {@code BatchReport} for the specified array
+   */
+  public BatchReport validateAllParallel(T[] values) {
+    return validateAllParallel(values, DEFAULT_THRESHOLD, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Validates all elements of the specified array in parallel. See
+   * {@link #validateAllParallel(List, int, ForkJoinPool)}.
+   *
+   * @param values the values to be validated
+   * @param threshold the maximum number of elements validated by a single task
+   * @param pool the {@code ForkJoinPool} executing the tasks
+   * @return a {@code BatchReport} for the specified array
+   */
+  public BatchReport validateAllParallel(T[] values,
+      int threshold,
+      ForkJoinPool pool) {
+    Check.notNull(values, "values");
+    Check.that(threshold, "threshold").is(positive());
+    Check.notNull(pool, "pool");
+    if (values.length <= threshold) {
+      return validateAll(values);
+    }
+    return pool.invoke(new BatchTask(i -> values[i], 0, values.length, threshold))
+        .build(values.length);
+  }
+
+  /**
+   * Returns a stream that validates the elements of the specified stream as they
+   * are pulled through it. An {@code IllegalArgumentException} is thrown for the
+   * first element that fails to pass the checks. See
+   * {@link #checkEach(Stream, Function)}.
+   *
+   * @param stream the stream whose elements to validate
+   * @return a stream that validates the elements of the specified stream
+   */
+  public Stream<T> checkEach(Stream<T> stream) {
+    return checkEach(stream, CommonExceptions.ARGUMENT);
+  }
+
+  /**
+   * Returns a stream that validates the elements of the specified stream as they
+   * are pulled through it. The exception produced by the specified exception
+   * factory is thrown for the first element that fails to pass the checks. No
+   * intermediate collection is created: validation is fused into the stream
+   * pipeline. The returned stream has the same characteristics as the specified
+   * stream (including {@code SIZED} and {@code SUBSIZED}), so it can still be
+   * efficiently split for parallel processing. Closing the returned stream closes
+   * the specified stream.
+   *
+   * <blockquote><pre>{@code
+   * long count = PERSON.checkEach(rows.stream())
+   *     .map(Person::email)
+   *     .distinct()
+   *     .count();
+   * }</pre></blockquote>
+   *
+   * @param stream the stream whose elements to validate
+   * @param excFactory a function that will produce the exception if an element
+   *     fails to pass a check
+   * @param <X> the type of the exception thrown if an element fails to pass a
+   *     check
+   * @return a stream that validates the elements of the specified stream
+   */
+  public <X extends RuntimeException> Stream<T> checkEach(Stream<T> stream,
+      Function<String, X> excFactory) {
+    Check.notNull(stream, "stream");
+    Check.notNull(excFactory, "excFactory");
+    return StreamSupport.stream(
+        new CheckingSpliterator(stream.spliterator(), excFactory),
+        stream.isParallel()).onClose(stream::close);
+  }
+
+  /**
+   * Validates the specified value and returns it if it passes all checks.
+   * Otherwise an {@code IllegalArgumentException} is thrown.
+   *
+   * @param value the value to be validated
+   * @return the value
+   * @throws IllegalArgumentException if the value fails any of the checks
+   */
+  public T check(T value) throws IllegalArgumentException {
+    return check(value, CommonExceptions.ARGUMENT);
+  }
+
+  /**
+   * Validates the specified value and returns it if it passes all checks.
+   * Otherwise the exception produced by the specified exception factory is
+   * thrown.
+   *
+   * @param value the value to be validated
+   * @param excFactory a function that will produce the exception if the value
+   *     fails to pass a check
+   * @param <X> the type of the exception thrown if the value fails to pass a
+   *     check
+   * @return the value
+   * @throws X if the value fails any of the checks
+   */
+  public <X extends Exception> T check(T value, Function<String, X> excFactory)
+      throws X {
+    Violation violation = firstViolation(value);
+    if (violation != null) {
+      throw violation.toException(excFactory);
+    }
+    return value;
+  }
+
+  /*
+   * Validates a chunk of a batch, or splits it in halves if it is larger than the
+   * threshold. The left half is forked; the right half is validated by the current
+   * thread. Since the left half's violations precede the right half's, appending
+   * the latter to the former keeps the indexes in ascending order.
+   */
+  @SuppressWarnings("serial")
+  private final class BatchTask extends RecursiveTask<BatchReport.Builder> {
+
+    private final IntFunction<? extends T> values;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    BatchTask(IntFunction<? extends T> values, int from, int to, int threshold) {
+      this.values = values;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected BatchReport.Builder compute() {
+      if (to - from <= threshold) {
+        BatchReport.Builder report = new BatchReport.Builder();
+        for (int i = from; i < to; ++i) {
+          Violation violation = firstViolation(values.apply(i));
+          if (violation != null) {
+            report.add(i, violation);
+          }
+        }
+        return report;
+      }
+      int mid = (from + to) >>> 1;
+      BatchTask left = new BatchTask(values, from, mid, threshold);
+      left.fork();
+      BatchReport.Builder right = new BatchTask(values, mid, to, threshold).compute();
+      BatchReport.Builder report = left.join();
+      report.addAll(right);
+      return report;
+    }
+
+  }
+
+  /*
+   * Validates the elements of the underlying Spliterator as they are pulled
+   * through it. Since no elements are dropped, the characteristics of the
+   * underlying Spliterator, including SIZED and SUBSIZED, remain valid.
+   */
+  private final class CheckingSpliterator implements Spliterator<T> {
+
+    private final Spliterator<T> source;
+    private final Function<String, ? extends RuntimeException> excFactory;
+
+    CheckingSpliterator(Spliterator<T> source,
+        Function<String, ? extends RuntimeException> excFactory) {
+      this.source = source;
+      this.excFactory = excFactory;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      return source.tryAdvance(value -> action.accept(check(value, excFactory)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      source.forEachRemaining(value -> action.accept(check(value, excFactory)));
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      Spliterator<T> prefix = source.trySplit();
+      return prefix == null ? null : new CheckingSpliterator(prefix, excFactory);
+    }
+
+    @Override
+    public long estimateSize() {
+      return source.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+      return source.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics() {
+      return source.characteristics();
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+      return source.getComparator();
+    }
+
+  }
+
+  private Violation firstViolation(T value) {
+    if (handle != null && invoke(value)) {
+      return null;
+    }
+    for (Link<T> link : links) {
+      Violation violation = link.apply(value);
+      if (violation != null) {
+        return violation;
+      }
+    }
+    return null;
+  }
+
+  private boolean invoke(T value) {
+    try {
+      return (boolean) handle.invokeExact((Object) value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      // None of the checks declares a checked exception
+      throw new AssertionError(t);
+    }
+  }
+
+  /**
+   * Collects the checks for a {@link Validator}. A {@code Builder} is not
+   * thread-safe, but the {@code Validator} it produces is.
+   *
+   * @param <T> the type of the values validated by the {@code Validator}
+   */
+  public static final class Builder<T> {
+
+    private final String tag;
+    private final List<Link<T>> links = new ArrayList<>();
+    private final List<MethodHandle> handles = new ArrayList<>();
+
+    private Builder(String tag) {
+      this.tag = tag;
+    }
+
+    /**
+     * Adds the specified test to the chain of checks.
+     *
+     * @param test the test
+     * @return this instance
+     */
+    public Builder<T> is(Predicate<T> test) {
+      return predicate(test, false);
+    }
+
+    /**
+     * Adds the negation of the specified test to the chain of checks.
+     *
+     * @param test the test
+     * @return this instance
+     */
+    public Builder<T> isNot(Predicate<T> test) {
+      return predicate(test, true);
+    }
+
+    /**
+     * Adds the specified test to the chain of checks.
+     *
+     * @param test the test
+     * @param object the object of the {@code Relation}
+     * @param <O> the type of the object of the {@code Relation}
+     * @return this instance
+     */
+    public <O> Builder<T> is(Relation<T, O> test, O object) {
+      return relation(test, object, false);
+    }
+
+    /**
+     * Adds the negation of the specified test to the chain of checks.
+     *
+     * @param test the test
+     * @param object the object of the {@code Relation}
+     * @param <O> the type of the object of the {@code Relation}
+     * @return this instance
+     */
+    public <O> Builder<T> isNot(Relation<T, O> test, O object) {
+      return relation(test, object, true);
+    }
+
+    /**
+     * Adds a check on a property of the value to the chain of checks.
+     *
+     * @param property a function that extracts the value to be tested from the
+     *     value being validated
+     * @param test the test
+     * @param <P> the type of the property
+     * @return this instance
+     */
+    public <P> Builder<T> has(Function<T, P> property, Predicate<P> test) {
+      return property(property, null, test, false);
+    }
+
+    /**
+     * Adds a check on a property of the value to the chain of checks.
+     *
+     * @param property a function that extracts the value to be tested from the
+     *     value being validated
+     * @param name the name of the property
+     * @param test the test
+     * @param <P> the type of the property
+     * @return this instance
+     */
+    public <P> Builder<T> has(Function<T, P> property,
+        String name,
+        Predicate<P> test) {
+      return property(property, name, test, false);
+    }
+
+    /**
+     * Adds the negation of a check on a property of the value to the chain of
+     * checks.
+     *
+     * @param property a function that extracts the value to be tested from the
+     *     value being validated
+     * @param test the test
+     * @param <P> the type of the property
+     * @return this instance
+     */
+    public <P> Builder<T> notHas(Function<T, P> property, Predicate<P> test) {
+      return property(property, null, test, true);
+    }
+
+    /**
+     * Adds a check on a property of the value to the chain of checks.
+     *
+     * @param property a function that extracts the value to be tested from the
+     *     value being validated
+     * @param test the test
+     * @param object the object of the {@code Relation}
+     * @param <P> the type of the property
+     * @param <O> the type of the object of the {@code Relation}
+     * @return this instance
+     */
+    public <P, O> Builder<T> has(Function<T, P> property,
+        Relation<P, O> test,
+        O object) {
+      return property(property, null, test, object, false);
+    }
+
+    /**
+     * Adds a check on a property of the value to the chain of checks.
+     *
+     * @param property a function that extracts the value to be tested from the
+     *     value being validated
+     * @param name the name of the property
+     * @param test the test
+     * @param object the object of the {@code Relation}
+     * @param <P> the type of the property
+     * @param <O> the type of the object of the {@code Relation}
+     * @return this instance
+     */
+    public <P, O> Builder<T> has(Function<T, P> property,
+        String name,
+        Relation<P, O> test,
+        O object) {
+      return property(property, name, test, object, false);
+    }
+
+    /**
+     * Adds the negation of a check on a property of the value to the chain of
+     * checks.
+     *
+     * @param property a function that extracts the value to be tested from the
+     *     value being validated
+     * @param test the test
+     * @param object the object of the {@code Relation}
+     * @param <P> the type of the property
+     * @param <O> the type of the object of the {@code Relation}
+     * @return this instance
+     */
+    public <P, O> Builder<T> notHas(Function<T, P> property,
+        Relation<P, O> test,
+        O object) {
+      return property(property, null, test, object, true);
+    }
+
+    /**
+     * Adds a check on an {@code int} property of the value to the chain of
+     * checks.
+     *
+     * @param property a function that extracts the value to be tested from the
+     *     value being validated
+     * @param test the test
+     * @return this instance
+     */
+    public Builder<T> has(ToIntFunction<T> property, IntPredicate test) {
+      return intProperty(property, test, false);
+    }
+
+    /**
+     * Adds the negation of a check on an {@code int} property of the value to the
+     * chain of checks.
+     *
+     * @param property a function that extracts the value to be tested from the
+     *     value being validated
+     * @param test the test
+     * @return this instance
+     */
+    public Builder<T> notHas(ToIntFunction<T> property, IntPredicate test) {
+      return intProperty(property, test, true);
+    }
+
+    /**
+     * Adds a check on an {@code int} property of the value to the chain of
+     * checks.
+     *
+     * @param property a function that extracts the value to be tested from the
+     *     value being validated
+     * @param test the test
+     * @param object the object of the {@code IntRelation}
+     * @return this instance
+     */
+    public Builder<T> has(ToIntFunction<T> property, IntRelation test, int object) {
+      return intProperty(property, test, object, false);
+    }
+
+    /**
+     * Adds the negation of a check on an {@code int} property of the value to the
+     * chain of checks.
+     *
+     * @param property a function that extracts the value to be tested from the
+     *     value being validated
+     * @param test the test
+     * @param object the object of the {@code IntRelation}
+     * @return this instance
+     */
+    public Builder<T> notHas(ToIntFunction<T> property,
+        IntRelation test,
+        int object) {
+      return intProperty(property, test, object, true);
+    }
+
+    /**
+     * Returns an immutable, thread-safe {@code Validator} executing the checks
+     * collected by this builder.
+     *
+     * @return a {@code Validator} executing the checks collected by this builder
+     */
+    @SuppressWarnings("unchecked")
+    public Validator<T> build() {
+      return new Validator<>(links.toArray(Link[]::new), null);
+    }
+
+    /**
+     * Returns an immutable, thread-safe {@code Validator} executing the checks
+     * collected by this builder, compiled into a single {@code MethodHandle}
+     * tree. See <a href="Validator.html#compiled-validators">Compiled
+     * validators</a>.
+     *
+     * @return a compiled {@code Validator} executing the checks collected by this
+     *     builder
+     */
+    @SuppressWarnings("unchecked")
+    public Validator<T> compile() {
+      return new Validator<>(links.toArray(Link[]::new),
+          ValidatorHandles.and(handles));
+    }
+
+    private Builder<T> predicate(Predicate<T> test, boolean negated) {
+      handles.add(ValidatorHandles.predicate(test, negated));
+      Function<MsgArgs, String> fmt = getPredicateFormatter(test);
+      String tag = this.tag;
+      links.add(value -> test.test(value) != negated
+          ? null
+          : new Violation(fmt,
+              test,
+              negated,
+              false,
+              value,
+              tag,
+              tag,
+              null,
+              null,
+              value,
+              null,
+              null));
+      return this;
+    }
+
+    private <O> Builder<T> relation(Relation<T, O> test, O object, boolean negated) {
+      handles.add(ValidatorHandles.relation(test, object, negated));
+      Function<MsgArgs, String> fmt = getRelationFormatter(test);
+      String tag = this.tag;
+      links.add(value -> test.exists(value, object) != negated
+          ? null
+          : new Violation(fmt,
+              test,
+              negated,
+              true,
+              value,
+              tag,
+              tag,
+              null,
+              null,
+              value,
+              null,
+              object));
+      return this;
+    }
+
+    private <P> Builder<T> property(Function<T, P> property,
+        String name,
+        Predicate<P> test,
+        boolean negated) {
+      handles.add(ValidatorHandles.property(property, test, negated));
+      Function<MsgArgs, String> fmt = getPredicateFormatter(test);
+      String propName = propertyName(property, name);
+      Object getter = propName == null ? property : null;
+      String tag = this.tag;
+      String argName = propName == null ? tag : propName;
+      links.add(value -> {
+        P val = property.apply(value);
+        return test.test(val) != negated
+            ? null
+            : new Violation(fmt,
+                test,
+                negated,
+                false,
+                value,
+                tag,
+                argName,
+                getter,
+                Function.class,
+                val,
+                null,
+                null);
+      });
+      return this;
+    }
+
+    private <P, O> Builder<T> property(Function<T, P> property,
+        String name,
+        Relation<P, O> test,
+        O object,
+        boolean negated) {
+      handles.add(ValidatorHandles.property(property, test, object, negated));
+      Function<MsgArgs, String> fmt = getRelationFormatter(test);
+      String propName = propertyName(property, name);
+      Object getter = propName == null ? property : null;
+      String tag = this.tag;
+      String argName = propName == null ? tag : propName;
+      links.add(value -> {
+        P val = property.apply(value);
+        return test.exists(val, object) != negated
+            ? null
+            : new Violation(fmt,
+                test,
+                negated,
+                true,
+                value,
+                tag,
+                argName,
+                getter,
+                Function.class,
+                val,
+                null,
+                object);
+      });
+      return this;
+    }
+
+    private Builder<T> intProperty(ToIntFunction<T> property,
+        IntPredicate test,
+        boolean negated) {
+      handles.add(ValidatorHandles.intProperty(property, test, negated));
+      Function<MsgArgs, String> fmt = getIntPredicateFormatter(test);
+      String propName = propertyName(property, null);
+      Object getter = propName == null ? property : null;
+      String tag = this.tag;
+      String argName = propName == null ? tag : propName;
+      links.add(value -> {
+        int val = property.applyAsInt(value);
+        return test.test(val) != negated
+            ? null
+            : new Violation(fmt,
+                test,
+                negated,
+                false,
+                value,
+                tag,
+                argName,
+                getter,
+                ToIntFunction.class,
+                val,
+                int.class,
+                null);
+      });
+      return this;
+    }
+
+    private Builder<T> intProperty(ToIntFunction<T> property,
+        IntRelation test,
+        int object,
+        boolean negated) {
+      handles.add(ValidatorHandles.intProperty(property, test, object, negated));
+      Function<MsgArgs, String> fmt = getIntRelationFormatter(test);
+      String propName = propertyName(property, null);
+      Object getter = propName == null ? property : null;
+      String tag = this.tag;
+      String argName = propName == null ? tag : propName;
+      links.add(value -> {
+        int val = property.applyAsInt(value);
+        return test.exists(val, object) != negated
+            ? null
+            : new Violation(fmt,
+                test,
+                negated,
+                true,
+                value,
+                tag,
+                argName,
+                getter,
+                ToIntFunction.class,
+                val,
+                int.class,
+                object);
+      });
+      return this;
+    }
+
+    /*
+     * Resolves the name of the property up front, if possible. If not, returns
+     * null, in which case the Violation will work it out from the value itself.
+     */
+    private String propertyName(Object property, String name) {
+      if (name != null) {
+        return tag == null ? name : tag + "." + name;
+      }
+      return formatProperty(tag, property);
+    }
+
+  }
+
+}
@@ -0,0 +1,149 @@
+package org.klojang.check;
+
+import org.klojang.check.types.IntRelation;
+import org.klojang.check.types.Relation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Helper class for Validator. Assembles the checks of a Validator into a single
+ * MethodHandle tree of type (Object)boolean.
+ */
+final class ValidatorHandles {
+
+  private static final MethodHandle PREDICATE;
+  private static final MethodHandle INT_PREDICATE;
+  private static final MethodHandle RELATION;
+  private static final MethodHandle INT_RELATION;
+  private static final MethodHandle FUNCTION;
+  private static final MethodHandle TO_INT_FUNCTION;
+  private static final MethodHandle NOT;
+  private static final MethodHandle VALIDATOR_TEST;
+  private static final MethodHandle ALWAYS_TRUE;
+  private static final MethodHandle ALWAYS_FALSE;
+
+  static {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      PREDICATE = lookup.findVirtual(Predicate.class,
+          "test",
+          methodType(boolean.class, Object.class));
+      INT_PREDICATE = lookup.findVirtual(IntPredicate.class,
+          "test",
+          methodType(boolean.class, int.class));
+      RELATION = lookup.findVirtual(Relation.class,
+          "exists",
+          methodType(boolean.class, Object.class, Object.class));
+      INT_RELATION = lookup.findVirtual(IntRelation.class,
+          "exists",
+          methodType(boolean.class, int.class, int.class));
+      FUNCTION = lookup.findVirtual(Function.class,
+          "apply",
+          methodType(Object.class, Object.class));
+      TO_INT_FUNCTION = lookup.findVirtual(ToIntFunction.class,
+          "applyAsInt",
+          methodType(int.class, Object.class));
+      VALIDATOR_TEST = lookup.findVirtual(Validator.class,
+          "test",
+          methodType(boolean.class, Object.class));
+      NOT = lookup.findStatic(ValidatorHandles.class,
+          "not",
+          methodType(boolean.class, boolean.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+    ALWAYS_TRUE = MethodHandles.dropArguments(
+        MethodHandles.constant(boolean.class, true), 0, Object.class);
+    ALWAYS_FALSE = MethodHandles.dropArguments(
+        MethodHandles.constant(boolean.class, false), 0, Object.class);
+  }
+
+  private ValidatorHandles() {
+    throw new UnsupportedOperationException();
+  }
+
+  static MethodHandle bind(Validator<?> validator) {
+    return VALIDATOR_TEST.bindTo(validator);
+  }
+
+  static MethodHandle predicate(Predicate<?> test, boolean negated) {
+    return negate(PREDICATE.bindTo(test), negated);
+  }
+
+  static MethodHandle relation(Relation<?, ?> test, Object object, boolean negated) {
+    MethodHandle mh = MethodHandles.insertArguments(RELATION.bindTo(test),
+        1,
+        object);
+    return negate(mh, negated);
+  }
+
+  static MethodHandle property(Function<?, ?> property,
+      Predicate<?> test,
+      boolean negated) {
+    MethodHandle mh = MethodHandles.filterArguments(PREDICATE.bindTo(test),
+        0,
+        FUNCTION.bindTo(property));
+    return negate(mh, negated);
+  }
+
+  static MethodHandle property(Function<?, ?> property,
+      Relation<?, ?> test,
+      Object object,
+      boolean negated) {
+    MethodHandle mh = MethodHandles.filterArguments(relation(test, object, false),
+        0,
+        FUNCTION.bindTo(property));
+    return negate(mh, negated);
+  }
+
+  static MethodHandle intProperty(ToIntFunction<?> property,
+      IntPredicate test,
+      boolean negated) {
+    MethodHandle mh = MethodHandles.filterArguments(INT_PREDICATE.bindTo(test),
+        0,
+        TO_INT_FUNCTION.bindTo(property));
+    return negate(mh, negated);
+  }
+
+  static MethodHandle intProperty(ToIntFunction<?> property,
+      IntRelation test,
+      int object,
+      boolean negated) {
+    MethodHandle mh = MethodHandles.insertArguments(INT_RELATION.bindTo(test),
+        1,
+        object);
+    mh = MethodHandles.filterArguments(mh, 0, TO_INT_FUNCTION.bindTo(property));
+    return negate(mh, negated);
+  }
+
+  /*
+   * Folds the checks into: check0(x) ? (check1(x) ? (...) : false) : false
+   */
+  static MethodHandle and(List<MethodHandle> checks) {
+    if (checks.isEmpty()) {
+      return ALWAYS_TRUE;
+    }
+    MethodHandle mh = checks.get(checks.size() - 1);
+    for (int i = checks.size() - 2; i >= 0; --i) {
+      mh = MethodHandles.guardWithTest(checks.get(i), mh, ALWAYS_FALSE);
+    }
+    return mh;
+  }
+
+  private static MethodHandle negate(MethodHandle mh, boolean negated) {
+    return negated ? MethodHandles.filterReturnValue(mh, NOT) : mh;
+  }
+
+  private static boolean not(boolean b) {
+    return !b;
+  }
+
+}
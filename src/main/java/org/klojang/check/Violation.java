@@ -0,0 +1,168 @@
+package org.klojang.check;
+
+import org.klojang.check.x.msg.MsgArgs;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import static org.klojang.check.CommonProperties.formatProperty;
+import static org.klojang.check.x.msg.CheckDefs.nameOf;
+import static org.klojang.check.x.msg.MsgUtil.*;
+
+/**
+ * Describes why a value failed a test executed via {@link Check#test(Object)
+ * Check.test()}. A {@code Violation} is cheap to create: the error message is only
+ * generated when {@link #getMessage()} is called.
+ *
+ * @author Ayco Holleman
+ * @see ObjectProbe
+ * @see IntProbe
+ */
+public final class Violation {
+
+  private final Function<MsgArgs, String> formatter;
+  private final Object test;
+  private final boolean negated;
+  private final boolean relation;
+  private final Object subject;
+  private final String tag;
+  // The name used in the error message. Same as the tag unless the name of the
+  // property could be resolved up front.
+  private final String argName;
+  private final Object property;
+  private final Class<?> propertyClass;
+  private final Object value;
+  private final Class<?> type;
+  private final Object obj;
+
+  private String message;
+
+  Violation(Function<MsgArgs, String> formatter,
+      Object test,
+      boolean negated,
+      boolean relation,
+      Object subject,
+      String tag,
+      String argName,
+      Object property,
+      Class<?> propertyClass,
+      Object value,
+      Class<?> type,
+      Object obj) {
+    this.formatter = formatter;
+    this.test = test;
+    this.negated = negated;
+    this.relation = relation;
+    this.subject = subject;
+    this.tag = tag;
+    this.argName = argName;
+    this.property = property;
+    this.propertyClass = propertyClass;
+    this.value = value;
+    this.type = type;
+    this.obj = obj;
+  }
+
+  /**
+   * Returns the error message that would have been passed to the exception factory
+   * if the value had been validated using {@code Check.that(...)}. The message is
+   * generated upon the first call to this method.
+   *
+   * @return the error message
+   */
+  public String getMessage() {
+    if (message == null) {
+      message = createMessage();
+    }
+    return message;
+  }
+
+  /**
+   * Returns the tag of the value that failed the check, or {@code null} if no tag
+   * was provided. If the check was executed on a property of the value (using one
+   * of the {@code has(...)} methods), this is still the tag of the value itself, not
+   * the name of the property.
+   *
+   * @return the tag of the value that failed the check
+   */
+  public String getTag() {
+    return tag;
+  }
+
+  /**
+   * Returns the name of the check that failed, or {@code null} if the check did
+   * not come from the {@link CommonChecks} class.
+   *
+   * @return the name of the check that failed
+   */
+  public String getCheckName() {
+    return nameOf(test);
+  }
+
+  /**
+   * Returns the value that failed the check. If the check was executed on a
+   * property of the value (using one of the {@code has(...)} methods), this
+   * method returns the value of the property.
+   *
+   * @return the value that failed the check
+   */
+  public Object getValue() {
+    return value;
+  }
+
+  /**
+   * Returns whether the value failed a negated check (one of the
+   * {@code isNot(...)} or {@code notHas(...)} methods).
+   *
+   * @return whether the value failed a negated check
+   */
+  public boolean isNegated() {
+    return negated;
+  }
+
+  /**
+   * Converts this {@code Violation} into an exception. If the exception factory is
+   * a {@link org.klojang.check.extra.LazyMessageFactory LazyMessageFactory}, the
+   * error message will only be generated when requested from the exception.
+   *
+   * @param excFactory a function that produces the exception from the error
+   *     message
+   * @param <X> the type of the exception
+   * @return the exception
+   */
+  public <X extends Exception> X toException(Function<String, X> excFactory) {
+    return createException(excFactory, this::getMessage);
+  }
+
+  /**
+   * Returns the error message.
+   *
+   * @return the error message
+   */
+  @Override
+  public String toString() {
+    return getMessage();
+  }
+
+  private String createMessage() {
+    String name = name();
+    if (formatter == null) {
+      return relation
+          ? getDefaultRelationMessage(name, value, obj)
+          : getDefaultPredicateMessage(name, value);
+    }
+    return getPrefabMessage(formatter, test, negated, name, value, type, obj);
+  }
+
+  private String name() {
+    if (property == null) {
+      return argName;
+    } else if (propertyClass == IntUnaryOperator.class
+        || propertyClass == IntFunction.class) {
+      return formatProperty((int) subject, argName, property, propertyClass);
+    }
+    return formatProperty(subject, argName, property, propertyClass);
+  }
+
+}
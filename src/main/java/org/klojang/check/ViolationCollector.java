@@ -0,0 +1,178 @@
+package org.klojang.check;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.klojang.check.x.msg.MsgUtil.createException;
+
+/**
+ * Collects the {@link Violation violations} of multiple values, or multiple
+ * properties of the same value, so they can all be reported at once. Instances
+ * are obtained via {@link Check#collecting()}. Whereas {@code Check.that(...)}
+ * throws an exception upon the first failing check, a {@code ViolationCollector}
+ * executes all checks and only then reports the outcome.
+ *
+ * <blockquote><pre>{@code
+ * ViolationCollector vc = Check.collecting();
+ * vc.that(request, "request")
+ *     .has(Request::name, notEmpty())
+ *     .has(Request::email, containsMatch(), "@");
+ * vc.that(request.quantity(), "quantity").is(positive());
+ * vc.check(); // throws one IllegalArgumentException for all violations
+ * }</pre></blockquote>
+ *
+ * <p>The values are tested using {@link ObjectProbe} and {@link IntProbe}
+ * instances that pass their violations on to the {@code ViolationCollector}. As
+ * long as all checks pass, the {@code ViolationCollector} does not allocate any
+ * memory beyond the probes themselves. A {@code ViolationCollector} is not
+ * thread-safe.
+ *
+ * @author Ayco Holleman
+ */
+public final class ViolationCollector {
+
+  private List<Violation> violations;
+
+  ViolationCollector() { }
+
+  /**
+   * Returns an {@link ObjectProbe} for the specified value that passes its
+   * violations on to this {@code ViolationCollector}.
+   *
+   * @param value the value to be tested
+   * @param <T> the type of the value
+   * @return an {@code ObjectProbe} for the specified value
+   */
+  public <T> ObjectProbe<T> that(T value) {
+    return new ObjectProbe<>(value, null, this);
+  }
+
+  /**
+   * Returns an {@link ObjectProbe} for the specified value that passes its
+   * violations on to this {@code ViolationCollector}.
+   *
+   * @param value the value to be tested
+   * @param tag a descriptive name for the value
+   * @param <T> the type of the value
+   * @return an {@code ObjectProbe} for the specified value
+   */
+  public <T> ObjectProbe<T> that(T value, String tag) {
+    return new ObjectProbe<>(value, tag, this);
+  }
+
+  /**
+   * Returns an {@link IntProbe} for the specified value that passes its violations
+   * on to this {@code ViolationCollector}.
+   *
+   * @param value the value to be tested
+   * @return an {@code IntProbe} for the specified value
+   */
+  public IntProbe that(int value) {
+    return new IntProbe(value, null, this);
+  }
+
+  /**
+   * Returns an {@link IntProbe} for the specified value that passes its violations
+   * on to this {@code ViolationCollector}.
+   *
+   * @param value the value to be tested
+   * @param tag a descriptive name for the value
+   * @return an {@code IntProbe} for the specified value
+   */
+  public IntProbe that(int value, String tag) {
+    return new IntProbe(value, tag, this);
+  }
+
+  /**
+   * Returns {@code true} if no violations have been collected, {@code false}
+   * otherwise.
+   *
+   * @return {@code true} if no violations have been collected
+   */
+  public boolean valid() {
+    return violations == null;
+  }
+
+  /**
+   * Returns the collected violations, in the order in which they were found. The
+   * returned list is unmodifiable.
+   *
+   * @return the collected violations
+   */
+  public List<Violation> violations() {
+    return violations == null
+        ? Collections.emptyList()
+        : Collections.unmodifiableList(violations);
+  }
+
+  /**
+   * Throws an {@code IllegalArgumentException} if any violations have been
+   * collected. The exception message contains the error messages of all
+   * violations, separated by "; ".
+   *
+   * @throws IllegalArgumentException if any violations have been collected
+   */
+  public void check() throws IllegalArgumentException {
+    check(CommonExceptions.ARGUMENT);
+  }
+
+  /**
+   * Throws the exception produced by the specified exception factory if any
+   * violations have been collected. The exception message contains the error
+   * messages of all violations, separated by "; ". If the exception factory is a
+   * {@link org.klojang.check.extra.LazyMessageFactory LazyMessageFactory}, the
+   * error messages will only be generated when requested from the exception.
+   *
+   * @param excFactory a function that produces the exception from the error
+   *     message
+   * @param <X> the type of the exception
+   * @throws X if any violations have been collected
+   */
+  public <X extends Exception> void check(Function<String, X> excFactory) throws X {
+    if (violations != null) {
+      List<Violation> snapshot = List.copyOf(violations);
+      throw createException(excFactory, () -> getMessage(snapshot));
+    }
+  }
+
+  /**
+   * Returns the error messages of all collected violations, separated by "; ".
+   * Returns an empty string if no violations have been collected.
+   *
+   * @return the error messages of all collected violations
+   */
+  public String getMessage() {
+    return violations == null ? "" : getMessage(violations);
+  }
+
+  /**
+   * Returns the error messages of all collected violations.
+   *
+   * @return the error messages of all collected violations
+   */
+  @Override
+  public String toString() {
+    return getMessage();
+  }
+
+  void add(Violation violation) {
+    if (violations == null) {
+      violations = new ArrayList<>(4);
+    }
+    violations.add(violation);
+  }
+
+  private static String getMessage(List<Violation> violations) {
+    StringBuilder sb = new StringBuilder(violations.size() * 40);
+    for (Violation v : violations) {
+      if (!sb.isEmpty()) {
+        sb.append("; ");
+      }
+      sb.append(v.getMessage());
+    }
+    return sb.toString();
+  }
+
+}
@@ -0,0 +1,46 @@
+package org.klojang.check.extra;
+
+import org.klojang.check.Check;
+import org.klojang.check.CommonChecks;
+import org.klojang.check.x.EmptinessTable;
+
+import java.util.function.Predicate;
+
+/**
+ * Lets you specify what it means for instances of a type to be empty, without that
+ * type having to implement {@link Emptyable}. This is useful for types you do not
+ * control. The strategy is picked up by the {@link CommonChecks#empty() empty()} and
+ * {@link CommonChecks#notEmpty() notEmpty()} checks, for instances of the type
+ * itself and of all its subtypes. If a value's class is covered by more than
+ * one strategy (including the built-in ones), the value is considered empty if any
+ * of them says so. Strategies are best registered once, during application startup.
+ *
+ * <blockquote><pre>{@code
+ * EmptinessRegistry.register(Money.class, m -> m.amount().signum() == 0);
+ * Check.that(price).is(notEmpty());
+ * }</pre></blockquote>
+ *
+ * @author Ayco Holleman
+ */
+public final class EmptinessRegistry {
+
+  private EmptinessRegistry() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Registers the strategy for determining whether instances of the specified type
+   * are empty. Registering a strategy for a type that already has one replaces that
+   * strategy. The strategy is never passed {@code null}.
+   *
+   * @param type the type
+   * @param isEmpty the predicate that determines whether an instance is empty
+   * @param <T> the type of the values
+   */
+  public static <T> void register(Class<T> type, Predicate<? super T> isEmpty) {
+    Check.notNull(type, "type");
+    Check.notNull(isEmpty, "isEmpty");
+    EmptinessTable.register(type, isEmpty);
+  }
+
+}
@@ -0,0 +1,189 @@
+package org.klojang.check.extra;
+
+import org.klojang.check.Check;
+import org.klojang.check.CommonChecks;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of {@code int} values, meant to be used with the
+ * {@link CommonChecks#inIntSet() inIntSet()} check. Contrary to the
+ * {@link CommonChecks#inIntArray() inIntArray()} check, which scans the entire
+ * array, membership is determined in constant or logarithmic time, without
+ * boxing the value or allocating anything else. The internal representation is
+ * chosen based on the values themselves:
+ *
+ * <ul>
+ *   <li>values that lie close together are stored in a bit set covering the
+ *   range from the smallest to the largest value
+ *   <li>a small number of values lying far apart are stored in a sorted array,
+ *   which is searched using binary search
+ *   <li>otherwise the values are stored in an open-addressing hash table
+ * </ul>
+ *
+ * <p>Error messages only mention the size of the set, rather than (part of) its
+ * contents. Instances are thread-safe.
+ *
+ * <blockquote><pre>{@code
+ * static final IntLookupSet PORTS = IntLookupSet.of(80, 443, 8080, 8443);
+ *
+ * Check.that(port, "port").is(inIntSet(), PORTS);
+ * }</pre></blockquote>
+ *
+ * @author Ayco Holleman
+ */
+public final class IntLookupSet {
+
+  /**
+   * Returns an {@code IntLookupSet} containing the specified values. Duplicate
+   * values are ignored.
+   *
+   * @param values the values
+   * @return an {@code IntLookupSet} containing the specified values
+   */
+  public static IntLookupSet of(int... values) {
+    Check.notNull(values, "values");
+    return new IntLookupSet(values);
+  }
+
+  // A bit set is used if it takes up no more than 64 bits per value, which is
+  // about as much as the hash table would take up
+  private static final int BITS_PER_VALUE = 64;
+
+  // Up to this many values, a sorted array is used rather than a hash table
+  private static final int MAX_SORTED = 32;
+
+  private static final int BITS = 0;
+  private static final int SORTED = 1;
+  private static final int HASHED = 2;
+
+  private final int kind;
+  private final int size;
+
+  // BITS: bit i is set if min + i is in the set
+  private final long[] bits;
+  private final int min;
+
+  // SORTED: the values themselves. HASHED: the hash table, in which 0 marks an
+  // empty slot
+  private final int[] values;
+  private final boolean containsZero;
+
+  private IntLookupSet(int[] values) {
+    int[] sorted = Arrays.stream(values).sorted().distinct().toArray();
+    this.size = sorted.length;
+    if (size == 0) {
+      kind = SORTED;
+      bits = null;
+      min = 0;
+      this.values = sorted;
+      containsZero = false;
+    } else if ((long) sorted[size - 1] - sorted[0] < (long) BITS_PER_VALUE * size) {
+      kind = BITS;
+      min = sorted[0];
+      bits = new long[(int) (((long) sorted[size - 1] - min) >>> 6) + 1];
+      for (int value : sorted) {
+        int i = value - min;
+        bits[i >>> 6] |= 1L << i;
+      }
+      this.values = null;
+      containsZero = false;
+    } else if (size <= MAX_SORTED) {
+      kind = SORTED;
+      bits = null;
+      min = 0;
+      this.values = sorted;
+      containsZero = false;
+    } else {
+      kind = HASHED;
+      bits = null;
+      min = 0;
+      // Keep the load factor at or below 0.5
+      int[] table = new int[Integer.highestOneBit(size * 2 - 1) << 1];
+      int mask = table.length - 1;
+      boolean zero = false;
+      for (int value : sorted) {
+        if (value == 0) {
+          zero = true;
+          continue;
+        }
+        int i = hash(value) & mask;
+        while (table[i] != 0) {
+          i = (i + 1) & mask;
+        }
+        table[i] = value;
+      }
+      this.values = table;
+      containsZero = zero;
+    }
+  }
+
+  /**
+   * Returns {@code true} if this {@code IntLookupSet} contains the specified
+   * value.
+   *
+   * @param value the value
+   * @return {@code true} if this {@code IntLookupSet} contains the specified value
+   */
+  public boolean contains(int value) {
+    return switch (kind) {
+      case BITS -> {
+        // NB the subtraction may overflow, but then the result is negative or
+        // beyond the end of the bit set, so the value is rejected either way
+        int i = value - min;
+        yield i >= 0
+            && (i >>> 6) < bits.length
+            && (bits[i >>> 6] & (1L << i)) != 0;
+      }
+      case SORTED -> Arrays.binarySearch(values, value) >= 0;
+      default -> {
+        if (value == 0) {
+          yield containsZero;
+        }
+        int mask = values.length - 1;
+        int i = hash(value) & mask;
+        for (int v; (v = values[i]) != 0; i = (i + 1) & mask) {
+          if (v == value) {
+            yield true;
+          }
+        }
+        yield false;
+      }
+    };
+  }
+
+  /**
+   * Returns the number of values in this {@code IntLookupSet}.
+   *
+   * @return the number of values in this {@code IntLookupSet}
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns a description of this {@code IntLookupSet} that only mentions its
+   * size.
+   *
+   * @return a description of this {@code IntLookupSet}
+   */
+  @Override
+  public String toString() {
+    return "IntLookupSet[" + size + ']';
+  }
+
+  // For testing purposes
+  String representation() {
+    return switch (kind) {
+      case BITS -> "bits";
+      case SORTED -> "sorted";
+      default -> "hashed";
+    };
+  }
+
+  private static int hash(int value) {
+    int h = value * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+}
@@ -0,0 +1,245 @@
+package org.klojang.check.extra;
+
+import org.klojang.check.Check;
+import org.klojang.check.CommonChecks;
+
+import java.util.*;
+
+import static org.klojang.check.CommonChecks.deepNotNull;
+import static org.klojang.check.x.Misc.toShortString;
+
+/**
+ * An immutable set of keywords, compiled into an Aho–Corasick automaton, so that a
+ * text can be searched for all of them in a single pass. Searching takes time
+ * proportional to the length of the text, no matter how many keywords the set
+ * contains. A {@code KeywordSet} is meant to be created once and then used over and
+ * over again, for example with the {@link CommonChecks#containsAnyOf()
+ * containsAnyOf()} check. Instances are thread-safe.
+ *
+ * <blockquote><pre>{@code
+ * static final KeywordSet BLOCKED = KeywordSet.ofIgnoreCase(loadBlocklist());
+ *
+ * Check.that(comment, "comment").isNot(containsAnyOf(), BLOCKED);
+ * }</pre></blockquote>
+ *
+ * @author Ayco Holleman
+ */
+public final class KeywordSet {
+
+  /**
+   * Returns a {@code KeywordSet} containing the specified keywords.
+   *
+   * @param keywords the keywords
+   * @return a {@code KeywordSet} containing the specified keywords
+   */
+  public static KeywordSet of(String... keywords) {
+    Check.notNull(keywords, "keywords");
+    return of(Arrays.asList(keywords));
+  }
+
+  /**
+   * Returns a {@code KeywordSet} containing the specified keywords.
+   *
+   * @param keywords the keywords
+   * @return a {@code KeywordSet} containing the specified keywords
+   */
+  public static KeywordSet of(Collection<String> keywords) {
+    return new KeywordSet(keywords, false);
+  }
+
+  /**
+   * Returns a {@code KeywordSet} containing the specified keywords, which will be
+   * searched for ignoring case. Case is ignored character by character, as with
+   * {@link String#equalsIgnoreCase(String) String.equalsIgnoreCase()}.
+   *
+   * @param keywords the keywords
+   * @return a {@code KeywordSet} containing the specified keywords
+   */
+  public static KeywordSet ofIgnoreCase(String... keywords) {
+    Check.notNull(keywords, "keywords");
+    return ofIgnoreCase(Arrays.asList(keywords));
+  }
+
+  /**
+   * Returns a {@code KeywordSet} containing the specified keywords, which will be
+   * searched for ignoring case. Case is ignored character by character, as with
+   * {@link String#equalsIgnoreCase(String) String.equalsIgnoreCase()}.
+   *
+   * @param keywords the keywords
+   * @return a {@code KeywordSet} containing the specified keywords
+   */
+  public static KeywordSet ofIgnoreCase(Collection<String> keywords) {
+    return new KeywordSet(keywords, true);
+  }
+
+  private static final int NONE = -1;
+
+  private final List<String> keywords;
+  private final boolean ignoreCase;
+
+  // The automaton. State 0 is the root. For each state: the (sorted) characters
+  // with which to move to a next state, the next states themselves, the state
+  // to fall back to if there is no next state for a character, and the index of
+  // a keyword that ends in this state (or NONE).
+  private final char[][] labels;
+  private final int[][] targets;
+  private final int[] fail;
+  private final int[] found;
+
+  private KeywordSet(Collection<String> keywords, boolean ignoreCase) {
+    Check.notNull(keywords, "keywords").is(deepNotNull());
+    this.keywords = List.copyOf(keywords);
+    this.ignoreCase = ignoreCase;
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    List<Integer> ends = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    ends.add(NONE);
+    for (int i = 0; i < this.keywords.size(); ++i) {
+      String keyword = this.keywords.get(i);
+      int state = 0;
+      for (int j = 0; j < keyword.length(); ++j) {
+        TreeMap<Character, Integer> edges = trie.get(state);
+        Character c = fold(keyword.charAt(j));
+        Integer next = edges.get(c);
+        if (next == null) {
+          edges.put(c, next = trie.size());
+          trie.add(new TreeMap<>());
+          ends.add(NONE);
+        }
+        state = next;
+      }
+      if (ends.get(state) == NONE) {
+        ends.set(state, i);
+      }
+    }
+    int size = trie.size();
+    labels = new char[size][];
+    targets = new int[size][];
+    fail = new int[size];
+    found = new int[size];
+    for (int state = 0; state < size; ++state) {
+      TreeMap<Character, Integer> edges = trie.get(state);
+      labels[state] = new char[edges.size()];
+      targets[state] = new int[edges.size()];
+      int i = 0;
+      for (Map.Entry<Character, Integer> e : edges.entrySet()) {
+        labels[state][i] = e.getKey();
+        targets[state][i++] = e.getValue();
+      }
+    }
+    // Breadth-first, so the fallback state of a state (which is always closer to
+    // the root) is complete by the time we get to the state itself
+    found[0] = ends.get(0);
+    int[] queue = new int[size];
+    int head = 0, tail = 0;
+    queue[tail++] = 0;
+    while (head < tail) {
+      int state = queue[head++];
+      for (int i = 0; i < labels[state].length; ++i) {
+        char c = labels[state][i];
+        int child = targets[state][i];
+        int f = fail[state];
+        int next;
+        while ((next = next(f, c)) == NONE && f != 0) {
+          f = fail[f];
+        }
+        fail[child] = next == NONE || next == child ? 0 : next;
+        found[child] = ends.get(child) != NONE ? ends.get(child) : found[fail[child]];
+        queue[tail++] = child;
+      }
+    }
+  }
+
+  /**
+   * Returns {@code true} if the specified text contains at least one of the
+   * keywords in this {@code KeywordSet}.
+   *
+   * @param text the text to search
+   * @return {@code true} if the specified text contains at least one of the
+   *     keywords in this {@code KeywordSet}
+   */
+  public boolean foundIn(CharSequence text) {
+    return search(text) != NONE;
+  }
+
+  /**
+   * Returns the keyword that is found first when searching the specified text, or
+   * an empty {@code Optional} if the text contains none of the keywords. If several
+   * keywords end at the same position in the text, it is unspecified which of them
+   * is returned.
+   *
+   * @param text the text to search
+   * @return the keyword that is found first when searching the specified text
+   */
+  public Optional<String> findIn(CharSequence text) {
+    int idx = search(text);
+    return idx == NONE ? Optional.empty() : Optional.of(keywords.get(idx));
+  }
+
+  /**
+   * Returns the number of keywords in this {@code KeywordSet}.
+   *
+   * @return the number of keywords in this {@code KeywordSet}
+   */
+  public int size() {
+    return keywords.size();
+  }
+
+  /**
+   * Returns whether case is ignored when searching for the keywords.
+   *
+   * @return whether case is ignored when searching for the keywords
+   */
+  public boolean isIgnoreCase() {
+    return ignoreCase;
+  }
+
+  /**
+   * Returns a short description of this {@code KeywordSet}, listing the first
+   * couple of keywords.
+   *
+   * @return a short description of this {@code KeywordSet}
+   */
+  @Override
+  public String toString() {
+    return "KeywordSet[" + keywords.size() + "] of " + toShortString(keywords, 80);
+  }
+
+  private int search(CharSequence text) {
+    Check.notNull(text, "text");
+    if (found[0] != NONE) { // empty keyword
+      return found[0];
+    }
+    int state = 0;
+    for (int i = 0, len = text.length(); i < len; ++i) {
+      char c = fold(text.charAt(i));
+      int next;
+      while ((next = next(state, c)) == NONE && state != 0) {
+        state = fail[state];
+      }
+      if (next != NONE && found[state = next] != NONE) {
+        return found[state];
+      }
+    }
+    return NONE;
+  }
+
+  private int next(int state, char c) {
+    char[] chars = labels[state];
+    if (chars.length < 8) {
+      for (int i = 0; i < chars.length; ++i) {
+        if (chars[i] == c) {
+          return targets[state][i];
+        }
+      }
+      return NONE;
+    }
+    int i = Arrays.binarySearch(chars, c);
+    return i < 0 ? NONE : targets[state][i];
+  }
+
+  private char fold(char c) {
+    return ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+  }
+
+}
@@ -0,0 +1,64 @@
+package org.klojang.check.extra;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An exception factory that receives the error message as a {@code Supplier} rather
+ * than as a {@code String}. When passed to {@code Check.on(...)}, the error message
+ * for a value that failed a test is not rendered until the {@code Supplier} is
+ * called. The exception produced by the factory is expected to call the
+ * {@code Supplier} from its {@link Throwable#getMessage() getMessage()} method, at
+ * most once. Thus, if the exception is caught and discarded, the error message is
+ * never generated. This can save a lot of work if the message contains the string
+ * representation of a large collection.
+ *
+ * <blockquote><pre>{@code
+ * List<String> tags;
+ * try {
+ *   tags = Check.on(ARGUMENT_LAZY, userTags, "tags").is(contains(), "public").ok();
+ * } catch (IllegalArgumentException e) {
+ *   tags = DEFAULT_TAGS;
+ * }
+ * }</pre></blockquote>
+ *
+ * <p>Note that the message describes the state of the argument at the time the
+ * message is read, not at the time the check failed. If the argument is modified in
+ * between, the message reflects the modification. Also, until then the exception
+ * keeps a reference to the argument.
+ *
+ * <p>The {@link org.klojang.check.CommonExceptions CommonExceptions} class
+ * provides two ready-made implementations: {@code ARGUMENT_LAZY} and
+ * {@code STATE_LAZY}. The exceptions they produce render their message before they
+ * are serialized.
+ *
+ * @param <X> the type of the exception produced by the factory
+ * @author Ayco Holleman
+ */
+@FunctionalInterface
+public interface LazyMessageFactory<X extends Exception> extends
+    Function<String, X> {
+
+  /**
+   * Returns an exception whose message will be provided by the specified
+   * {@code Supplier}.
+   *
+   * @param message the supplier of the exception message
+   * @return an exception whose message will be provided by the specified
+   *     {@code Supplier}
+   */
+  X create(Supplier<String> message);
+
+  /**
+   * Returns an exception with the specified message. Equivalent to
+   * {@code create(() -> message)}.
+   *
+   * @param message the exception message
+   * @return an exception with the specified message
+   */
+  @Override
+  default X apply(String message) {
+    return create(() -> message);
+  }
+
+}
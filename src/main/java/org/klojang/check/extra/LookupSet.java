@@ -0,0 +1,136 @@
+package org.klojang.check.extra;
+
+import org.klojang.check.Check;
+import org.klojang.check.CommonChecks;
+
+import java.util.Collection;
+
+import static org.klojang.check.CommonChecks.deepNotNull;
+
+/**
+ * An immutable set of values, meant to be used with the
+ * {@link CommonChecks#inSet() inSet()} and {@link CommonChecks#notInSet()
+ * notInSet()} checks. Contrary to the {@link CommonChecks#in() in()} and
+ * {@link CommonChecks#inArray() inArray()} checks, which, for lists and arrays,
+ * scan every element, membership is determined in constant time, using an
+ * open-addressing hash table in which the hash codes of the values are stored
+ * alongside the values themselves. Checking membership does not allocate
+ * anything. Also, error messages only mention the size of the set, rather than
+ * (part of) its contents. Instances are thread-safe.
+ *
+ * <blockquote><pre>{@code
+ * static final LookupSet<String> COUNTRY_CODES = LookupSet.copyOf(loadCountryCodes());
+ *
+ * Check.that(countryCode, "countryCode").is(inSet(), COUNTRY_CODES);
+ * }</pre></blockquote>
+ *
+ * @param <E> the type of the values in the set
+ * @author Ayco Holleman
+ */
+public final class LookupSet<E> {
+
+  /**
+   * Returns a {@code LookupSet} containing the specified values. Duplicate values
+   * are ignored.
+   *
+   * @param values the values
+   * @param <E> the type of the values
+   * @return a {@code LookupSet} containing the specified values
+   * @throws IllegalArgumentException if any of the values is {@code null}
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs") // the constructor only reads the array
+  public static <E> LookupSet<E> of(E... values) {
+    Check.notNull(values, "values").is(deepNotNull());
+    return new LookupSet<>(values);
+  }
+
+  /**
+   * Returns a {@code LookupSet} containing the values in the specified collection.
+   * Duplicate values are ignored.
+   *
+   * @param values the values
+   * @param <E> the type of the values
+   * @return a {@code LookupSet} containing the values in the specified collection
+   * @throws IllegalArgumentException if any of the values is {@code null}
+   */
+  public static <E> LookupSet<E> copyOf(Collection<? extends E> values) {
+    Check.notNull(values, "values").is(deepNotNull());
+    return new LookupSet<>(values.toArray());
+  }
+
+  private final Object[] table;
+  private final int[] hashes;
+  private final int mask;
+  private final int size;
+
+  private LookupSet(Object[] values) {
+    // Keep the load factor at or below 0.5, so probe sequences stay short
+    int capacity = Integer.highestOneBit(Math.max(2, values.length) * 2 - 1) << 1;
+    table = new Object[capacity];
+    hashes = new int[capacity];
+    mask = capacity - 1;
+    int count = 0;
+    for (Object value : values) {
+      int hash = hash(value);
+      int i = hash & mask;
+      for (; table[i] != null; i = (i + 1) & mask) {
+        if (hashes[i] == hash && value.equals(table[i])) {
+          break;
+        }
+      }
+      if (table[i] == null) {
+        table[i] = value;
+        hashes[i] = hash;
+        ++count;
+      }
+    }
+    size = count;
+  }
+
+  /**
+   * Returns {@code true} if this {@code LookupSet} contains the specified value.
+   *
+   * @param value the value
+   * @return {@code true} if this {@code LookupSet} contains the specified value
+   */
+  public boolean contains(Object value) {
+    if (value == null) {
+      return false;
+    }
+    int hash = hash(value);
+    for (int i = hash & mask; table[i] != null; i = (i + 1) & mask) {
+      if (hashes[i] == hash && value.equals(table[i])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the number of values in this {@code LookupSet}.
+   *
+   * @return the number of values in this {@code LookupSet}
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns a description of this {@code LookupSet} that only mentions its size.
+   *
+   * @return a description of this {@code LookupSet}
+   */
+  @Override
+  public String toString() {
+    return "LookupSet[" + size + ']';
+  }
+
+  // Spread the high bits of the hash code over the low bits, which are the ones
+  // that determine the slot
+  private static int hash(Object value) {
+    int h = value.hashCode() * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+}
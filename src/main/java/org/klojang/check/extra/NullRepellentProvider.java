@@ -0,0 +1,43 @@
+package org.klojang.check.extra;
+
+import org.klojang.check.CommonChecks;
+
+import java.util.Set;
+
+/**
+ * Service provider interface through which libraries can declare collection and map
+ * classes that do not accept {@code null} values. The
+ * {@link CommonChecks#deepNotNull() deepNotNull()} check returns {@code true} for
+ * instances of these classes without inspecting their elements. Providers are
+ * discovered via {@link java.util.ServiceLoader}, the first time
+ * {@code deepNotNull()} is called on a collection or map. Register them in
+ * {@code module-info.java}:
+ *
+ * <blockquote><pre>{@code
+ * provides org.klojang.check.extra.NullRepellentProvider
+ *     with com.example.collections.MyNullRepellents;
+ * }</pre></blockquote>
+ *
+ * <p>or, for libraries on the class path, in
+ * {@code META-INF/services/org.klojang.check.extra.NullRepellentProvider}. Classes
+ * can also be registered programmatically, using
+ * {@link NullRepellentRegistry#register(Class)}.
+ *
+ * <p>Only the exact classes returned by the provider are considered null-repellent,
+ * not their subclasses, since a subclass might well accept {@code null} values.
+ *
+ * @author Ayco Holleman
+ * @see NullRepellentRegistry
+ */
+public interface NullRepellentProvider {
+
+  /**
+   * Returns the {@code Collection} and {@code Map} classes that do not accept
+   * {@code null} values.
+   *
+   * @return the {@code Collection} and {@code Map} classes that do not accept
+   *     {@code null} values
+   */
+  Set<Class<?>> getNullRepellentTypes();
+
+}
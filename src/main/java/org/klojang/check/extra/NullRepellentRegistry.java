@@ -0,0 +1,44 @@
+package org.klojang.check.extra;
+
+import org.klojang.check.Check;
+import org.klojang.check.CommonChecks;
+import org.klojang.check.x.NullRepellents;
+
+/**
+ * Lets you declare collection and map classes that do not accept {@code null}
+ * values. The {@link CommonChecks#deepNotNull() deepNotNull()} check returns
+ * {@code true} for instances of these classes without inspecting their elements.
+ * Only the exact class is registered, not its subclasses. The immutable collections
+ * and maps returned by {@code List.of()}, {@code Set.of()}, {@code Map.of()} etc.
+ * need not (and cannot) be registered. Libraries can also declare their
+ * null-repellent classes through a {@link NullRepellentProvider}.
+ *
+ * <blockquote><pre>{@code
+ * NullRepellentRegistry.register(ImmutableList.class);
+ * }</pre></blockquote>
+ *
+ * @author Ayco Holleman
+ * @see NullRepellentProvider
+ */
+public final class NullRepellentRegistry {
+
+  private NullRepellentRegistry() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Registers a {@code Collection} or {@code Map} class that does not accept
+   * {@code null} values.
+   *
+   * @param type the {@code Collection} or {@code Map} class
+   * @throws IllegalArgumentException if the class is neither a {@code Collection}
+   *     nor a {@code Map} class
+   */
+  public static void register(Class<?> type) {
+    Check.notNull(type, "type");
+    Check.that(type, "type").is(NullRepellents::isCollectionOrMap,
+        "${tag} must be a Collection or Map class (was ${arg})");
+    NullRepellents.register(type);
+  }
+
+}
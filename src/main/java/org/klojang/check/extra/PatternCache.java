@@ -0,0 +1,229 @@
+package org.klojang.check.extra;
+
+import org.klojang.check.Check;
+import org.klojang.check.CommonChecks;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import static org.klojang.check.CommonChecks.gte;
+
+/**
+ * A bounded, thread-safe cache of compiled regular expressions, used by the
+ * {@link CommonChecks#matches() matches()} and
+ * {@link CommonChecks#containsMatch() containsMatch()} checks, so they do not have
+ * to compile the same pattern over and over again.
+ * Looking up a pattern does not acquire a lock. When the cache is full, a pattern
+ * that has not been looked up since it was cached, or since the previous eviction
+ * round, is evicted (the "clock" or "second chance" approximation of
+ * least-recently-used eviction). The cache
+ * holds at most {@value #DEFAULT_MAX_SIZE} patterns unless configured otherwise.
+ * You can use the cache for your own patterns, too.
+ *
+ * <blockquote><pre>{@code
+ * PatternCache.setMaxSize(1024);
+ * Check.that(zipCode).is(matches(), "^\\d{4}[A-Z]{2}$");
+ * System.out.println(PatternCache.hits() + " hits; " + PatternCache.misses() + " misses");
+ * }</pre></blockquote>
+ *
+ * @author Ayco Holleman
+ */
+public final class PatternCache {
+
+  /**
+   * The default maximum number of patterns in the cache.
+   */
+  public static final int DEFAULT_MAX_SIZE = 256;
+
+  // Patterns compiled with flags are keyed on a Key. Patterns compiled without
+  // flags (by far the most common case) are keyed on the regex itself, so looking
+  // them up does not allocate anything. A Key never equals a String.
+  private record Key(String regex, int flags) { }
+
+  private static final class Entry {
+    final Object key;
+    final Pattern pattern;
+    // Set when the pattern is looked up; cleared when the clock hand passes by
+    volatile boolean used;
+
+    Entry(Object key, Pattern pattern) {
+      this.key = key;
+      this.pattern = pattern;
+    }
+  }
+
+  private static final Map<Object, Entry> cache = new ConcurrentHashMap<>();
+
+  private static final LongAdder hits = new LongAdder();
+  private static final LongAdder misses = new LongAdder();
+  private static final LongAdder evictions = new LongAdder();
+
+  // Serializes evictions, changes to maxSize, and clear()
+  private static final Object lock = new Object();
+
+  private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+  // The clock hand. Guarded by lock. ConcurrentHashMap iterators never throw a
+  // ConcurrentModificationException, so the hand can be kept across evictions.
+  private static Iterator<Entry> hand = Collections.emptyIterator();
+
+  private PatternCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Returns the compiled version of the specified regular expression.
+   *
+   * @param regex the regular expression
+   * @return the compiled version of the specified regular expression
+   * @throws java.util.regex.PatternSyntaxException if the regular expression
+   *     is invalid
+   */
+  public static Pattern get(String regex) {
+    return get(regex, 0);
+  }
+
+  /**
+   * Returns the compiled version of the specified regular expression, compiled
+   * with the specified flags.
+   *
+   * @param regex the regular expression
+   * @param flags the match flags (see {@link Pattern#compile(String, int)})
+   * @return the compiled version of the specified regular expression
+   * @throws java.util.regex.PatternSyntaxException if the regular expression
+   *     is invalid
+   */
+  public static Pattern get(String regex, int flags) {
+    Object key = flags == 0 ? regex : new Key(regex, flags);
+    Entry entry = cache.get(key);
+    if (entry != null) {
+      // Only write if necessary, so frequently used patterns do not keep
+      // invalidating the cache line holding the flag
+      if (!entry.used) {
+        entry.used = true;
+      }
+      hits.increment();
+      return entry.pattern;
+    }
+    misses.increment();
+    // If two threads miss on the same pattern at the same time, both will compile
+    // it, but only one will be cached.
+    Pattern pattern = Pattern.compile(regex, flags);
+    if (maxSize != 0) {
+      entry = new Entry(key, pattern);
+      if (cache.putIfAbsent(key, entry) == null && cache.size() > maxSize) {
+        synchronized (lock) {
+          trim(entry);
+        }
+      }
+    }
+    return pattern;
+  }
+
+  /**
+   * Returns the maximum number of patterns in the cache.
+   *
+   * @return the maximum number of patterns in the cache
+   */
+  public static int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Sets the maximum number of patterns in the cache. If the cache currently
+   * contains more patterns, the surplus is evicted. Specify 0 to disable caching
+   * altogether.
+   *
+   * @param maxSize the maximum number of patterns in the cache
+   * @throws IllegalArgumentException if {@code maxSize} is negative
+   */
+  public static void setMaxSize(int maxSize) {
+    Check.that(maxSize, "maxSize").is(gte(), 0);
+    synchronized (lock) {
+      PatternCache.maxSize = maxSize;
+      trim(null);
+    }
+  }
+
+  /**
+   * Returns the number of patterns currently in the cache.
+   *
+   * @return the number of patterns currently in the cache
+   */
+  public static int size() {
+    return cache.size();
+  }
+
+  /**
+   * Returns the number of times a pattern was found in the cache.
+   *
+   * @return the number of times a pattern was found in the cache
+   */
+  public static long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of times a pattern had to be compiled because it was not
+   * found in the cache.
+   *
+   * @return the number of times a pattern was not found in the cache
+   */
+  public static long misses() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the number of patterns evicted from the cache to make room for
+   * another pattern.
+   *
+   * @return the number of patterns evicted from the cache
+   */
+  public static long evictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Removes all patterns from the cache and resets the hit, miss and eviction
+   * counters.
+   */
+  public static void clear() {
+    synchronized (lock) {
+      cache.clear();
+      hand = Collections.emptyIterator();
+      hits.reset();
+      misses.reset();
+      evictions.reset();
+    }
+  }
+
+  /*
+   * Moves the clock hand around until enough patterns have been evicted. A pattern
+   * that was used since the hand last passed by gets a second chance, and so does
+   * the pattern that was just added. Since other threads keep on setting the flag,
+   * the hand gives up after two rounds and evicts whatever pattern it points at.
+   * Must be called while holding the lock.
+   */
+  private static void trim(Entry added) {
+    int limit = 2 * cache.size() + 1;
+    for (int i = 0; cache.size() > maxSize; ++i) {
+      if (!hand.hasNext()) {
+        hand = cache.values().iterator();
+        if (!hand.hasNext()) {
+          return;
+        }
+      }
+      Entry entry = hand.next();
+      if (i < limit && (entry.used || entry == added)) {
+        entry.used = false;
+      } else if (cache.remove(entry.key, entry)) {
+        evictions.increment();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,49 @@
+package org.klojang.check.extra;
+
+import org.klojang.check.Check;
+import org.klojang.check.CommonChecks;
+
+import static org.klojang.check.CommonChecks.gte;
+
+/**
+ * Bounds the traversal of a value by the
+ * {@link CommonChecks#deepNotEmptyWithin() deepNotEmptyWithin()} check. Use it to
+ * put an upper limit on the CPU and memory spent on values from an untrusted
+ * source, like a configuration tree parsed from JSON. A value that exceeds either
+ * limit fails the check.
+ *
+ * <blockquote><pre>{@code
+ * static final TraversalLimits CONFIG_LIMITS = new TraversalLimits(32, 100_000);
+ *
+ * Check.that(config).is(deepNotEmptyWithin(), CONFIG_LIMITS);
+ * }</pre></blockquote>
+ *
+ * @param maxDepth the maximum nesting depth of collections, maps, arrays and
+ *     {@code Optional}s. The value itself has depth 0, its elements have depth 1,
+ *     etc. If {@code maxDepth} is 0, the value's elements must not themselves be
+ *     collections, maps, arrays or {@code Optional}s.
+ * @param maxElements the maximum number of elements (at any depth) that may be
+ *     inspected. Map keys and map values each count as one element.
+ * @author Ayco Holleman
+ */
+public record TraversalLimits(int maxDepth, int maxElements) {
+
+  /**
+   * {@code TraversalLimits} that effectively impose no limits.
+   */
+  public static final TraversalLimits NONE =
+      new TraversalLimits(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+  /**
+   * Creates a new {@code TraversalLimits} instance.
+   *
+   * @param maxDepth the maximum nesting depth
+   * @param maxElements the maximum number of elements that may be inspected
+   * @throws IllegalArgumentException if either argument is negative
+   */
+  public TraversalLimits {
+    Check.that(maxDepth, "maxDepth").is(gte(), 0);
+    Check.that(maxElements, "maxElements").is(gte(), 0);
+  }
+
+}
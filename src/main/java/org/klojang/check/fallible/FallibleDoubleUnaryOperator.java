@@ -0,0 +1,22 @@
+package org.klojang.check.fallible;
+
+/**
+ * An alternative to the {@link java.util.function.DoubleUnaryOperator} interface
+ * that allows the functional method to throw a checked exception.
+ *
+ * @param <X> the type of the exception potentially being thrown
+ * @author Ayco Holleman
+ */
+@FunctionalInterface
+public interface FallibleDoubleUnaryOperator<X extends Throwable> {
+
+  /**
+   * Applies this operator to the given operand.
+   *
+   * @param operand the operand
+   * @return the operator result
+   * @throws X if the operation fails
+   */
+  double applyAsDouble(double operand) throws X;
+
+}
@@ -0,0 +1,23 @@
+package org.klojang.check.fallible;
+
+import java.util.function.LongConsumer;
+
+/**
+ * An alternative to the {@link LongConsumer} interface that allows the functional
+ * method to throw a checked exception.
+ *
+ * @param <X> the type of the exception potentially being thrown
+ * @author Ayco Holleman
+ */
+@FunctionalInterface
+public interface FallibleLongConsumer<X extends Throwable> {
+
+  /**
+   * Performs this operation on the given argument.
+   *
+   * @param value the input argument
+   * @throws X if the operation fails
+   */
+  void accept(long value) throws X;
+
+}
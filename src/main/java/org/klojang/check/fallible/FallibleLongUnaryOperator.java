@@ -0,0 +1,22 @@
+package org.klojang.check.fallible;
+
+/**
+ * An alternative to the {@link java.util.function.LongUnaryOperator} interface
+ * that allows the functional method to throw a checked exception.
+ *
+ * @param <X> the type of the exception potentially being thrown
+ * @author Ayco Holleman
+ */
+@FunctionalInterface
+public interface FallibleLongUnaryOperator<X extends Throwable> {
+
+  /**
+   * Applies this operator to the given operand.
+   *
+   * @param operand the operand
+   * @return the operator result
+   * @throws X if the operation fails
+   */
+  long applyAsLong(long operand) throws X;
+
+}
@@ -8,5 +8,9 @@
  * @see org.klojang.check.IntCheck#ok(org.klojang.check.fallible.FallibleIntUnaryOperator)
  * @see org.klojang.check.IntCheck#then(org.klojang.check.fallible.FallibleIntConsumer)
  * @see org.klojang.check.IntCheck#mapToObj(org.klojang.check.fallible.FallibleIntFunction)
+ * @see org.klojang.check.LongCheck#ok(org.klojang.check.fallible.FallibleLongUnaryOperator)
+ * @see org.klojang.check.LongCheck#then(org.klojang.check.fallible.FallibleLongConsumer)
+ * @see org.klojang.check.DoubleCheck#ok(org.klojang.check.fallible.FallibleDoubleUnaryOperator)
+ * @see org.klojang.check.DoubleCheck#then(org.klojang.check.fallible.FallibleDoubleConsumer)
  */
 package org.klojang.check.fallible;
\ No newline at end of file
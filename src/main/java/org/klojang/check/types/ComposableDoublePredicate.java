@@ -0,0 +1,173 @@
+package org.klojang.check.types;
+
+import java.util.function.DoublePredicate;
+import java.util.function.Supplier;
+
+/**
+ * An extension of {@link DoublePredicate} that enables the composition of new
+ * tests from instances of {@link DoublePredicate} and {@link DoubleRelation}. It is
+ * the {@code double} counterpart of {@link ComposableIntPredicate}, but it only
+ * provides the compositions that do not require the tested value to be boxed. For more
+ * information, see {@link ComposablePredicate}.
+ *
+ * @author Ayco Holleman
+ */
+@FunctionalInterface
+public interface ComposableDoublePredicate extends DoublePredicate {
+
+  /**
+   * Returns the negation of this predicate.
+   *
+   * @return the negation of this predicate
+   */
+  default ComposableDoublePredicate negated() {
+    return x -> !meFirst(x);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test or the specified test.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate orElse(DoublePredicate test) {
+    return x -> meFirst(x) || test.test(x);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test or if it has the specified
+   * relation to the specified value.
+   *
+   * @param relation the relationship test to combine this test with
+   * @param object the object of the specified relation, with the value of this
+   *     {@code ComposableDoublePredicate} now becoming the subject of that relation
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate orElse(DoubleRelation relation, double object) {
+    return x -> meFirst(x) || relation.exists(x, object);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test or the negation of the
+   * specified test.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate orNot(DoublePredicate test) {
+    return x -> meFirst(x) || !test.test(x);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test or if it does not have the
+   * specified relation to the specified value.
+   *
+   * @param relation the relationship test to combine this test with
+   * @param object the object of the specified relation
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate orNot(DoubleRelation relation, double object) {
+    return x -> meFirst(x) || !relation.exists(x, object);
+  }
+
+  /**
+   * Returns a new test combining this test and the free-form test passed to this
+   * method.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate or(boolean test) {
+    return x -> meFirst(x) || test;
+  }
+
+  /**
+   * Returns a new test combining this test and the free-form test passed to this
+   * method. The free-form test is only evaluated if this test fails.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate orEval(Supplier<Boolean> test) {
+    return x -> meFirst(x) || test.get();
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes both <i>this</i> test and the specified test.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate andAlso(DoublePredicate test) {
+    return x -> meFirst(x) && test.test(x);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test and if it has the specified
+   * relation to the specified value.
+   *
+   * @param relation the relationship test to combine this test with
+   * @param object the object of the specified relation
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate andAlso(DoubleRelation relation, double object) {
+    return x -> meFirst(x) && relation.exists(x, object);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test and fails the specified test.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate andNot(DoublePredicate test) {
+    return x -> meFirst(x) && !test.test(x);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test and if it does not have the
+   * specified relation to the specified value.
+   *
+   * @param relation the relationship test to combine this test with
+   * @param object the object of the specified relation
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate andNot(DoubleRelation relation, double object) {
+    return x -> meFirst(x) && !relation.exists(x, object);
+  }
+
+  /**
+   * Returns a new test combining this test and the free-form test passed to this
+   * method.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate and(boolean test) {
+    return x -> meFirst(x) && test;
+  }
+
+  /**
+   * Returns a new test combining this test and the free-form test passed to this
+   * method. The free-form test is only evaluated if this test passes.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableDoublePredicate andEval(Supplier<Boolean> test) {
+    return x -> meFirst(x) && test.get();
+  }
+
+  private boolean meFirst(double d) {
+    return ComposableDoublePredicate.this.test(d);
+  }
+
+}
@@ -0,0 +1,173 @@
+package org.klojang.check.types;
+
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+
+/**
+ * An extension of {@link LongPredicate} that enables the composition of new tests
+ * from instances of {@link LongPredicate} and {@link LongRelation}. It is the
+ * {@code long} counterpart of {@link ComposableIntPredicate}, but it only provides
+ * the compositions that do not require the tested value to be boxed. For more
+ * information, see {@link ComposablePredicate}.
+ *
+ * @author Ayco Holleman
+ */
+@FunctionalInterface
+public interface ComposableLongPredicate extends LongPredicate {
+
+  /**
+   * Returns the negation of this predicate.
+   *
+   * @return the negation of this predicate
+   */
+  default ComposableLongPredicate negated() {
+    return x -> !meFirst(x);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test or the specified test.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate orElse(LongPredicate test) {
+    return x -> meFirst(x) || test.test(x);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test or if it has the specified
+   * relation to the specified value.
+   *
+   * @param relation the relationship test to combine this test with
+   * @param object the object of the specified relation, with the value of this
+   *     {@code ComposableLongPredicate} now becoming the subject of that relation
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate orElse(LongRelation relation, long object) {
+    return x -> meFirst(x) || relation.exists(x, object);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test or the negation of the
+   * specified test.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate orNot(LongPredicate test) {
+    return x -> meFirst(x) || !test.test(x);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test or if it does not have the
+   * specified relation to the specified value.
+   *
+   * @param relation the relationship test to combine this test with
+   * @param object the object of the specified relation
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate orNot(LongRelation relation, long object) {
+    return x -> meFirst(x) || !relation.exists(x, object);
+  }
+
+  /**
+   * Returns a new test combining this test and the free-form test passed to this
+   * method.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate or(boolean test) {
+    return x -> meFirst(x) || test;
+  }
+
+  /**
+   * Returns a new test combining this test and the free-form test passed to this
+   * method. The free-form test is only evaluated if this test fails.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate orEval(Supplier<Boolean> test) {
+    return x -> meFirst(x) || test.get();
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes both <i>this</i> test and the specified test.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate andAlso(LongPredicate test) {
+    return x -> meFirst(x) && test.test(x);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test and if it has the specified
+   * relation to the specified value.
+   *
+   * @param relation the relationship test to combine this test with
+   * @param object the object of the specified relation
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate andAlso(LongRelation relation, long object) {
+    return x -> meFirst(x) && relation.exists(x, object);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test and fails the specified test.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate andNot(LongPredicate test) {
+    return x -> meFirst(x) && !test.test(x);
+  }
+
+  /**
+   * Returns a new test combining this test and the specified test. A value will
+   * pass the new test if it passes <i>this</i> test and if it does not have the
+   * specified relation to the specified value.
+   *
+   * @param relation the relationship test to combine this test with
+   * @param object the object of the specified relation
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate andNot(LongRelation relation, long object) {
+    return x -> meFirst(x) && !relation.exists(x, object);
+  }
+
+  /**
+   * Returns a new test combining this test and the free-form test passed to this
+   * method.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate and(boolean test) {
+    return x -> meFirst(x) && test;
+  }
+
+  /**
+   * Returns a new test combining this test and the free-form test passed to this
+   * method. The free-form test is only evaluated if this test passes.
+   *
+   * @param test the test to combine this test with
+   * @return a new test combining this test and the specified test
+   */
+  default ComposableLongPredicate andEval(Supplier<Boolean> test) {
+    return x -> meFirst(x) && test.get();
+  }
+
+  private boolean meFirst(long l) {
+    return ComposableLongPredicate.this.test(l);
+  }
+
+}
@@ -0,0 +1,48 @@
+package org.klojang.check.types;
+
+/**
+ * Defines a relationship between two {@code double} values. For example, if x
+ * equals 5.5 and y equals 3.2, then the <b>is-greater-than</b> relation exists
+ * between x and y. See the {@linkplain org.klojang.check.types package description}
+ * for more information.
+ *
+ * @author Ayco Holleman
+ * @see IntRelation
+ */
+@FunctionalInterface
+public interface DoubleRelation {
+
+  /**
+   * Returns the converse of this relation, swapping subject and object in the
+   * relationship. For example, the converse of <b>x &gt; y</b> is <b>y &gt; x</b>
+   * (or <b>x &lt;= y</b>).
+   *
+   * @return the converse of this {@code DoubleRelation}
+   */
+  default DoubleRelation converse() {
+    return (x, y) -> exists(y, x);
+  }
+
+  /**
+   * Returns the negation of this {@code DoubleRelation}. For example, the negation
+   * of <b>x &gt; y</b> is <b>!(x &gt; y)</b>. Note that, because of {@code NaN}, the
+   * negation of <b>x &gt; y</b> is not the same as <b>x &lt;= y</b> for all values
+   * of x and y.
+   *
+   * @return the negation of this {@code DoubleRelation}
+   */
+  default DoubleRelation negate() {
+    return (x, y) -> !exists(x, y);
+  }
+
+  /**
+   * Determines whether {@code subject} relates to {@code object} in the manner
+   * defined by this {@code DoubleRelation}.
+   *
+   * @param subject The value to test
+   * @param object The value to test it against
+   * @return {@code true} if the relation exists, {@code false} otherwise.
+   */
+  boolean exists(double subject, double object);
+
+}
@@ -1,8 +1,5 @@
 package org.klojang.check.types;
 
-import static java.util.Arrays.stream;
-import static java.util.Objects.requireNonNull;
-
 final class Private {
 
   static <S, O, P extends O> boolean testAgainstArray(S subject,
@@ -10,9 +7,9 @@ final class Private {
       Quantifier quantifier,
       P[] objects) {
     return switch (quantifier) {
-      case ALL -> stream(objects).allMatch(o -> relation.exists(subject, o));
-      case ANY -> stream(objects).anyMatch(o -> relation.exists(subject, o));
-      case NONE -> stream(objects).noneMatch(o -> relation.exists(subject, o));
+      case ALL -> allMatch(subject, relation, objects);
+      case ANY -> anyMatch(subject, relation, objects);
+      case NONE -> !anyMatch(subject, relation, objects);
     };
   }
 
@@ -21,10 +18,50 @@ final class Private {
       Quantifier quantifier,
       int[] objects) {
     return switch (quantifier) {
-      case ALL -> stream(objects).allMatch(o -> relation.exists(subject, o));
-      case ANY -> stream(objects).anyMatch(o -> relation.exists(subject, o));
-      case NONE -> stream(objects).noneMatch(o -> relation.exists(subject, o));
+      case ALL -> allMatch(subject, relation, objects);
+      case ANY -> anyMatch(subject, relation, objects);
+      case NONE -> !anyMatch(subject, relation, objects);
     };
   }
 
+  private static <S, O, P extends O> boolean allMatch(S subject,
+      Relation<S, O> relation,
+      P[] objects) {
+    for (P o : objects) {
+      if (!relation.exists(subject, o)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static <S, O, P extends O> boolean anyMatch(S subject,
+      Relation<S, O> relation,
+      P[] objects) {
+    for (P o : objects) {
+      if (relation.exists(subject, o)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean allMatch(int subject, IntRelation relation, int[] objects) {
+    for (int o : objects) {
+      if (!relation.exists(subject, o)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean anyMatch(int subject, IntRelation relation, int[] objects) {
+    for (int o : objects) {
+      if (relation.exists(subject, o)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
 }
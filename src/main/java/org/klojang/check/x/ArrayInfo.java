@@ -2,13 +2,20 @@ package org.klojang.check.x;
 
 public record ArrayInfo(Class<?> baseType, int dimensions) {
 
-  public static ArrayInfo create(Class<?> arrayClass) {
-    var c = arrayClass.getComponentType();
-    int i = 1;
-    for (; c.isArray(); c = c.getComponentType()) {
-      ++i;
+  private static final ClassValue<ArrayInfo> CACHE = new ClassValue<>() {
+    @Override
+    protected ArrayInfo computeValue(Class<?> arrayClass) {
+      var c = arrayClass.getComponentType();
+      int i = 1;
+      for (; c.isArray(); c = c.getComponentType()) {
+        ++i;
+      }
+      return new ArrayInfo(c, i);
     }
-    return new ArrayInfo(c, i);
+  };
+
+  public static ArrayInfo create(Class<?> arrayClass) {
+    return CACHE.get(arrayClass);
   }
 
   public static String describe(Object array) {
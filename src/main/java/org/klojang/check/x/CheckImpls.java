@@ -2,11 +2,16 @@ package org.klojang.check.x;
 
 import org.klojang.check.CorruptCheckException;
 import org.klojang.check.extra.Emptyable;
+import org.klojang.check.extra.TraversalLimits;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 
 import static org.klojang.check.x.Misc.getArrayLength;
 import static org.klojang.check.x.Misc.notApplicable;
@@ -17,68 +22,58 @@ import static org.klojang.check.x.Misc.notApplicable;
  */
 public final class CheckImpls {
 
-  // Collection classes of which we _know_ that they will not accept null values.
-  private static final Set<Class<?>> NULL_REPELLERS =
-      // Actually, List.of(1) and List.of(1, 2) currently return the same type, but
-      // better safe than sorry. They will anyhow be de-duplicated when entering
-      // the HashSet
-      Set.copyOf(new HashSet<>(
-          Arrays.asList(
-              Collections.emptyList().getClass(),
-              Collections.emptySet().getClass(),
-              List.of().getClass(),
-              List.of(1).getClass(),
-              List.of(1, 2).getClass(),
-              List.of(1, 2, 3).getClass(),
-              Set.of().getClass(),
-              Set.of(1).getClass(),
-              Set.of(1, 2).getClass(),
-              Set.of(1, 2, 3).getClass())));
-
-  // Map implementations of which we _know_ that they will not accept null values.
-  private static final Set<Class<?>> NULL_REPELLENT_MAPS =
-      Set.copyOf(new HashSet<>(Arrays.asList(
-          Collections.emptyMap().getClass(),
-          Map.of().getClass(),
-          Map.of(1, 'a').getClass(),
-          Map.of(1, 'a', 2, 'b').getClass(),
-          Map.of(1, 'a', 2, 'b', 3, 'c').getClass()
-      )));
+  // The minimum number of elements scanned by a single ElementScan task
+  private static final int MIN_LEAF_SIZE = 1024;
 
   public static <T> boolean isEmpty(T arg) {
-    return arg == null
-        || (arg instanceof CharSequence cs && cs.isEmpty())
-        || (arg instanceof Collection<?> c && c.isEmpty())
-        || (isArray(arg) && getArrayLength(arg) == 0)
-        || (arg instanceof Map<?, ?> m && m.isEmpty())
-        || (arg instanceof Object[] x && x.length == 0)
-        || (arg instanceof Optional<?> o && (o.isEmpty() || isEmpty(o.get())))
-        || (arg instanceof Emptyable e && e.isEmpty())
-        || (arg instanceof File f && isEmptyFile(f))
-        ;
+    return EmptinessTable.isEmpty(arg);
   }
 
   public static <T> boolean isNotEmpty(T arg) {
-    return arg != null
-        && (!(arg instanceof CharSequence cs) || !cs.isEmpty())
-        && (!(arg instanceof Collection<?> c) || !c.isEmpty())
-        && (!isArray(arg) || getArrayLength(arg) != 0)
-        && (!(arg instanceof Map<?, ?> m) || !m.isEmpty())
-        && (!(arg instanceof Object[] x) || x.length != 0)
-        && (!(arg instanceof Optional<?> o) || (o.isPresent() && isNotEmpty(o.get())))
-        && (!(arg instanceof Emptyable e) || !e.isEmpty())
-        && (!(arg instanceof File f) || !isEmptyFile(f))
-        ;
+    return !EmptinessTable.isEmpty(arg);
   }
 
   public static boolean isDeepNotEmpty(Object arg) {
+    return isDeepNotEmpty(arg, TraversalLimits.NONE);
+  }
+
+  public static boolean isDeepNotEmpty(Object arg, TraversalLimits limits) {
+    if (limits == null) {
+      throw new CorruptCheckException("traversal limits must not be null");
+    }
+    if (DeepTraversal.isContainer(arg)) {
+      return new DeepTraversal(arg, limits.maxDepth(), limits.maxElements())
+          .isDeepNotEmpty();
+    }
+    return isDeepNotEmptyLeaf(arg);
+  }
+
+  public static boolean isDeepNotEmpty(Object arg, Integer parallelismThreshold) {
+    checkParallelismThreshold(parallelismThreshold);
+    return switch (arg) {
+      case Collection<?> c when c.size() < parallelismThreshold || c instanceof Emptyable ->
+          isDeepNotEmpty(c);
+      case List<?> l when l instanceof RandomAccess ->
+          new ElementScan(l::get, CheckImpls::isDeepNotEmpty, 0, l.size(),
+              leafSize(l.size()), new AtomicBoolean()).invoke();
+      case Collection<?> c -> c.parallelStream().allMatch(CheckImpls::isDeepNotEmpty);
+      case Map<?, ?> m when m.size() < parallelismThreshold || m instanceof Emptyable ->
+          isDeepNotEmpty(m);
+      case Map<?, ?> m -> m.entrySet().parallelStream()
+          .allMatch(e -> isDeepNotEmpty(e.getKey()) && isDeepNotEmpty(e.getValue()));
+      case Object[] o when o.length < parallelismThreshold -> isDeepNotEmpty(o);
+      case Object[] o ->
+          new ElementScan(i -> o[i], CheckImpls::isDeepNotEmpty, 0, o.length,
+              leafSize(o.length), new AtomicBoolean()).invoke();
+      case null, default -> isDeepNotEmpty(arg);
+    };
+  }
+
+  // Checks values other than collections, maps, object arrays and Optionals
+  static boolean isDeepNotEmptyLeaf(Object arg) {
     return arg != null
         && (!(arg instanceof CharSequence cs) || cs.length() > 0)
-        && (!(arg instanceof Collection<?> c) || dne(c))
         && (!isArray(arg) || getArrayLength(arg) != 0)
-        && (!(arg instanceof Map<?, ?> m) || dne(m))
-        && (!(arg instanceof Object[] x) || dne(x))
-        && (!(arg instanceof Optional<?> o) || dne(o))
         && (!(arg instanceof Emptyable e) || e.isDeepNotEmpty())
         && (!(arg instanceof File f) || isBlankFile(f))
         ;
@@ -87,10 +82,31 @@ public final class CheckImpls {
   public static boolean isDeepNotNull(Object arg) {
     return switch (arg) {
       case null -> false;
-      case Collection<?> c -> isNullRepellent(c) || c.stream().allMatch(Objects::nonNull);
-      case Map<?, ?> m -> isNullRepellent(m) || m.entrySet().stream()
+      case Collection<?> c -> isNullRepellent(c) || noNulls(c);
+      case Map<?, ?> m -> isNullRepellent(m) || noNulls(m);
+      case Object[] o -> noNulls(o);
+      default -> true;
+    };
+  }
+
+  public static boolean isDeepNotNull(Object arg, Integer parallelismThreshold) {
+    checkParallelismThreshold(parallelismThreshold);
+    return switch (arg) {
+      case null -> false;
+      case Collection<?> c when c.size() < parallelismThreshold || isNullRepellent(c) ->
+          isDeepNotNull(c);
+      case List<?> l when l instanceof RandomAccess ->
+          new ElementScan(l::get, Objects::nonNull, 0, l.size(),
+              leafSize(l.size()), new AtomicBoolean()).invoke();
+      case Collection<?> c -> c.parallelStream().allMatch(Objects::nonNull);
+      case Map<?, ?> m when m.size() < parallelismThreshold || isNullRepellent(m) ->
+          isDeepNotNull(m);
+      case Map<?, ?> m -> m.entrySet().parallelStream()
           .allMatch(e -> e.getKey() != null && e.getValue() != null);
-      case Object[] o -> Arrays.stream(o).allMatch(Objects::nonNull);
+      case Object[] o when o.length < parallelismThreshold -> isDeepNotNull(o);
+      case Object[] o ->
+          new ElementScan(i -> o[i], Objects::nonNull, 0, o.length,
+              leafSize(o.length), new AtomicBoolean()).invoke();
       default -> true;
     };
   }
@@ -146,49 +162,130 @@ public final class CheckImpls {
     throw notApplicable("indexInclusiveOf", obj.getClass());
   }
 
-  private static boolean dne(Collection<?> coll) {
-    if (coll.isEmpty()) {
-      return false;
+  // The null checks below use plain loops rather than streams. They sit in the
+  // hot path of request validation, where most collections are small and the
+  // cost of setting up a stream pipeline would dominate. (See DeepTraversal for
+  // the deepNotEmpty check.)
+
+  private static boolean noNulls(Collection<?> coll) {
+    if (coll instanceof HashSet<?> set) { // includes LinkedHashSet
+      return !set.contains(null);
+    } else if (coll instanceof List<?> list && list instanceof RandomAccess) {
+      for (int i = 0, size = list.size(); i < size; ++i) {
+        if (list.get(i) == null) {
+          return false;
+        }
+      }
+      return true;
     }
-    return coll.stream().allMatch(CheckImpls::isDeepNotEmpty);
+    for (Object e : coll) {
+      if (e == null) {
+        return false;
+      }
+    }
+    return true;
   }
 
-  private static boolean dne(Map<?, ?> map) {
-    if (map.isEmpty()) {
-      return false;
+  private static boolean noNulls(Map<?, ?> map) {
+    if (map instanceof HashMap<?, ?> hm) { // includes LinkedHashMap
+      return !hm.containsKey(null) && !hm.containsValue(null);
+    }
+    for (Map.Entry<?, ?> e : map.entrySet()) {
+      if (e.getKey() == null || e.getValue() == null) {
+        return false;
+      }
     }
-    return map.entrySet().stream().allMatch(CheckImpls::entryDeepNotEmpty);
+    return true;
   }
 
-  private static boolean entryDeepNotEmpty(Object obj) {
-    var e = (Map.Entry<?, ?>) obj;
-    return isDeepNotEmpty(e.getKey()) && isDeepNotEmpty(e.getValue());
+  private static boolean noNulls(Object[] arr) {
+    for (Object e : arr) {
+      if (e == null) {
+        return false;
+      }
+    }
+    return true;
   }
 
-  private static boolean dne(Object[] arr) {
-    if (arr.length == 0) {
-      return false;
+  private static void checkParallelismThreshold(Integer threshold) {
+    if (threshold == null) {
+      throw new CorruptCheckException("parallelism threshold must not be null");
+    } else if (threshold < 1) {
+      throw new CorruptCheckException("parallelism threshold must be positive");
     }
-    return Arrays.stream(arr).allMatch(CheckImpls::isDeepNotEmpty);
   }
 
-  private static boolean dne(Optional<?> opt) {
-    return opt.isPresent() && isDeepNotEmpty(opt.get());
+  private static int leafSize(int size) {
+    int parallelism = ForkJoinPool.getCommonPoolParallelism();
+    return Math.max(MIN_LEAF_SIZE, size / (parallelism << 2));
+  }
+
+  /*
+   * Tests the elements in a range of a List or array, splitting the range in halves
+   * until it is no larger than leafSize. All tasks share the same "failed" flag, so
+   * they can all stop as soon as any of them finds an invalid element.
+   */
+  @SuppressWarnings("serial")
+  private static final class ElementScan extends RecursiveTask<Boolean> {
+
+    private final IntFunction<?> elements;
+    private final Predicate<Object> test;
+    private final int from;
+    private final int to;
+    private final int leafSize;
+    private final AtomicBoolean failed;
+
+    ElementScan(IntFunction<?> elements,
+        Predicate<Object> test,
+        int from,
+        int to,
+        int leafSize,
+        AtomicBoolean failed) {
+      this.elements = elements;
+      this.test = test;
+      this.from = from;
+      this.to = to;
+      this.leafSize = leafSize;
+      this.failed = failed;
+    }
+
+    @Override
+    protected Boolean compute() {
+      if (to - from <= leafSize) {
+        for (int i = from; i < to; ++i) {
+          if (!test.test(elements.apply(i))) {
+            failed.set(true);
+            return false;
+          }
+          // Poll the shared flag every 256 elements
+          if ((i & 0xff) == 0 && failed.get()) {
+            return false;
+          }
+        }
+        return true;
+      }
+      int mid = (from + to) >>> 1;
+      ElementScan left = new ElementScan(elements, test, from, mid, leafSize, failed);
+      left.fork();
+      boolean right = new ElementScan(elements, test, mid, to, leafSize, failed).compute();
+      return left.join() && right;
+    }
+
   }
 
   private static boolean isNullRepellent(Collection<?> c) {
-    return NULL_REPELLERS.contains(c.getClass());
+    return NullRepellents.isNullRepellent(c);
   }
 
   private static boolean isNullRepellent(Map<?, ?> m) {
-    return NULL_REPELLENT_MAPS.contains(m.getClass());
+    return NullRepellents.isNullRepellent(m);
   }
 
   private static boolean isArray(Object obj) {
     return obj.getClass().isArray();
   }
 
-  private static boolean isEmptyFile(File f) {
+  static boolean isEmptyFile(File f) {
     if (!f.exists()) {
       throw new CorruptCheckException(
           "cannot execute [empty] check on non-existing file (apply [fileExists] check first)");
@@ -0,0 +1,138 @@
+package org.klojang.check.x;
+
+import org.klojang.check.extra.Emptyable;
+
+import java.util.*;
+
+/*
+ * Iterative implementation of the deepNotEmpty check. Collections, maps, object
+ * arrays and Optionals ("containers") are not traversed recursively, but pushed
+ * onto an explicit work stack, so deeply nested values cannot cause a
+ * StackOverflowError. Containers are tracked by identity, so a container that
+ * (directly or indirectly) contains itself is traversed only once. The work stack
+ * and the visited set are only allocated once a nested container is encountered,
+ * so checking a flat collection allocates nothing but this object.
+ */
+final class DeepTraversal {
+
+  private final Object root;
+  private final int maxDepth;
+
+  // The number of elements that may still be inspected
+  private int budget;
+
+  private Object[] stack;
+  private int[] depths;
+  private int top;
+  private Set<Object> visited;
+
+  DeepTraversal(Object root, int maxDepth, int maxElements) {
+    this.root = root;
+    this.maxDepth = maxDepth;
+    this.budget = maxElements;
+  }
+
+  static boolean isContainer(Object obj) {
+    return obj instanceof Collection
+        || obj instanceof Map
+        || obj instanceof Object[]
+        || obj instanceof Optional;
+  }
+
+  boolean isDeepNotEmpty() {
+    if (!traverse(root, 0)) {
+      return false;
+    }
+    while (top > 0) {
+      Object container = stack[--top];
+      stack[top] = null;
+      if (!traverse(container, depths[top])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean traverse(Object container, int depth) {
+    if (container instanceof Emptyable e && !e.isDeepNotEmpty()) {
+      return false;
+    }
+    switch (container) {
+      case List<?> list when list instanceof RandomAccess -> {
+        if (list.isEmpty()) {
+          return false;
+        }
+        for (int i = 0, size = list.size(); i < size; ++i) {
+          if (!visit(list.get(i), depth)) {
+            return false;
+          }
+        }
+      }
+      case Collection<?> coll -> {
+        if (coll.isEmpty()) {
+          return false;
+        }
+        for (Object e : coll) {
+          if (!visit(e, depth)) {
+            return false;
+          }
+        }
+      }
+      case Map<?, ?> map -> {
+        if (map.isEmpty()) {
+          return false;
+        }
+        for (Map.Entry<?, ?> e : map.entrySet()) {
+          if (!visit(e.getKey(), depth) || !visit(e.getValue(), depth)) {
+            return false;
+          }
+        }
+      }
+      case Object[] arr -> {
+        if (arr.length == 0) {
+          return false;
+        }
+        for (Object e : arr) {
+          if (!visit(e, depth)) {
+            return false;
+          }
+        }
+      }
+      case Optional<?> opt -> {
+        return opt.isPresent() && visit(opt.get(), depth);
+      }
+      default -> throw new AssertionError();
+    }
+    return true;
+  }
+
+  // Checks a non-container element right away, or schedules a container element
+  // for traversal. The element is contained in a container at the specified depth.
+  private boolean visit(Object element, int depth) {
+    if (--budget < 0) {
+      return false;
+    }
+    if (!isContainer(element)) {
+      return CheckImpls.isDeepNotEmptyLeaf(element);
+    }
+    if (depth == maxDepth) {
+      return false;
+    }
+    if (visited == null) {
+      visited = Collections.newSetFromMap(new IdentityHashMap<>());
+      visited.add(root);
+      stack = new Object[16];
+      depths = new int[16];
+    }
+    if (visited.add(element)) {
+      if (top == stack.length) {
+        stack = Arrays.copyOf(stack, top << 1);
+        depths = Arrays.copyOf(depths, top << 1);
+      }
+      stack[top] = element;
+      depths[top++] = depth + 1;
+    }
+    return true;
+  }
+
+}
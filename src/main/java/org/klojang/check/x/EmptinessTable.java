@@ -0,0 +1,117 @@
+package org.klojang.check.x;
+
+import org.klojang.check.extra.Emptyable;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/*
+ * Implements the empty() and notEmpty() checks. Rather than running through a
+ * chain of instanceof tests for every value, the strategy for determining whether
+ * a value is empty is worked out once for each runtime class, and then memoized
+ * in a ClassValue. Strategies for other types can be registered via
+ * org.klojang.check.extra.EmptinessRegistry.
+ */
+public final class EmptinessTable {
+
+  private static final Predicate<Object> NEVER = x -> false;
+  private static final Predicate<Object> CHAR_SEQUENCE = x -> ((CharSequence) x).isEmpty();
+  private static final Predicate<Object> COLLECTION = x -> ((Collection<?>) x).isEmpty();
+  private static final Predicate<Object> MAP = x -> ((Map<?, ?>) x).isEmpty();
+  private static final Predicate<Object> OBJECT_ARRAY = x -> ((Object[]) x).length == 0;
+  private static final Predicate<Object> ARRAY = x -> Misc.getArrayLength(x) == 0;
+  private static final Predicate<Object> OPTIONAL = EmptinessTable::isEmptyOptional;
+  private static final Predicate<Object> EMPTYABLE = x -> ((Emptyable) x).isEmpty();
+  private static final Predicate<Object> FILE = x -> CheckImpls.isEmptyFile((File) x);
+
+  // The strategies registered through EmptinessRegistry
+  private static final Map<Class<?>, Predicate<Object>> registered =
+      new ConcurrentHashMap<>();
+
+  // Replaced whenever a strategy is registered, so the strategies memoized for the
+  // subtypes of the registered type are discarded, too.
+  private static volatile ClassValue<Predicate<Object>> table = newTable();
+
+  private EmptinessTable() {
+    throw new UnsupportedOperationException();
+  }
+
+  public static boolean isEmpty(Object arg) {
+    return arg == null || table.get(arg.getClass()).test(arg);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> void register(Class<T> type, Predicate<? super T> isEmpty) {
+    registered.put(type, (Predicate<Object>) isEmpty);
+    table = newTable();
+  }
+
+  private static ClassValue<Predicate<Object>> newTable() {
+    return new ClassValue<>() {
+      @Override
+      protected Predicate<Object> computeValue(Class<?> type) {
+        return strategyFor(type);
+      }
+    };
+  }
+
+  /*
+   * A value is empty if any of the applicable strategies says so. Usually there is
+   * just one, or none at all.
+   */
+  private static Predicate<Object> strategyFor(Class<?> type) {
+    List<Predicate<Object>> strategies = new ArrayList<>(2);
+    registered.forEach((cls, strategy) -> {
+      if (cls.isAssignableFrom(type)) {
+        strategies.add(strategy);
+      }
+    });
+    if (CharSequence.class.isAssignableFrom(type)) {
+      strategies.add(CHAR_SEQUENCE);
+    }
+    if (Collection.class.isAssignableFrom(type)) {
+      strategies.add(COLLECTION);
+    }
+    if (Map.class.isAssignableFrom(type)) {
+      strategies.add(MAP);
+    }
+    if (type.isArray()) {
+      strategies.add(type.getComponentType().isPrimitive() ? ARRAY : OBJECT_ARRAY);
+    }
+    if (type == Optional.class) {
+      strategies.add(OPTIONAL);
+    }
+    if (Emptyable.class.isAssignableFrom(type)) {
+      strategies.add(EMPTYABLE);
+    }
+    if (File.class.isAssignableFrom(type)) {
+      strategies.add(FILE);
+    }
+    return switch (strategies.size()) {
+      case 0 -> NEVER;
+      case 1 -> strategies.get(0);
+      default -> anyOf(strategies);
+    };
+  }
+
+  private static Predicate<Object> anyOf(List<Predicate<Object>> strategies) {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Predicate<Object>[] arr = strategies.toArray(new Predicate[0]);
+    return x -> {
+      for (Predicate<Object> strategy : arr) {
+        if (strategy.test(x)) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  private static boolean isEmptyOptional(Object obj) {
+    Optional<?> opt = (Optional<?>) obj;
+    return opt.isEmpty() || isEmpty(opt.get());
+  }
+
+}
@@ -5,8 +5,6 @@ import org.klojang.check.CorruptCheckException;
 import java.util.*;
 import java.util.function.Function;
 
-import static java.lang.invoke.MethodHandles.arrayElementGetter;
-import static java.lang.invoke.MethodHandles.arrayLength;
 import static java.util.stream.Collectors.joining;
 
 public final class Misc {
@@ -19,12 +17,21 @@ public final class Misc {
     throw new UnsupportedOperationException();
   }
 
+  // Every array is either an Object[] or one of the eight primitive array types,
+  // so we don't need reflection or method handles to get an array's length
   public static int getArrayLength(Object array) {
-    try {
-      return (int) arrayLength(array.getClass()).invoke(array);
-    } catch (Throwable t) {
-      throw new CorruptCheckException(t.toString());
-    }
+    return switch (array) {
+      case Object[] a -> a.length;
+      case int[] a -> a.length;
+      case long[] a -> a.length;
+      case double[] a -> a.length;
+      case byte[] a -> a.length;
+      case char[] a -> a.length;
+      case float[] a -> a.length;
+      case short[] a -> a.length;
+      case boolean[] a -> a.length;
+      default -> throw new CorruptCheckException("not an array: " + array.getClass());
+    };
   }
 
   public static String describe(Object obj) {
@@ -172,24 +179,28 @@ public final class Misc {
     int len = getArrayLength(array);
     int x = Math.min(to, len);
     StringBuilder sb = new StringBuilder();
-    try {
-      for (int i = 0; i < x; ++i) {
-        if (i != 0) {
-          sb.append(SEP);
-        }
-        Object o = getArrayElement(array, i);
-        sb.append(stringifier.apply(o));
+    for (int i = 0; i < x; ++i) {
+      if (i != 0) {
+        sb.append(SEP);
       }
-    } catch (Throwable t) {
-      throw new CorruptCheckException(t.toString());
+      sb.append(stringifier.apply(getArrayElement(array, i)));
     }
     return sb.toString();
   }
 
-  @SuppressWarnings("unchecked")
-  private static <T> T getArrayElement(Object array, int idx)
-      throws Throwable {
-    return (T) arrayElementGetter(array.getClass()).invoke(array, idx);
+  private static Object getArrayElement(Object array, int idx) {
+    return switch (array) {
+      case Object[] a -> a[idx];
+      case int[] a -> a[idx];
+      case long[] a -> a[idx];
+      case double[] a -> a[idx];
+      case byte[] a -> a[idx];
+      case char[] a -> a[idx];
+      case float[] a -> a[idx];
+      case short[] a -> a[idx];
+      case boolean[] a -> a[idx];
+      default -> throw new CorruptCheckException("not an array: " + array.getClass());
+    };
   }
 
   private static int divUp(int value, int divideBy) {
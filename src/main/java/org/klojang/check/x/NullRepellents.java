@@ -0,0 +1,122 @@
+package org.klojang.check.x;
+
+import org.klojang.check.extra.NullRepellentProvider;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/*
+ * Keeps track of the collection and map classes of which we know that they do not
+ * accept null values, so the deepNotNull check does not have to inspect their
+ * elements. Besides the JDK classes listed below, classes can be registered via
+ * org.klojang.check.extra.NullRepellentRegistry or declared by a
+ * NullRepellentProvider. The outcome of the lookup is cached per class.
+ */
+public final class NullRepellents {
+
+  // Actually, List.of(1) and List.of(1, 2) currently return the same type, but
+  // better safe than sorry. They will anyhow be de-duplicated when entering the
+  // HashSet
+  private static final Set<Class<?>> BUILT_IN =
+      Set.copyOf(new HashSet<>(Arrays.asList(
+          Collections.emptyList().getClass(),
+          Collections.emptySet().getClass(),
+          List.of().getClass(),
+          List.of(1).getClass(),
+          List.of(1, 2).getClass(),
+          List.of(1, 2, 3).getClass(),
+          Set.of().getClass(),
+          Set.of(1).getClass(),
+          Set.of(1, 2).getClass(),
+          Set.of(1, 2, 3).getClass(),
+          ConcurrentLinkedQueue.class,
+          ConcurrentLinkedDeque.class,
+          ConcurrentSkipListSet.class,
+          Collections.emptyMap().getClass(),
+          Map.of().getClass(),
+          Map.of(1, 'a').getClass(),
+          Map.of(1, 'a', 2, 'b').getClass(),
+          Map.of(1, 'a', 2, 'b', 3, 'c').getClass(),
+          ConcurrentHashMap.class,
+          ConcurrentSkipListMap.class)));
+
+  private static final Set<Class<?>> registered = ConcurrentHashMap.newKeySet();
+
+  // Replaced whenever a class is registered, so a class that was looked up before
+  // it got registered is looked up again.
+  private static volatile ClassValue<Boolean> cache = newCache();
+
+  private NullRepellents() {
+    throw new UnsupportedOperationException();
+  }
+
+  public static boolean isNullRepellent(Object obj) {
+    return cache.get(obj.getClass());
+  }
+
+  public static void register(Class<?> type) {
+    if (registered.add(type)) {
+      cache = newCache();
+    }
+  }
+
+  public static boolean isCollectionOrMap(Class<?> type) {
+    return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+  }
+
+  private static ClassValue<Boolean> newCache() {
+    return new ClassValue<>() {
+      @Override
+      protected Boolean computeValue(Class<?> type) {
+        return BUILT_IN.contains(type)
+            || registered.contains(type)
+            || Providers.TYPES.contains(type);
+      }
+    };
+  }
+
+  /*
+   * Collects the classes declared by the specified providers. A provider that
+   * cannot be instantiated, or that fails or returns null, is skipped: a broken
+   * provider must not break the deepNotNull check. If loading a provider fails,
+   * the ServiceLoader iterator moves on to the next one.
+   */
+  static Set<Class<?>> load(Iterator<NullRepellentProvider> providers) {
+    Set<Class<?>> types = new HashSet<>();
+    while (true) {
+      Set<Class<?>> declared;
+      try {
+        if (!providers.hasNext()) {
+          break;
+        }
+        declared = providers.next().getNullRepellentTypes();
+      } catch (ServiceConfigurationError | RuntimeException e) {
+        continue;
+      }
+      if (declared != null) {
+        for (Class<?> type : declared) {
+          if (type != null && isCollectionOrMap(type)) {
+            types.add(type);
+          }
+        }
+      }
+    }
+    return Set.copyOf(types);
+  }
+
+  // Lazily loads the classes declared by NullRepellentProviders
+  private static final class Providers {
+
+    private static final Set<Class<?>> TYPES = load();
+
+    private static Set<Class<?>> load() {
+      try {
+        return NullRepellents.load(
+            ServiceLoader.load(NullRepellentProvider.class).iterator());
+      } catch (ServiceConfigurationError e) {
+        return Set.of();
+      }
+    }
+  }
+
+}
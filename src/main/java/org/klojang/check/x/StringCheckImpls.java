@@ -1,15 +1,15 @@
 package org.klojang.check.x;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.Map;
 import java.util.function.Predicate;
 
 import static java.math.BigDecimal.ONE;
 
 /*
- * Implementations of string-to-number checks in the CommonChecks class. Separate
- * from the CheckImpl class because there are quite a few of them.
+ * Implementations of string checks in the CommonChecks class (mostly
+ * string-to-number checks). Separate from the CheckImpl class because there are
+ * quite a few of them.
  */
 public final class StringCheckImpls {
 
@@ -51,40 +51,45 @@ public final class StringCheckImpls {
   private static final int MAX_SHORT_STR_LEN =
       String.valueOf(Short.MAX_VALUE).length();
 
+  // Possible outcomes of scanIntegral()
+  private static final int IN_RANGE = 0;
+  private static final int INVALID = 1; // out of range, or no number at all
+  private static final int NOT_INTEGRAL = 2; // may still be a valid BigDecimal
+
   private StringCheckImpls() {
     throw new UnsupportedOperationException();
   }
 
   private static boolean isLongExact(String s) {
-    return isExact(s, 63);
+    return scanIntegral(s, Long.MIN_VALUE, Long.MAX_VALUE) == IN_RANGE;
   }
 
   private static boolean isIntExact(String s) {
-    return isExact(s, 31);
+    return scanIntegral(s, Integer.MIN_VALUE, Integer.MAX_VALUE) == IN_RANGE;
   }
 
   private static boolean isShortExact(String s) {
-    return isExact(s, 15);
+    return scanIntegral(s, Short.MIN_VALUE, Short.MAX_VALUE) == IN_RANGE;
   }
 
   private static boolean isByteExact(String s) {
-    return isExact(s, 7);
+    return scanIntegral(s, Byte.MIN_VALUE, Byte.MAX_VALUE) == IN_RANGE;
   }
 
   private static boolean isLong(String s) {
-    return parsable(s, MIN_LONG_BD, MAX_LONG_BD);
+    return parsable(s, Long.MIN_VALUE, Long.MAX_VALUE, MIN_LONG_BD, MAX_LONG_BD);
   }
 
   private static boolean isInt(String s) {
-    return parsable(s, MIN_INT_BD, MAX_INT_BD);
+    return parsable(s, Integer.MIN_VALUE, Integer.MAX_VALUE, MIN_INT_BD, MAX_INT_BD);
   }
 
   private static boolean isShort(String s) {
-    return parsable(s, MIN_SHORT_BD, MAX_SHORT_BD);
+    return parsable(s, Short.MIN_VALUE, Short.MAX_VALUE, MIN_SHORT_BD, MAX_SHORT_BD);
   }
 
   private static boolean isByte(String s) {
-    return parsable(s, MIN_BYTE_BD, MAX_BYTE_BD);
+    return parsable(s, Byte.MIN_VALUE, Byte.MAX_VALUE, MIN_BYTE_BD, MAX_BYTE_BD);
   }
 
   private static boolean isDouble(String s) {
@@ -133,14 +138,14 @@ public final class StringCheckImpls {
   }
 
   public static boolean isPlainInt(String s) {
-    return isPlain(s, MAX_INT_STR_LEN, 31);
+    return isPlain(s, MAX_INT_STR_LEN, Integer.MAX_VALUE);
   }
 
   public static boolean isPlainShort(String s) {
-    return isPlain(s, MAX_SHORT_STR_LEN, 15);
+    return isPlain(s, MAX_SHORT_STR_LEN, Short.MAX_VALUE);
   }
 
-  private static boolean isPlain(String s, int maxStrLen, int maxBitLen) {
+  private static boolean isPlain(String s, int maxStrLen, long max) {
     if (s.isEmpty() || s.length() > maxStrLen) {
       return false;
     } else if (s.charAt(0) == '0') {
@@ -151,34 +156,123 @@ public final class StringCheckImpls {
     if ((c = s.charAt(0)) < '0' || c > '9') {
       return false;
     }
+    return scanIntegral(s, 0, max) == IN_RANGE;
+  }
+
+  private static boolean parsable(String s,
+      long min,
+      long max,
+      BigDecimal minBD,
+      BigDecimal maxBD) {
+    int result = scanIntegral(s, min, max);
+    if (result != NOT_INTEGRAL) {
+      return result == IN_RANGE;
+    }
+    // Fractional part and/or exponent. Only now do we need BigDecimal.
     try {
-      return new BigInteger(s).bitLength() <= maxBitLen;
+      BigDecimal bd;
+      return isRound(bd = new BigDecimal(s))
+          && bd.compareTo(minBD) >= 0
+          && bd.compareTo(maxBD) <= 0;
     } catch (NumberFormatException e) {
       return false;
     }
   }
 
-  private static boolean isExact(String s, int bitLength) {
-    if (!s.isEmpty()) {
-      try {
-        return new BigInteger(s).bitLength() <= bitLength;
-      } catch (NumberFormatException ignored) {
+  /*
+   * Determines whether a string is an optionally signed integer within the specified
+   * range, without allocating anything. Digits are recognized the way BigInteger and
+   * BigDecimal recognize them. As in Long.parseLong, the value is accumulated as a
+   * negative number, so Long.MIN_VALUE can be represented, too. Once the value is
+   * out of range, we stop accumulating, but we keep scanning, because a fractional
+   * part or exponent further down the string might still bring it back in range
+   * ("1000000000000e-3"). The first character that is neither a digit, nor a
+   * decimal point, nor an exponent indicator makes the string invalid.
+   */
+  private static int scanIntegral(String s, long min, long max) {
+    int len = s.length();
+    int i = 0;
+    boolean negative = false;
+    char c;
+    if (len != 0 && ((c = s.charAt(0)) == '-' || c == '+')) {
+      negative = c == '-';
+      i = 1;
+    }
+    if (i == len) {
+      return INVALID;
+    }
+    long limit = negative ? min : -max;
+    long multmin = limit / 10;
+    long value = 0;
+    boolean overflow = false;
+    for (; i < len; ++i) {
+      int digit = Character.digit(c = s.charAt(i), 10);
+      if (digit < 0) {
+        return c == '.' || c == 'e' || c == 'E' ? NOT_INTEGRAL : INVALID;
+      } else if (!overflow) {
+        if (value < multmin || (value *= 10) < limit + digit) {
+          overflow = true;
+        } else {
+          value -= digit;
+        }
+      }
+    }
+    return overflow ? INVALID : IN_RANGE;
+  }
+
+  /*
+   * Equivalent to Pattern.compile(sub, CASE_INSENSITIVE | LITERAL).matcher(s).find(),
+   * but without allocating anything. Without the UNICODE_CASE flag, Pattern only
+   * folds the case of US-ASCII letters, so that is what we do, too. Also like
+   * Pattern, if the substring contains surrogates, we only look for it at code
+   * point boundaries.
+   */
+  public static boolean hasSubstringIC(String s, String sub) {
+    int len = sub.length();
+    if (len == 0) {
+      return true;
+    }
+    boolean surrogates = hasSurrogates(sub);
+    int first = toLowerAscii(sub.charAt(0));
+    for (int i = 0, max = s.length() - len; i <= max; ++i) {
+      if (toLowerAscii(s.charAt(i)) == first
+          && equalsIgnoreAsciiCase(s, i, sub, len)
+          && (!surrogates || (!splitsSurrogatePair(s, i)
+          && !splitsSurrogatePair(s, i + len)))) {
+        return true;
       }
     }
     return false;
   }
 
-  private static boolean parsable(String s, BigDecimal min, BigDecimal max) {
-    if (!s.isEmpty()) {
-      try {
-        BigDecimal bd;
-        return isRound(bd = new BigDecimal(s))
-            && bd.compareTo(min) >= 0
-            && bd.compareTo(max) <= 0;
-      } catch (NumberFormatException ignored) {
+  private static boolean equalsIgnoreAsciiCase(String s, int from, String sub, int len) {
+    for (int i = 1; i < len; ++i) {
+      if (toLowerAscii(s.charAt(from + i)) != toLowerAscii(sub.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int toLowerAscii(char c) {
+    return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+  }
+
+  private static boolean hasSurrogates(String s) {
+    for (int i = 0; i < s.length(); ++i) {
+      if (Character.isSurrogate(s.charAt(i))) {
+        return true;
       }
     }
     return false;
   }
 
+  // Whether idx points to the low surrogate of a surrogate pair
+  private static boolean splitsSurrogatePair(String s, int idx) {
+    return idx > 0
+        && idx < s.length()
+        && Character.isLowSurrogate(s.charAt(idx))
+        && Character.isHighSurrogate(s.charAt(idx - 1));
+  }
+
 }
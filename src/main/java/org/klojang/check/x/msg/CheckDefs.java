@@ -1,17 +1,13 @@
 package org.klojang.check.x.msg;
 
-import org.klojang.check.types.ComposableIntPredicate;
-import org.klojang.check.types.IntObjRelation;
-import org.klojang.check.types.IntRelation;
-import org.klojang.check.types.Relation;
+import org.klojang.check.types.*;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.function.IntPredicate;
-import java.util.function.Predicate;
+import java.util.function.*;
 
 import static org.klojang.check.CommonChecks.*;
+import static org.klojang.check.x.msg.MsgDoublePredicate.*;
 import static org.klojang.check.x.msg.MsgIntObjRelation.msgIndexInclusiveInto;
 import static org.klojang.check.x.msg.MsgIntObjRelation.msgIndexOf;
 import static org.klojang.check.x.msg.MsgIntPredicate.*;
@@ -27,6 +23,10 @@ public final class CheckDefs {
   private static final Map<Relation<?, ?>, Function<MsgArgs, String>> relationFormatters;
   private static final Map<IntRelation, Function<MsgArgs, String>> intRelationFormatters;
   private static final Map<IntObjRelation<?>, Function<MsgArgs, String>> intObjRelationFormatters;
+  private static final Map<LongPredicate, Function<MsgArgs, String>> longPredicateFormatters;
+  private static final Map<LongRelation, Function<MsgArgs, String>> longRelationFormatters;
+  private static final Map<DoublePredicate, Function<MsgArgs, String>> doublePredicateFormatters;
+  private static final Map<DoubleRelation, Function<MsgArgs, String>> doubleRelationFormatters;
 
   private static final Map<Object, String> names;
 
@@ -35,6 +35,10 @@ public final class CheckDefs {
   private static Map<Relation<?, ?>, Function<MsgArgs, String>> relationFormattersTemp = new HashMap<>();
   private static Map<IntRelation, Function<MsgArgs, String>> intRelationFormattersTemp = new HashMap<>();
   private static Map<IntObjRelation<?>, Function<MsgArgs, String>> intObjRelationFormattersTemp = new HashMap<>();
+  private static Map<LongPredicate, Function<MsgArgs, String>> longPredicateFormattersTemp = new HashMap<>();
+  private static Map<LongRelation, Function<MsgArgs, String>> longRelationFormattersTemp = new HashMap<>();
+  private static Map<DoublePredicate, Function<MsgArgs, String>> doublePredicateFormattersTemp = new HashMap<>();
+  private static Map<DoubleRelation, Function<MsgArgs, String>> doubleRelationFormattersTemp = new HashMap<>();
 
   private static Map<Object, String> namesTemp = new HashMap<>();
 
@@ -47,7 +51,10 @@ public final class CheckDefs {
     setMetadata(emptyString(), msgEmpty(), "emptyString"); // recycle message
     setMetadata(notEmpty(), msgNotEmpty(), "notEmpty");
     setMetadata(deepNotNull(), msgDeepNotNull(), "deepNotNull");
+    setMetadata(deepNotNullParallel(), msgDeepNotNull(), "deepNotNullParallel"); // recycle message
     setMetadata(deepNotEmpty(), msgDeepNotEmpty(), "deepNotEmpty");
+    setMetadata(deepNotEmptyParallel(), msgDeepNotEmpty(), "deepNotEmptyParallel"); // recycle message
+    setMetadata(deepNotEmptyWithin(), msgDeepNotEmptyWithin(), "deepNotEmptyWithin");
     setMetadata(blank(), msgBlank(), "blank");
     setMetadata(plainInt(), msgPlainInt(), "plainInt");
     setMetadata(plainShort(), msgPlainShort(), "plainShort");
@@ -91,10 +98,13 @@ public final class CheckDefs {
     setMetadata(keyIn(), msgKeyIn(), "keyIn");
     setMetadata(valueIn(), msgValueIn(), "valueIn");
     setMetadata(inArray(), msgIn(), "inArray"); // Recycle message
+    setMetadata(inSet(), msgInSet(), "inSet");
+    setMetadata(notInSet(), msgNotInSet(), "notInSet");
     setMetadata(containsAll(), msgContainsAll(), "containsAll");
     setMetadata(containedIn(), msgContainedIn(), "containedIn");
     setMetadata(hasSubstring(), msgHasSubstring(), "hasSubstring");
     setMetadata(hasSubstringIC(), msgHasSubstringIC(), "hasSubstringIC");
+    setMetadata(containsAnyOf(), msgContainsAnyOf(), "containsAnyOf");
     setMetadata(substringOf(), msgSubstringOf(), "substringOf");
     setMetadata(equalsIC(), msgEqualsIC(), "equalsIC");
     setMetadata(startsWith(), msgStartsWith(), "startsWith");
@@ -110,12 +120,36 @@ public final class CheckDefs {
     setMetadata(indexOf(), msgIndexOf(), "indexOf");
     setMetadata(indexInclusiveOf(), msgIndexInclusiveInto(), "indexInclusiveInto");
     setMetadata(inIntArray(), msgIn(), "inIntArray"); // Recycle message
+    setMetadata(inIntSet(), msgInSet(), "inIntSet"); // Recycle message
+    setLongMetadata(positiveLong(), msgPositive(), "positiveLong");
+    setLongMetadata(negativeLong(), msgNegative(), "negativeLong");
+    setLongMetadata(zeroLong(), msgZero(), "zeroLong");
+    setLongMetadata(eqLong(), msgEq(), "eqLong");
+    setLongMetadata(neLong(), msgNe(), "neLong");
+    setLongMetadata(gtLong(), msgGt(), "gtLong");
+    setLongMetadata(gteLong(), msgGte(), "gteLong");
+    setLongMetadata(ltLong(), msgLt(), "ltLong");
+    setLongMetadata(lteLong(), msgLte(), "lteLong");
+    setLongMetadata(multipleOfLong(), msgMultipleOf(), "multipleOfLong");
+    setDoubleMetadata(positiveDouble(), msgPositive(), "positiveDouble");
+    setDoubleMetadata(negativeDouble(), msgNegative(), "negativeDouble");
+    setDoubleMetadata(finite(), msgFinite(), "finite");
+    setDoubleMetadata(notNaN(), msgNotNaN(), "notNaN");
+    setDoubleMetadata(gtDouble(), msgGt(), "gtDouble");
+    setDoubleMetadata(gteDouble(), msgGte(), "gteDouble");
+    setDoubleMetadata(ltDouble(), msgLt(), "ltDouble");
+    setDoubleMetadata(lteDouble(), msgLte(), "lteDouble");
+    setDoubleMetadata(multipleOfDouble(), msgMultipleOf(), "multipleOfDouble");
 
     predicateFormatters = Map.copyOf(predicateFormattersTemp);
     intPredicateFormatters = Map.copyOf(intPredicateFormattersTemp);
     relationFormatters = Map.copyOf(relationFormattersTemp);
     intRelationFormatters = Map.copyOf(intRelationFormattersTemp);
     intObjRelationFormatters = Map.copyOf(intObjRelationFormattersTemp);
+    longPredicateFormatters = Map.copyOf(longPredicateFormattersTemp);
+    longRelationFormatters = Map.copyOf(longRelationFormattersTemp);
+    doublePredicateFormatters = Map.copyOf(doublePredicateFormattersTemp);
+    doubleRelationFormatters = Map.copyOf(doubleRelationFormattersTemp);
     names = Map.copyOf(namesTemp);
 
     predicateFormattersTemp = null;
@@ -123,6 +157,10 @@ public final class CheckDefs {
     relationFormattersTemp = null;
     intRelationFormattersTemp = null;
     intObjRelationFormattersTemp = null;
+    longPredicateFormattersTemp = null;
+    longRelationFormattersTemp = null;
+    doublePredicateFormattersTemp = null;
+    doubleRelationFormattersTemp = null;
     namesTemp = null;
   }
 
@@ -150,6 +188,22 @@ public final class CheckDefs {
     return intObjRelationFormatters.get(relation);
   }
 
+  public static Function<MsgArgs, String> getLongPredicateFormatter(LongPredicate predicate) {
+    return longPredicateFormatters.get(predicate);
+  }
+
+  public static Function<MsgArgs, String> getLongRelationFormatter(LongRelation relation) {
+    return longRelationFormatters.get(relation);
+  }
+
+  public static Function<MsgArgs, String> getDoublePredicateFormatter(DoublePredicate predicate) {
+    return doublePredicateFormatters.get(predicate);
+  }
+
+  public static Function<MsgArgs, String> getDoubleRelationFormatter(DoubleRelation relation) {
+    return doubleRelationFormatters.get(relation);
+  }
+
   private static void setMetadata(Predicate<?> check, PrefabMsgFormatter formatter, String name) {
     predicateFormattersTemp.put(check, formatter);
     namesTemp.put(check, name);
@@ -175,4 +229,24 @@ public final class CheckDefs {
     namesTemp.put(check, name);
   }
 
+  private static void setLongMetadata(ComposableLongPredicate check, PrefabMsgFormatter formatter, String name) {
+    longPredicateFormattersTemp.put(check, formatter);
+    namesTemp.put(check, name);
+  }
+
+  private static void setLongMetadata(LongRelation check, PrefabMsgFormatter formatter, String name) {
+    longRelationFormattersTemp.put(check, formatter);
+    namesTemp.put(check, name);
+  }
+
+  private static void setDoubleMetadata(ComposableDoublePredicate check, PrefabMsgFormatter formatter, String name) {
+    doublePredicateFormattersTemp.put(check, formatter);
+    namesTemp.put(check, name);
+  }
+
+  private static void setDoubleMetadata(DoubleRelation check, PrefabMsgFormatter formatter, String name) {
+    doubleRelationFormattersTemp.put(check, formatter);
+    namesTemp.put(check, name);
+  }
+
 }
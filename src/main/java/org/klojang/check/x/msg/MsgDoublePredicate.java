@@ -0,0 +1,21 @@
+package org.klojang.check.x.msg;
+
+final class MsgDoublePredicate {
+
+  private MsgDoublePredicate() {
+    throw new AssertionError();
+  }
+
+  static PrefabMsgFormatter msgFinite() {
+    return x -> x.negated()
+        ? x.name() + " must not be finite (was " + x.arg() + ')'
+        : x.name() + " must be finite (was " + x.arg() + ')';
+  }
+
+  static PrefabMsgFormatter msgNotNaN() {
+    return x -> x.negated()
+        ? x.name() + " must be NaN (was " + x.arg() + ')'
+        : x.name() + " must not be NaN";
+  }
+
+}
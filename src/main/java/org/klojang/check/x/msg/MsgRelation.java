@@ -1,5 +1,8 @@
 package org.klojang.check.x.msg;
 
+import org.klojang.check.extra.KeywordSet;
+import org.klojang.check.extra.TraversalLimits;
+
 import static org.klojang.check.x.msg.MsgUtil.*;
 
 @SuppressWarnings("rawtypes")
@@ -15,6 +18,21 @@ public final class MsgRelation {
     //@formatter:on
   }
 
+  public static PrefabMsgFormatter msgDeepNotEmptyWithin() {
+    //@formatter:off
+    return x -> x.negated()
+        ? x.name() + " must be empty, contain empty values or exceed " + limits(x.obj()) + WAS + toStr(x.arg()) + ')'
+        : x.name() + " must not be empty, contain empty values or exceed " + limits(x.obj()) + WAS + toStr(x.arg()) + ')';
+    //@formatter:on
+  }
+
+  private static String limits(Object obj) {
+    if (obj instanceof TraversalLimits tl) {
+      return "a depth of " + tl.maxDepth() + " or " + tl.maxElements() + " elements";
+    }
+    return toStr(obj);
+  }
+
   public static PrefabMsgFormatter msgNullOr() {
     //@formatter:off
     return x -> x.negated()
@@ -123,6 +141,37 @@ public final class MsgRelation {
     //@formatter:off
   }
 
+  public static PrefabMsgFormatter msgInSet() {
+    //@formatter:off
+    return x -> x.negated()
+        ? x.name() + " must not be element of " + toStr(x.obj()) + WAS + toStr(x.arg()) + ')'
+        : x.name() + " must be element of " + toStr(x.obj()) + WAS + toStr(x.arg()) + ')';
+    //@formatter:on
+  }
+
+  public static PrefabMsgFormatter msgNotInSet() {
+    //@formatter:off
+    return x -> x.negated()
+        ? x.name() + " must be element of " + toStr(x.obj()) + WAS + toStr(x.arg()) + ')'
+        : x.name() + " must not be element of " + toStr(x.obj()) + WAS + toStr(x.arg()) + ')';
+    //@formatter:on
+  }
+
+  public static PrefabMsgFormatter msgContainsAnyOf() {
+    //@formatter:off
+    return x -> x.negated()
+        ? x.name() + " must not contain any of " + toStr(x.obj()) + " (found " + toStr(foundKeyword(x.obj(), x.arg())) + ')'
+        : x.name() + " must contain any of " + toStr(x.obj()) + WAS + toStr(x.arg()) + ')';
+    //@formatter:on
+  }
+
+  private static String foundKeyword(Object keywords, Object text) {
+    if (keywords instanceof KeywordSet ks && text instanceof CharSequence cs) {
+      return ks.findIn(cs).orElse(null);
+    }
+    return null;
+  }
+
   public static PrefabMsgFormatter msgSubstringOf() {
     //@formatter:off
     return x -> x.negated()
@@ -1,11 +1,13 @@
 package org.klojang.check.x.msg;
 
+import org.klojang.check.extra.LazyMessageFactory;
 import org.klojang.check.x.ArrayInfo;
 import org.klojang.check.x.Misc;
 
 import java.util.Collection;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.lang.System.identityHashCode;
 import static org.klojang.check.x.Misc.*;
@@ -24,6 +26,15 @@ public final class MsgUtil {
 
   public static final String WAS = " (was ";
 
+  // Only renders the message right away if the exception factory needs it
+  public static <X extends Exception> X createException(
+      Function<String, X> excFactory, Supplier<String> message) {
+    if (excFactory instanceof LazyMessageFactory<X> lmf) {
+      return lmf.create(message);
+    }
+    return excFactory.apply(message.get());
+  }
+
   public static String getDefaultPredicateMessage(String argName, Object argVal) {
     if (argName == null) {
       return "invalid value: " + toStr(argVal);
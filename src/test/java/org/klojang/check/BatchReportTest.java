@@ -0,0 +1,124 @@
+package org.klojang.check;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+import static org.klojang.check.CommonChecks.*;
+import static org.klojang.check.CommonProperties.strlen;
+
+public class BatchReportTest {
+
+  private static final Validator<String> USER_NAME =
+      Validator.<String>builder("userName")
+          .is(notNull())
+          .has(strlen(), lte(), 8)
+          .build();
+
+  @Test
+  public void valid00() {
+    BatchReport report = USER_NAME.validateAll(List.of("john", "mary", "pete"));
+    assertTrue(report.valid());
+    assertEquals(3, report.size());
+    assertEquals(0, report.invalidCount());
+    assertTrue(report.invalid().isEmpty());
+    assertTrue(report.violations().isEmpty());
+    assertTrue(report.violation(1).isEmpty());
+    report.check();
+  }
+
+  @Test
+  public void invalid00() {
+    String[] names = {"john", null, "mary", "johnathan_1", "pete"};
+    BatchReport report = USER_NAME.validateAll(names);
+    assertFalse(report.valid());
+    assertEquals(5, report.size());
+    assertEquals(2, report.invalidCount());
+    BitSet expected = new BitSet();
+    expected.set(1);
+    expected.set(3);
+    assertEquals(expected, report.invalid());
+    assertTrue(report.isInvalid(3));
+    assertFalse(report.isInvalid(4));
+    assertEquals("userName must not be null",
+        report.violation(1).orElseThrow().getMessage());
+    assertEquals("userName.length() must be <= 8 (was 11)",
+        report.violation(3).orElseThrow().getMessage());
+    assertTrue(report.violation(2).isEmpty());
+    assertEquals(2, report.violations().size());
+  }
+
+  @Test
+  public void invalid01() {
+    List<String> names = new LinkedList<>();
+    for (int i = 0; i < 100; ++i) {
+      names.add(i % 3 == 0 ? "johnathan_" + i : "john");
+    }
+    BatchReport report = USER_NAME.validateAll(names);
+    assertEquals(34, report.invalidCount());
+    assertEquals(34, report.invalid().cardinality());
+    assertTrue(report.isInvalid(99));
+    assertEquals("johnathan_99".length(),
+        report.violation(99).orElseThrow().getValue());
+  }
+
+  @Test
+  public void check00() {
+    BatchReport report = USER_NAME.validateAll(List.of("john", "johnathan_1"));
+    try {
+      report.check();
+    } catch (IllegalArgumentException e) {
+      assertEquals(
+          "element 1 (1 of 1 invalid elements): userName.length() must be <= 8 (was 11)",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void parallel00() {
+    String[] names = new String[10_000];
+    for (int i = 0; i < names.length; ++i) {
+      names[i] = i % 7 == 0 ? "johnathan_" + i : i % 11 == 0 ? null : "john";
+    }
+    BatchReport expected = USER_NAME.validateAll(names);
+    BatchReport report = USER_NAME.validateAllParallel(names,
+        100,
+        ForkJoinPool.commonPool());
+    assertEquals(10_000, report.size());
+    assertEquals(expected.invalidCount(), report.invalidCount());
+    assertEquals(expected.invalid(), report.invalid());
+    for (int i = 0; i < names.length; ++i) {
+      assertEquals(expected.violation(i).map(Violation::getMessage),
+          report.violation(i).map(Violation::getMessage));
+    }
+    report = USER_NAME.validateAllParallel(Arrays.asList(names),
+        33,
+        ForkJoinPool.commonPool());
+    assertEquals(expected.invalid(), report.invalid());
+  }
+
+  @Test
+  public void parallel01() {
+    BatchReport report = USER_NAME.validateAllParallel(List.of("john", "johnathan"));
+    assertEquals(2, report.size());
+    assertTrue(report.isInvalid(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void parallel02() {
+    USER_NAME.validateAllParallel(List.of("john"), 0, ForkJoinPool.commonPool());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void violation00() {
+    USER_NAME.validateAll(List.of("john")).violation(1);
+  }
+
+}
@@ -1,6 +1,7 @@
 package org.klojang.check;
 
 import org.junit.Test;
+import org.klojang.check.extra.TraversalLimits;
 
 import java.io.*;
 import java.nio.file.Files;
@@ -256,6 +257,215 @@ public class CommonChecksTest {
     Check.that(m).is(deepNotNull());
   }
 
+  @Test
+  public void deepNotNull09() {
+    Set<String> set = new HashSet<>(List.of("FOO", "BAR"));
+    List<String> list = new LinkedList<>(List.of("FOO", "BAR"));
+    Map<String, String> map = new TreeMap<>(Map.of("FOO", "BAR"));
+    assertTrue(Check.test(set).is(deepNotNull()).valid());
+    assertTrue(Check.test(list).is(deepNotNull()).valid());
+    assertTrue(Check.test(map).is(deepNotNull()).valid());
+    set.add(null);
+    list.add(null);
+    map.put("BAR", null);
+    assertFalse(Check.test(set).is(deepNotNull()).valid());
+    assertFalse(Check.test(list).is(deepNotNull()).valid());
+    assertFalse(Check.test(map).is(deepNotNull()).valid());
+  }
+
+  @Test
+  public void deepNotEmpty12() {
+    List<Object> list = new ArrayList<>(List.of("FOO", List.of("BAR")));
+    Map<String, Object> map = new LinkedHashMap<>(Map.of("FOO", Set.of("BAR")));
+    assertTrue(Check.test(list).is(deepNotEmpty()).valid());
+    assertTrue(Check.test(new LinkedList<>(list)).is(deepNotEmpty()).valid());
+    assertTrue(Check.test(map).is(deepNotEmpty()).valid());
+    list.add(List.of(""));
+    map.put("BAR", Set.of());
+    assertFalse(Check.test(list).is(deepNotEmpty()).valid());
+    assertFalse(Check.test(new LinkedList<>(list)).is(deepNotEmpty()).valid());
+    assertFalse(Check.test(map).is(deepNotEmpty()).valid());
+  }
+
+  @Test
+  public void deepNotEmpty13() {
+    // Must not blow the stack
+    List<Object> list = new ArrayList<>(List.of("FOO"));
+    List<Object> root = list;
+    for (int i = 0; i < 100_000; ++i) {
+      List<Object> l = new ArrayList<>(List.of("FOO"));
+      list.add(l);
+      list = l;
+    }
+    assertTrue(Check.test(root).is(deepNotEmpty()).valid());
+    list.add(Map.of());
+    assertFalse(Check.test(root).is(deepNotEmpty()).valid());
+  }
+
+  @Test
+  public void deepNotEmpty14() {
+    // Must not loop forever
+    List<Object> list = new ArrayList<>();
+    Map<String, Object> map = new HashMap<>();
+    list.add(map);
+    list.add(list);
+    map.put("FOO", list);
+    assertTrue(Check.test(list).is(deepNotEmpty()).valid());
+    assertTrue(Check.test(map).is(deepNotEmpty()).valid());
+    map.put("BAR", "");
+    assertFalse(Check.test(list).is(deepNotEmpty()).valid());
+  }
+
+  @Test
+  public void deepNotEmptyWithin00() {
+    TraversalLimits limits = new TraversalLimits(2, 10);
+    Check.that("FOO").is(deepNotEmptyWithin(), limits);
+    Check.that(List.of(List.of(List.of("FOO")))).is(deepNotEmptyWithin(), limits);
+    Check.that(new Object[] {"FOO", Optional.of("BAR")}).is(deepNotEmptyWithin(), limits);
+    Check.that(Map.of("FOO", List.of("BAR"))).is(deepNotEmptyWithin(), limits);
+    Check.that(Collections.nCopies(10, "FOO")).is(deepNotEmptyWithin(), limits);
+    // Too deep
+    assertFalse(Check.test(List.of(List.of(List.of(List.of("FOO")))))
+        .is(deepNotEmptyWithin(), limits)
+        .valid());
+    // Too many elements
+    assertFalse(Check.test(Collections.nCopies(11, "FOO"))
+        .is(deepNotEmptyWithin(), limits)
+        .valid());
+    assertFalse(Check.test(List.of(List.of("FOO", "BAR"), Collections.nCopies(7, "FOO")))
+        .is(deepNotEmptyWithin(), limits)
+        .valid());
+    // Empty
+    assertFalse(Check.test(List.of(List.of(List.of())))
+        .is(deepNotEmptyWithin(), limits)
+        .valid());
+  }
+
+  @Test
+  public void deepNotEmptyWithin01() {
+    try {
+      Check.that(new ArrayList<>(List.of(List.of())), "config")
+          .is(deepNotEmptyWithin(), new TraversalLimits(4, 100));
+    } catch (IllegalArgumentException e) {
+      assertEquals(
+          "config must not be empty, contain empty values or exceed a depth of 4 or 100 elements (was ArrayList[1] of [[]])",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void deepNotEmptyWithin02() {
+    new TraversalLimits(-1, 100);
+  }
+
+  @Test
+  public void deepNotNullParallel00() {
+    String[] array = new String[100_000];
+    Arrays.fill(array, "FOO");
+    List<String> list = new ArrayList<>(Arrays.asList(array));
+    Set<String> set = new HashSet<>();
+    Map<Integer, String> map = new HashMap<>();
+    for (int i = 0; i < 100_000; ++i) {
+      set.add("FOO" + i);
+      map.put(i, "FOO");
+    }
+    Check.that(array).is(deepNotNullParallel(), 1000);
+    Check.that(list).is(deepNotNullParallel(), 1000);
+    Check.that(new LinkedList<>(list)).is(deepNotNullParallel(), 1000);
+    Check.that(set).is(deepNotNullParallel(), 1000);
+    Check.that(map).is(deepNotNullParallel(), 1000);
+    Check.that(List.of("FOO")).is(deepNotNullParallel(), 1000);
+    Check.that(Optional.of("BAR")).is(deepNotNullParallel(), 1000);
+    array[77_777] = null;
+    list.set(99_999, null);
+    map.put(0, null);
+    assertFalse(Check.test(array).is(deepNotNullParallel(), 1000).valid());
+    assertFalse(Check.test(list).is(deepNotNullParallel(), 1000).valid());
+    assertFalse(Check.test(new LinkedList<>(list)).is(deepNotNullParallel(), 1000).valid());
+    assertFalse(Check.test(map).is(deepNotNullParallel(), 1000).valid());
+    assertFalse(Check.test(new String[] {null}).is(deepNotNullParallel(), 1000).valid());
+  }
+
+  @Test
+  public void deepNotNullParallel01() {
+    try {
+      Check.that(new String[] {null}, "foo").is(deepNotNullParallel(), 1000);
+    } catch (IllegalArgumentException e) {
+      assertEquals("foo must not be null or contain null values (was String[1] of [null])",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void deepNotNullParallel02() {
+    Check.that(null).is(deepNotNullParallel(), 1000);
+  }
+
+  @Test(expected = CorruptCheckException.class)
+  public void deepNotNullParallel03() {
+    Check.that(List.of("foo")).is(deepNotNullParallel(), null);
+  }
+
+  @Test
+  public void deepNotEmptyParallel00() {
+    String[] array = new String[100_000];
+    Arrays.fill(array, "FOO");
+    List<Object> list = new ArrayList<>(Arrays.asList(array));
+    Set<String> set = new HashSet<>();
+    Map<Integer, List<String>> map = new HashMap<>();
+    for (int i = 0; i < 100_000; ++i) {
+      set.add("FOO" + i);
+      map.put(i, List.of("FOO"));
+    }
+    Check.that(array).is(deepNotEmptyParallel(), 1000);
+    Check.that(list).is(deepNotEmptyParallel(), 1000);
+    Check.that(new LinkedList<>(list)).is(deepNotEmptyParallel(), 1000);
+    Check.that(set).is(deepNotEmptyParallel(), 1000);
+    Check.that(map).is(deepNotEmptyParallel(), 1000);
+    Check.that(List.of("FOO")).is(deepNotEmptyParallel(), 1000);
+    Check.that(Optional.of("BAR")).is(deepNotEmptyParallel(), 1000);
+    array[77_777] = "";
+    list.set(99_999, List.of());
+    map.put(0, List.of(""));
+    assertFalse(Check.test(array).is(deepNotEmptyParallel(), 1000).valid());
+    assertFalse(Check.test(list).is(deepNotEmptyParallel(), 1000).valid());
+    assertFalse(Check.test(new LinkedList<>(list)).is(deepNotEmptyParallel(), 1000).valid());
+    assertFalse(Check.test(map).is(deepNotEmptyParallel(), 1000).valid());
+    assertFalse(Check.test(new String[0]).is(deepNotEmptyParallel(), 1000).valid());
+    assertFalse(Check.test(Optional.empty()).is(deepNotEmptyParallel(), 1000).valid());
+  }
+
+  @Test
+  public void deepNotEmptyParallel01() {
+    try {
+      Check.that(new String[] {""}, "foo").is(deepNotEmptyParallel(), 1000);
+    } catch (IllegalArgumentException e) {
+      assertEquals("foo must not be empty or contain empty values (was String[1] of [])",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void deepNotEmptyParallel02() {
+    Check.that(null).is(deepNotEmptyParallel(), 1000);
+  }
+
+  @Test(expected = CorruptCheckException.class)
+  public void deepNotEmptyParallel03() {
+    Check.that(List.of("foo")).is(deepNotEmptyParallel(), null);
+  }
+
+  @Test(expected = CorruptCheckException.class)
+  public void deepNotEmptyParallel04() {
+    Check.that(List.of("foo")).is(deepNotEmptyParallel(), 0);
+  }
+
   @Test
   public void deepNotEmpty00() {
     Check.that((Integer) 7).is(deepNotEmpty());
@@ -5,11 +5,19 @@ import org.klojang.check.extra.DuplicateValueException;
 
 import static org.klojang.check.CommonChecks.*;
 import static org.klojang.check.CommonExceptions.*;
+import static org.klojang.check.CommonProperties.size;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.NoSuchElementException;
 
 public class CommonExceptionsTest {
@@ -146,4 +154,110 @@ public class CommonExceptionsTest {
     Check.that(1).is(eq(), 2, illegalArgument());
   }
 
+  @Test
+  public void argumentLight00() {
+    try {
+      Check.on(ARGUMENT_LIGHT, 1, "foo").is(eq(), 0);
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("foo must equal 0 (was 1)", e.getMessage());
+      assertEquals(0, e.getStackTrace().length);
+      e.setStackTrace(new Throwable().getStackTrace());
+      assertEquals(0, e.getStackTrace().length);
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void stateLight00() {
+    try {
+      Check.on(STATE_LIGHT, "foo", "bar").is(EQ(), "bar");
+    } catch (IllegalStateException e) {
+      System.out.println(e.getMessage());
+      assertEquals("bar must equal bar (was foo)", e.getMessage());
+      assertEquals(0, e.getStackTrace().length);
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void argumentLazy00() {
+    AtomicInteger calls = new AtomicInteger();
+    Object obj = new Object() {
+      @Override
+      public String toString() {
+        calls.incrementAndGet();
+        return "foo";
+      }
+    };
+    try {
+      Check.on(ARGUMENT_LAZY, obj, "obj").is(NULL());
+    } catch (IllegalArgumentException e) {
+      assertEquals(0, calls.get());
+      assertEquals("obj must be null (was foo)", e.getMessage());
+      assertEquals("obj must be null (was foo)", e.getMessage());
+      assertEquals(1, calls.get());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void argumentLazy01() {
+    try {
+      Check.on(ARGUMENT_LAZY, 1, "foo").is(eq(), 0, "${tag} is ${arg}, not ${obj}");
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("foo is 1, not 0", e.getMessage());
+      assertEquals("foo is 1, not 0", e.getLocalizedMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void stateLazy00() {
+    try {
+      Check.on(STATE_LAZY, List.of(1, 2, 3), "list").has(size(), gt(), 3);
+    } catch (IllegalStateException e) {
+      System.out.println(e.getMessage());
+      assertEquals("list.size() must be > 3 (was 3)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void stateLazy01() {
+    IllegalStateException e = STATE_LAZY.apply("foo");
+    assertEquals("foo", e.getMessage());
+  }
+
+  @Test
+  public void lazySerializable00() throws Exception {
+    // Not serializable itself, but only the rendered message should be written
+    Object obj = new Object() {
+      public String toString() {
+        return "foo";
+      }
+    };
+    try {
+      Check.on(ARGUMENT_LAZY, obj, "obj").is(NULL());
+    } catch (IllegalArgumentException e) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+        out.writeObject(e);
+      }
+      try (ObjectInputStream in = new ObjectInputStream(
+          new ByteArrayInputStream(bytes.toByteArray()))) {
+        Object copy = in.readObject();
+        assertEquals("obj must be null (was foo)", ((Exception) copy).getMessage());
+      }
+      return;
+    }
+    fail();
+  }
+
 }
@@ -0,0 +1,157 @@
+package org.klojang.check;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.klojang.check.CommonChecks.*;
+
+public class DoubleCheckTest {
+
+  @Test
+  public void vanilla00() {
+    Check.thatDouble(3.5).is(positiveDouble());
+    Check.thatDouble(3.5).is(finite(), "custom message");
+    Check.thatDouble(3.5).is(notNaN(), () -> new UnsupportedOperationException());
+    Check.thatDouble(3.5).is(gtDouble(), 3.4);
+    Check.thatDouble(3.5).is(gtDouble(), 3.4, "custom message");
+    Check.thatDouble(3.5).is(gtDouble(),
+        3.4,
+        () -> new UnsupportedOperationException());
+    Check.thatDouble(3.5).is(lteDouble(), 3.5)
+        .is(gteDouble(), 3.5)
+        .is(ltDouble(), 3.6)
+        .is(multipleOfDouble(), 0.5)
+        .is(finite().andAlso(gtDouble(), 0));
+  }
+
+  @Test
+  public void vanilla01() {
+    Check.thatDouble(3.5).isNot(negativeDouble());
+    Check.thatDouble(3.5).isNot(negativeDouble(), "custom message");
+    Check.thatDouble(3.5).isNot(negativeDouble(),
+        () -> new UnsupportedOperationException());
+    Check.thatDouble(3.5).isNot(gtDouble(), 4);
+    Check.thatDouble(3.5).isNot(gtDouble(), 4, "custom message");
+    Check.thatDouble(3.5).isNot(gtDouble(),
+        4,
+        () -> new UnsupportedOperationException());
+  }
+
+  @Test
+  public void nan00() {
+    // NaN must fail every comparison
+    Check.thatDouble(Double.NaN).isNot(positiveDouble())
+        .isNot(negativeDouble())
+        .isNot(gtDouble(), 0)
+        .isNot(lteDouble(), 0)
+        .isNot(finite())
+        .isNot(notNaN());
+  }
+
+  @Test
+  public void ok00() {
+    assertEquals(3.5, Check.thatDouble(3.5).is(finite()).ok(), 0);
+    assertEquals(7.0, Check.thatDouble(3.5).ok(x -> x * 2), 0);
+  }
+
+  @Test
+  public void finite00() {
+    try {
+      Check.thatDouble(Double.POSITIVE_INFINITY, "ratio").is(finite());
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("ratio must be finite (was Infinity)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void notNaN00() {
+    try {
+      Check.thatDouble(0D / 0D, "ratio").is(notNaN());
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("ratio must not be NaN", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void gt00() {
+    try {
+      Check.thatDouble(9.0).is(gtDouble(), 9.5);
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("argument must be > 9.5 (was 9.0)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void lte00() {
+    try {
+      Check.onDouble(IOException::new, 9.0, "foo").is(lteDouble(), 8.5);
+    } catch (IOException e) {
+      System.out.println(e.getMessage());
+      assertEquals("foo must be <= 8.5 (was 9.0)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void positive00() {
+    try {
+      Check.thatDouble(-0.5, "foo").is(positiveDouble());
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("foo must be positive (was -0.5)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void has00() throws IOException {
+    Check.thatDouble(-2.5, "foo").has(Math::abs, ltDouble(), 10);
+    Check.thatDouble(-2.5, "foo").has(Math::abs, "abs", ltDouble(), 10);
+    Check.thatDouble(-2.5, "foo").has(Math::abs, ltDouble(), 10, "custom message");
+    Check.thatDouble(-2.5, "foo").has(Math::abs,
+        ltDouble(),
+        10,
+        () -> new IOException());
+    Check.thatDouble(-2.5, "foo").notHas(Math::abs, ltDouble(), 1);
+    Check.thatDouble(-2.5, "foo").has(Math::sqrt, "sqrt", notNaN().negate());
+  }
+
+  @Test
+  public void has01() {
+    try {
+      Check.thatDouble(-2.5, "foo").has(Math::abs, "abs", ltDouble(), 1);
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("foo.abs must be < 1.0 (was 2.5)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void notHas00() {
+    try {
+      Check.thatDouble(0.25, "foo").notHas(Math::sqrt, "sqrt", finite());
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("foo.sqrt must not be finite (was 0.5)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+}
@@ -0,0 +1,67 @@
+package org.klojang.check;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.klojang.check.CommonChecks.*;
+import static org.klojang.check.CommonProperties.abs;
+
+public class IntProbeTest {
+
+  @Test
+  public void valid00() {
+    assertTrue(Check.test(42).is(even()).valid());
+    assertTrue(Check.test(42).isNot(odd()).valid());
+    assertTrue(Check.test(42).is(lt(), 43).valid());
+    assertTrue(Check.test(42).isNot(gt(), 43).valid());
+    assertTrue(Check.test(1).is(indexOf(), List.of(1, 2)).valid());
+    assertTrue(Check.test(2).isNot(indexOf(), List.of(1, 2)).valid());
+    assertTrue(Check.test(-42).has(abs(), positive()).valid());
+    assertTrue(Check.test(-42).notHas(abs(), negative()).valid());
+    assertTrue(Check.test(-42).has(abs(), eq(), 42).valid());
+    assertTrue(Check.test(-42).notHas(abs(), eq(), -42).valid());
+  }
+
+  @Test
+  public void invalid00() {
+    assertFalse(Check.test(42).is(odd()).valid());
+    assertFalse(Check.test(42).isNot(even()).valid());
+    assertFalse(Check.test(42).is(gt(), 43).valid());
+    assertFalse(Check.test(42).isNot(lt(), 43).valid());
+    assertFalse(Check.test(2).is(indexOf(), List.of(1, 2)).valid());
+    assertFalse(Check.test(-42).has(abs(), negative()).valid());
+    assertFalse(Check.test(-42).has(abs(), lt(), 10).valid());
+  }
+
+  @Test
+  public void violation00() {
+    Violation v = Check.test(42, "foo")
+        .is(even())
+        .is(lt(), 40)
+        .is(positive())
+        .violation()
+        .orElseThrow();
+    assertEquals("lt", v.getCheckName());
+    assertEquals("foo must be < 40 (was 42)", v.getMessage());
+  }
+
+  @Test
+  public void violation01() {
+    Violation v = Check.test(-7, "foo")
+        .has(abs(), gt(), 10)
+        .violation()
+        .orElseThrow();
+    assertEquals(7, v.getValue());
+    assertEquals("abs(foo) must be > 10 (was 7)", v.getMessage());
+  }
+
+  @Test
+  public void violation02() {
+    Violation v = Check.test(5).is(indexOf(), List.of(1, 2)).violation().orElseThrow();
+    System.out.println(v.getMessage());
+    assertEquals("argument must be >= 0 and < 2 (was 5)", v.getMessage());
+  }
+
+}
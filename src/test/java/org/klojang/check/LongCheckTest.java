@@ -0,0 +1,185 @@
+package org.klojang.check;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.klojang.check.CommonChecks.*;
+
+public class LongCheckTest {
+
+  @Test
+  public void vanilla00() {
+    long now = 1_700_000_000_000L;
+    Check.thatLong(now).is(positiveLong());
+    Check.thatLong(now).is(positiveLong(), "custom message");
+    Check.thatLong(now).is(positiveLong(),
+        () -> new UnsupportedOperationException());
+    Check.thatLong(now).is(gtLong(), Integer.MAX_VALUE);
+    Check.thatLong(now).is(gtLong(), Integer.MAX_VALUE, "custom message");
+    Check.thatLong(now).is(gtLong(),
+        Integer.MAX_VALUE,
+        () -> new UnsupportedOperationException());
+    Check.thatLong(now).is(lteLong(), now)
+        .is(gteLong(), now)
+        .is(eqLong(), now)
+        .is(neLong(), 0)
+        .is(ltLong(), Long.MAX_VALUE)
+        .is(multipleOfLong(), 1000)
+        .is(positiveLong().andAlso(ltLong(), Long.MAX_VALUE));
+  }
+
+  @Test
+  public void vanilla01() {
+    long now = 1_700_000_000_000L;
+    Check.thatLong(now).isNot(negativeLong());
+    Check.thatLong(now).isNot(zeroLong(), "custom message");
+    Check.thatLong(now).isNot(zeroLong(),
+        () -> new UnsupportedOperationException());
+    Check.thatLong(now).isNot(gtLong(), now);
+    Check.thatLong(now).isNot(gtLong(), now, "custom message");
+    Check.thatLong(now).isNot(gtLong(),
+        now,
+        () -> new UnsupportedOperationException());
+  }
+
+  @Test
+  public void ok00() {
+    assertEquals(42L, Check.thatLong(42L).is(positiveLong()).ok());
+    assertEquals(84L, Check.thatLong(42L).ok(x -> x * 2));
+  }
+
+  @Test
+  public void and00() {
+    Check.thatLong(42L, "offset").is(gteLong(), 0)
+        .and(100L, "length").is(positiveLong());
+  }
+
+  @Test
+  public void positive00() {
+    try {
+      Check.thatLong(-3L, "timestamp").is(positiveLong());
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("timestamp must be positive (was -3)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void gt00() {
+    try {
+      Check.thatLong(5_000_000_000L).is(gtLong(), 6_000_000_000L);
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("argument must be > 6000000000 (was 5000000000)",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void lte00() {
+    try {
+      Check.onLong(IOException::new, 5_000_000_000L, "offset")
+          .is(lteLong(), 4_000_000_000L);
+    } catch (IOException e) {
+      System.out.println(e.getMessage());
+      assertEquals("offset must be <= 4000000000 (was 5000000000)",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void multipleOf00() {
+    try {
+      Check.thatLong(1001L, "millis").is(multipleOfLong(), 1000);
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("millis must be multiple of 1000 (was 1001)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void isNot00() {
+    try {
+      Check.thatLong(7L, "foo").isNot(gtLong(), 6L);
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("foo must not be > 6 (was 7)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void customMessage00() {
+    try {
+      Check.thatLong(7L, "foo").is(gtLong(), 8L, "${tag} ${test} ${obj}: ${arg}");
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("foo gtLong 8: 7", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void lambda00() {
+    try {
+      Check.thatLong(7L, "foo").is(x -> x > 8);
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("invalid value for foo: 7", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void has00() throws IOException {
+    Check.thatLong(-7L, "foo").has(Math::abs, ltLong(), 10);
+    Check.thatLong(-7L, "foo").has(Math::abs, "abs", ltLong(), 10);
+    Check.thatLong(-7L, "foo").has(Math::abs, ltLong(), 10, "custom message");
+    Check.thatLong(-7L, "foo").has(Math::abs,
+        ltLong(),
+        10,
+        () -> new IOException());
+    Check.thatLong(-7L, "foo").notHas(Math::abs, ltLong(), 5);
+    Check.thatLong(255L, "foo").has(Long::toHexString, EQ(), "ff");
+    Check.thatLong(255L, "foo").notHas(Long::toHexString, "hex", empty());
+  }
+
+  @Test
+  public void has01() {
+    try {
+      Check.thatLong(-7L, "foo").has(Math::abs, "abs", ltLong(), 5);
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("foo.abs must be < 5 (was 7)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void notHas00() {
+    try {
+      Check.thatLong(255L, "foo").notHas(Long::toHexString, "hex", EQ(), "ff");
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("foo.hex must not equal ff", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+}
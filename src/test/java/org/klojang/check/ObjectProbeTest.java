@@ -0,0 +1,161 @@
+package org.klojang.check;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.klojang.check.CommonChecks.*;
+import static org.klojang.check.CommonProperties.size;
+import static org.klojang.check.CommonProperties.strlen;
+
+public class ObjectProbeTest {
+
+  @Test
+  public void valid00() {
+    assertTrue(Check.test("foo").is(notNull()).valid());
+    assertTrue(Check.test("foo").isNot(empty()).valid());
+    assertTrue(Check.test("foo").is(EQ(), "foo").valid());
+    assertTrue(Check.test("foo").isNot(EQ(), "bar").valid());
+    assertTrue(Check.test("foo").has(strlen(), eq(), 3).valid());
+    assertTrue(Check.test("foo").notHas(strlen(), eq(), 4).valid());
+    assertTrue(Check.test("foo").has(strlen(), odd()).valid());
+    assertTrue(Check.test("foo").notHas(strlen(), even()).valid());
+    assertTrue(Check.test("foo").has(String::toUpperCase, EQ(), "FOO").valid());
+    assertTrue(Check.test("foo").notHas(String::toUpperCase, EQ(), "foo").valid());
+    assertTrue(Check.test("foo").has(String::trim, notEmpty()).valid());
+    assertTrue(Check.test("foo").notHas(String::trim, empty()).valid());
+    assertTrue(Check.test("foo").violation().isEmpty());
+  }
+
+  @Test
+  public void invalid00() {
+    assertFalse(Check.test(null).is(notNull()).valid());
+    assertFalse(Check.test("foo").is(empty()).valid());
+    assertFalse(Check.test("foo").isNot(EQ(), "foo").valid());
+    assertFalse(Check.test("foo").has(strlen(), gt(), 3).valid());
+    assertFalse(Check.test("foo").notHas(strlen(), odd()).valid());
+  }
+
+  @Test
+  public void shortCircuit00() {
+    AtomicInteger calls = new AtomicInteger();
+    boolean valid = Check.test("foo")
+        .is(empty())
+        .is(s -> calls.incrementAndGet() > 0)
+        .has(s -> calls.incrementAndGet(), NULL())
+        .valid();
+    assertFalse(valid);
+    assertEquals(0, calls.get());
+  }
+
+  @Test
+  public void violation00() {
+    Violation v = Check.test("foo", "name")
+        .is(notNull())
+        .has(strlen(), gt(), 5)
+        .violation()
+        .orElseThrow();
+    assertEquals("gt", v.getCheckName());
+    assertEquals(3, v.getValue());
+    assertFalse(v.isNegated());
+    assertEquals("name.length() must be > 5 (was 3)", v.getMessage());
+  }
+
+  @Test
+  public void violation01() {
+    Violation v = Check.test(List.of(1, 2, 3), "list")
+        .notHas(size(), eq(), 3)
+        .violation()
+        .orElseThrow();
+    assertTrue(v.isNegated());
+    assertEquals("list.size() must not equal 3", v.getMessage());
+  }
+
+  @Test
+  public void violation02() {
+    Violation v = Check.test("foo").is(s -> s.isEmpty()).violation().orElseThrow();
+    assertNull(v.getCheckName());
+    assertEquals("invalid value: foo", v.toString());
+  }
+
+  @Test
+  public void namedProperty00() {
+    assertTrue(Check.test("foo").has(String::trim, "trimmed", notEmpty()).valid());
+    assertTrue(Check.test("foo").notHas(String::trim, "trimmed", empty()).valid());
+    assertTrue(Check.test("foo").has(String::trim, "trimmed", EQ(), "foo").valid());
+    assertTrue(Check.test("foo").notHas(String::trim, "trimmed", EQ(), "bar").valid());
+    assertTrue(Check.test("foo").has(strlen(), "len", odd()).valid());
+    assertTrue(Check.test("foo").notHas(strlen(), "len", even()).valid());
+    assertTrue(Check.test("foo").has(strlen(), "len", eq(), 3).valid());
+    assertTrue(Check.test("foo").notHas(strlen(), "len", eq(), 4).valid());
+  }
+
+  @Test
+  public void namedProperty01() {
+    Violation v = Check.test("foo", "name")
+        .has(String::toUpperCase, "upper", EQ(), "foo")
+        .violation()
+        .orElseThrow();
+    assertEquals("name", v.getTag());
+    assertEquals("name.upper must equal foo (was FOO)", v.getMessage());
+  }
+
+  @Test
+  public void namedProperty02() {
+    Violation v = Check.test("foo", "name")
+        .notHas(strlen(), "len", odd())
+        .violation()
+        .orElseThrow();
+    assertTrue(v.isNegated());
+    assertEquals("name.len must not be odd (was 3)", v.getMessage());
+  }
+
+  @Test
+  public void namedProperty03() {
+    Violation v = Check.test("foo")
+        .has(strlen(), "len", gt(), 5)
+        .violation()
+        .orElseThrow();
+    assertEquals("len must be > 5 (was 3)", v.getMessage());
+  }
+
+  @Test
+  public void intObjRelation00() {
+    List<String> list = List.of("a", "b", "c", "d");
+    assertTrue(Check.test("foo").has(strlen(), indexOf(), list).valid());
+    assertTrue(Check.test("foo").notHas(strlen(), indexOf(), List.of()).valid());
+    assertTrue(Check.test("foo").has(strlen(), "len", inIntArray(), new int[] {3}).valid());
+    assertTrue(Check.test("foo").notHas(strlen(), "len", inIntArray(), new int[0]).valid());
+    assertFalse(Check.test("foo").notHas(strlen(), indexOf(), list).valid());
+  }
+
+  @Test
+  public void intObjRelation01() {
+    Violation v = Check.test("foo", "name")
+        .has(strlen(), "len", inIntArray(), new int[] {1, 2})
+        .violation()
+        .orElseThrow();
+    assertEquals("inIntArray", v.getCheckName());
+    assertEquals(3, v.getValue());
+    assertTrue(v.getMessage().startsWith("name.len must be element of "));
+  }
+
+  @Test
+  public void toException00() {
+    Violation v = Check.test("foo", "name").is(EQ(), "bar").violation().orElseThrow();
+    IllegalStateException e = v.toException(CommonExceptions.STATE);
+    assertEquals("name must equal bar (was foo)", e.getMessage());
+  }
+
+  @Test
+  public void filter00() {
+    List<String> names = List.of("john", "", "mary", "christopher");
+    List<String> valid = names.stream()
+        .filter(s -> Check.test(s).isNot(empty()).has(strlen(), lte(), 4).valid())
+        .toList();
+    assertEquals(List.of("john", "mary"), valid);
+  }
+
+}
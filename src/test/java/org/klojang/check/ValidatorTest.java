@@ -0,0 +1,238 @@
+package org.klojang.check;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+import static org.klojang.check.CommonChecks.*;
+import static org.klojang.check.CommonProperties.*;
+
+public class ValidatorTest {
+
+  private static final Validator<String> USER_NAME =
+      Validator.<String>builder("userName")
+          .is(notNull())
+          .has(strlen(), lte(), 8)
+          .is(matches(), "[a-z][a-z0-9_]*")
+          .build();
+
+  @Test
+  public void check00() {
+    assertEquals("john_1", USER_NAME.check("john_1"));
+  }
+
+  @Test
+  public void check01() {
+    try {
+      USER_NAME.check(null);
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("userName must not be null", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void check02() {
+    try {
+      USER_NAME.check("johnathan_1");
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("userName.length() must be <= 8 (was 11)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void check03() {
+    try {
+      USER_NAME.check("John", IOException::new);
+    } catch (IOException e) {
+      System.out.println(e.getMessage());
+      assertEquals("userName must match [a-z][a-z0-9_]* (was John)",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void test00() {
+    assertTrue(USER_NAME.test("john"));
+    assertFalse(USER_NAME.test(null));
+    assertFalse(USER_NAME.test("John"));
+    assertFalse(USER_NAME.test("johnathan_1"));
+  }
+
+  @Test
+  public void validate00() {
+    assertTrue(USER_NAME.validate("john").isEmpty());
+    Violation v = USER_NAME.validate("John").orElseThrow();
+    assertEquals("matches", v.getCheckName());
+    assertEquals("John", v.getValue());
+  }
+
+  @Test
+  public void negated00() {
+    Validator<List<String>> v = Validator.<List<String>>builder("list")
+        .isNot(empty())
+        .isNot(contains(), "foo")
+        .notHas(size(), gt(), 2)
+        .notHas(List::getFirst, EQ(), "bar")
+        .build();
+    assertTrue(v.test(List.of("a", "b")));
+    assertEquals("list must not be null or empty (was ListN[0])",
+        v.validate(List.of()).orElseThrow().getMessage());
+    assertEquals("list must not contain foo (was List12[1] of [foo])",
+        v.validate(List.of("foo")).orElseThrow().getMessage());
+    assertEquals("list.size() must not be > 2 (was 3)",
+        v.validate(List.of("a", "b", "c")).orElseThrow().getMessage());
+  }
+
+  @Test
+  public void namedProperty00() {
+    Validator<List<String>> v = Validator.<List<String>>builder("list")
+        .has(l -> l.get(0), "first", EQ(), "bar")
+        .build();
+    assertEquals("list.first must equal bar (was foo)",
+        v.validate(List.of("foo")).orElseThrow().getMessage());
+  }
+
+  @Test
+  public void getTag00() {
+    // The tag of the value, not the (resolved) name of the property
+    Validator<List<String>> v = Validator.<List<String>>builder("list")
+        .has(size(), lt(), 2)
+        .has(l -> l.get(0), "first", EQ(), "bar")
+        .build();
+    assertEquals("list", v.validate(List.of("a", "b")).orElseThrow().getTag());
+    assertEquals("list", v.validate(List.of("foo")).orElseThrow().getTag());
+  }
+
+  @Test
+  public void noTag00() {
+    Validator<String> v = Validator.<String>builder()
+        .has(strlen(), gt(), 5)
+        .build();
+    assertEquals("String.length() must be > 5 (was 3)",
+        v.validate("foo").orElseThrow().getMessage());
+  }
+
+  @Test
+  public void customProperty00() {
+    Validator<String> v = Validator.<String>builder("foo")
+        .has(String::length, odd())
+        .build();
+    System.out.println(v.validate("ab").orElseThrow().getMessage());
+    assertEquals("ToIntFunction.applyAsInt(ab) must be odd (was 2)",
+        v.validate("ab").orElseThrow().getMessage());
+  }
+
+  @Test
+  public void compiled00() throws Throwable {
+    Validator<List<String>> v = Validator.<List<String>>builder("list")
+        .isNot(empty())
+        .is(contains(), "foo")
+        .isNot(contains(), "bar")
+        .has(size(), lt(), 3)
+        .notHas(size(), eq(), 2)
+        .has(l -> l.get(0), EQ(), "foo")
+        .notHas(l -> l.get(0), NULL())
+        .has(l -> l.get(0), notNull())
+        .has(l -> l.get(0), "first", EQ(), "foo")
+        .notHas(l -> l.get(0), EQ(), "bar")
+        .has(List::size, odd())
+        .notHas(List::size, even())
+        .compile();
+    assertTrue(v.isCompiled());
+    assertTrue(v.test(List.of("foo")));
+    assertTrue((boolean) v.asMethodHandle().invokeExact((Object) List.of("foo")));
+    assertEquals(List.of("foo"), v.check(List.of("foo")));
+    assertTrue(v.validate(List.of("foo")).isEmpty());
+    assertFalse(v.test(List.of()));
+    assertFalse(v.test(List.of("bar")));
+    assertFalse(v.test(List.of("foo", "bar")));
+    assertFalse(v.test(List.of("foo", "baz")));
+    assertFalse(v.test(List.of("baz", "foo", "bam")));
+    assertEquals("list.size() must not equal 2",
+        v.validate(List.of("foo", "baz")).orElseThrow().getMessage());
+    assertFalse((boolean) v.asMethodHandle().invokeExact((Object) List.of()));
+  }
+
+  @Test
+  public void compiled01() {
+    Validator<String> v = Validator.<String>builder("userName")
+        .is(notNull())
+        .has(strlen(), lte(), 8)
+        .compile();
+    try {
+      v.check("johnathan_1");
+    } catch (IllegalArgumentException e) {
+      assertEquals("userName.length() must be <= 8 (was 11)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void compiled02() throws Throwable {
+    Validator<String> v = Validator.<String>builder().compile();
+    assertTrue(v.test("foo"));
+    assertFalse(USER_NAME.isCompiled());
+    assertFalse((boolean) USER_NAME.asMethodHandle().invokeExact((Object) "John"));
+  }
+
+  @Test
+  public void checkEach00() {
+    List<String> names = List.of("john", "mary", "pete");
+    assertEquals(names, USER_NAME.checkEach(names.stream()).toList());
+    assertEquals(3, USER_NAME.checkEach(names.parallelStream()).count());
+  }
+
+  @Test
+  public void checkEach01() {
+    AtomicInteger pulled = new AtomicInteger();
+    Stream<String> stream = USER_NAME.checkEach(Stream.of("john", "Mary", "pete")
+        .peek(s -> pulled.incrementAndGet()));
+    assertEquals(0, pulled.get());
+    try {
+      stream.forEach(s -> { });
+    } catch (IllegalArgumentException e) {
+      assertEquals("userName must match [a-z][a-z0-9_]* (was Mary)", e.getMessage());
+      assertEquals(2, pulled.get());
+      return;
+    }
+    fail();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void checkEach02() {
+    USER_NAME.checkEach(Stream.of("john", "Mary"), IllegalStateException::new)
+        .toList();
+  }
+
+  @Test
+  public void checkEach03() {
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 1000; ++i) {
+      names.add("john_" + i);
+    }
+    Spliterator<String> spliterator = USER_NAME.checkEach(names.stream()).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+    assertEquals(1000, spliterator.getExactSizeIfKnown());
+    Spliterator<String> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    assertEquals(1000, prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+    assertEquals(1000, USER_NAME.checkEach(names.parallelStream()).count());
+  }
+
+}
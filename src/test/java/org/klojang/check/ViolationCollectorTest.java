@@ -0,0 +1,109 @@
+package org.klojang.check;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.klojang.check.CommonChecks.*;
+import static org.klojang.check.CommonProperties.strlen;
+
+public class ViolationCollectorTest {
+
+  record Person(String name, String email, int age) { }
+
+  @Test
+  public void valid00() {
+    ViolationCollector vc = Check.collecting();
+    vc.that("foo", "name").is(notNull()).has(strlen(), lt(), 10);
+    vc.that(42, "age").is(gte(), 18);
+    assertTrue(vc.valid());
+    assertTrue(vc.violations().isEmpty());
+    assertEquals("", vc.getMessage());
+    vc.check();
+  }
+
+  @Test
+  public void collect00() {
+    Person p = new Person("", "john.smith.com", 12);
+    ViolationCollector vc = Check.collecting();
+    vc.that(p, "person")
+        .has(Person::name, notEmpty())
+        .has(Person::email, hasSubstring(), "@")
+        .has(Person::age, gte(), 18);
+    vc.that(p.age(), "age").is(lt(), 10).is(even());
+    assertFalse(vc.valid());
+    List<Violation> violations = vc.violations();
+    assertEquals(4, violations.size());
+    assertEquals("notEmpty", violations.get(0).getCheckName());
+    assertEquals("hasSubstring", violations.get(1).getCheckName());
+    assertEquals("gte", violations.get(2).getCheckName());
+    assertEquals("lt", violations.get(3).getCheckName());
+    assertEquals("person", violations.get(0).getTag());
+    assertEquals("age", violations.get(3).getTag());
+    assertEquals("john.smith.com", violations.get(1).getValue());
+    assertEquals(12, violations.get(3).getValue());
+  }
+
+  @Test
+  public void haltOnValue00() {
+    AtomicInteger calls = new AtomicInteger();
+    ViolationCollector vc = Check.collecting();
+    ObjectProbe<String> probe = vc.<String>that(null, "name")
+        .is(notNull())
+        .has(s -> calls.incrementAndGet(), NULL());
+    assertFalse(probe.valid());
+    assertEquals(0, calls.get());
+    assertEquals(1, vc.violations().size());
+  }
+
+  @Test
+  public void check00() {
+    ViolationCollector vc = Check.collecting();
+    vc.that("", "name").is(notEmpty());
+    vc.that(7, "age").is(gte(), 18);
+    try {
+      vc.check();
+    } catch (IllegalArgumentException e) {
+      assertEquals("name must not be null or empty (was \"\"); age must be >= 18 (was 7)",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void check01() {
+    ViolationCollector vc = Check.collecting();
+    vc.that("", "name").is(notEmpty());
+    vc.check(IllegalStateException::new);
+  }
+
+  @Test
+  public void standAlone00() {
+    // A stand-alone probe must still halt on a failing property
+    AtomicInteger calls = new AtomicInteger();
+    Check.test("foo")
+        .has(strlen(), gt(), 5)
+        .has(s -> calls.incrementAndGet(), NULL());
+    assertEquals(0, calls.get());
+  }
+
+  @Test
+  public void check02() {
+    // The message must not pick up violations collected after check()
+    ViolationCollector vc = Check.collecting();
+    vc.that("", "name").is(notEmpty());
+    IllegalArgumentException exc = null;
+    try {
+      vc.check(CommonExceptions.ARGUMENT_LAZY);
+    } catch (IllegalArgumentException e) {
+      exc = e;
+    }
+    assertNotNull(exc);
+    vc.that(7, "age").is(gte(), 18);
+    assertEquals("name must not be null or empty (was \"\")", exc.getMessage());
+  }
+
+}
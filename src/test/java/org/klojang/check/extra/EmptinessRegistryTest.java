@@ -0,0 +1,72 @@
+package org.klojang.check.extra;
+
+import org.junit.Test;
+import org.klojang.check.Check;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.klojang.check.CommonChecks.empty;
+import static org.klojang.check.CommonChecks.notEmpty;
+
+public class EmptinessRegistryTest {
+
+  private record Box(Object content) { }
+
+  private record Box2(Object content) { }
+
+  private static class Crate extends Box0 { }
+
+  private static class Box0 {
+    boolean full;
+  }
+
+  private static class Bag extends ArrayList<String> {
+    boolean sealed;
+  }
+
+  @Test
+  public void register00() {
+    assertFalse(empty().test(new Box(null)));
+    EmptinessRegistry.register(Box.class, b -> b.content() == null);
+    assertTrue(empty().test(new Box(null)));
+    assertFalse(empty().test(new Box("foo")));
+    assertTrue(notEmpty().test(new Box("foo")));
+  }
+
+  @Test // applies to subtypes
+  public void register01() {
+    Crate crate = new Crate();
+    assertFalse(empty().test(crate));
+    EmptinessRegistry.register(Box0.class, b -> !b.full);
+    assertTrue(empty().test(crate));
+    crate.full = true;
+    assertFalse(empty().test(crate));
+  }
+
+  @Test // built-in strategy still applies
+  public void register02() {
+    EmptinessRegistry.register(Bag.class, b -> !b.sealed);
+    Bag bag = new Bag();
+    bag.sealed = true;
+    assertTrue(empty().test(bag));
+    bag.add("foo");
+    assertFalse(empty().test(bag));
+    bag.sealed = false;
+    assertTrue(empty().test(bag));
+  }
+
+  @Test
+  public void register03() {
+    EmptinessRegistry.register(Box2.class, b -> b.content() == null);
+    Check.that(new Box2(List.of())).is(notEmpty());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void register04() {
+    EmptinessRegistry.register(Box2.class, null);
+  }
+
+}
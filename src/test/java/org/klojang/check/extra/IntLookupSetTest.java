@@ -0,0 +1,95 @@
+package org.klojang.check.extra;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class IntLookupSetTest {
+
+  @Test
+  public void bits00() {
+    IntLookupSet set = IntLookupSet.of(10, 12, 11, 75, 10);
+    assertEquals("bits", set.representation());
+    assertEquals(4, set.size());
+    assertTrue(set.contains(10));
+    assertTrue(set.contains(75));
+    assertFalse(set.contains(13));
+    assertFalse(set.contains(9));
+    assertFalse(set.contains(76));
+    assertFalse(set.contains(10 + 64));
+    assertFalse(set.contains(Integer.MIN_VALUE));
+    assertFalse(set.contains(Integer.MAX_VALUE));
+  }
+
+  @Test // subtraction overflows
+  public void bits01() {
+    IntLookupSet set = IntLookupSet.of(Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+    assertEquals("bits", set.representation());
+    assertTrue(set.contains(Integer.MAX_VALUE));
+    assertFalse(set.contains(Integer.MIN_VALUE));
+    assertFalse(set.contains(-1));
+    set = IntLookupSet.of(Integer.MIN_VALUE, Integer.MIN_VALUE + 3);
+    assertTrue(set.contains(Integer.MIN_VALUE));
+    assertFalse(set.contains(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void sorted00() {
+    IntLookupSet set = IntLookupSet.of(Integer.MIN_VALUE, -1_000_000, 0, 1_000_000);
+    assertEquals("sorted", set.representation());
+    assertTrue(set.contains(Integer.MIN_VALUE));
+    assertTrue(set.contains(0));
+    assertFalse(set.contains(1));
+  }
+
+  @Test
+  public void sorted01() {
+    IntLookupSet set = IntLookupSet.of();
+    assertEquals(0, set.size());
+    assertFalse(set.contains(0));
+  }
+
+  @Test
+  public void hashed00() {
+    Random random = new Random(11);
+    Set<Integer> expected = new HashSet<>();
+    int[] values = new int[1000];
+    expected.add(values[0] = 0);
+    for (int i = 1; i < values.length; ++i) {
+      expected.add(values[i] = random.nextInt());
+    }
+    IntLookupSet set = IntLookupSet.of(values);
+    assertEquals("hashed", set.representation());
+    assertEquals(expected.size(), set.size());
+    for (int value : expected) {
+      assertTrue(set.contains(value));
+    }
+    for (int i = 0; i < 100_000; ++i) {
+      int value = random.nextInt();
+      assertEquals(expected.contains(value), set.contains(value));
+    }
+  }
+
+  @Test
+  public void hashed01() {
+    int[] values = new int[100];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = (i + 1) << 16; // identical low bits
+    }
+    IntLookupSet set = IntLookupSet.of(values);
+    assertEquals("hashed", set.representation());
+    assertFalse(set.contains(0));
+    assertTrue(set.contains(100 << 16));
+    assertFalse(set.contains(101 << 16));
+  }
+
+  @Test
+  public void toString00() {
+    assertEquals("IntLookupSet[3]", IntLookupSet.of(1, 2, 3).toString());
+  }
+
+}
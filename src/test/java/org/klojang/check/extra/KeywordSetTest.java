@@ -0,0 +1,107 @@
+package org.klojang.check.extra;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class KeywordSetTest {
+
+  @Test
+  public void foundIn00() {
+    KeywordSet ks = KeywordSet.of("he", "she", "his", "hers");
+    assertTrue(ks.foundIn("ushers"));
+    assertTrue(ks.foundIn("this"));
+    assertTrue(ks.foundIn("ahishers"));
+    assertFalse(ks.foundIn("hi"));
+    assertFalse(ks.foundIn(""));
+    assertFalse(ks.foundIn("HERS"));
+  }
+
+  @Test // keyword only reachable via fallback states
+  public void foundIn01() {
+    KeywordSet ks = KeywordSet.of("abcd", "bce", "cx");
+    assertTrue(ks.foundIn("abce"));
+    assertTrue(ks.foundIn("abcx"));
+    assertFalse(ks.foundIn("abcbc"));
+  }
+
+  @Test
+  public void foundIn02() {
+    assertFalse(KeywordSet.of().foundIn("foo"));
+    assertTrue(KeywordSet.of("").foundIn(""));
+    assertTrue(KeywordSet.of("bar", "").foundIn("foo"));
+  }
+
+  @Test
+  public void foundIn03() {
+    KeywordSet ks = KeywordSet.ofIgnoreCase("LOTTERY", "Casino", "straße");
+    assertTrue(ks.foundIn("Win the lottery!"));
+    assertTrue(ks.foundIn("CASINO"));
+    assertTrue(ks.foundIn("STRAßE"));
+    assertFalse(ks.foundIn("Hello, World"));
+    assertTrue(ks.isIgnoreCase());
+  }
+
+  @Test // more than 8 transitions from the root
+  public void foundIn04() {
+    List<String> keywords = new ArrayList<>();
+    for (char c = 'a'; c <= 'z'; ++c) {
+      keywords.add(c + "" + c + c);
+    }
+    KeywordSet ks = KeywordSet.of(keywords);
+    assertTrue(ks.foundIn("xyzzzy"));
+    assertFalse(ks.foundIn("abcdefghijklmnopqrstuvwxyz"));
+  }
+
+  @Test
+  public void foundInMatchesContains() {
+    Random random = new Random(7);
+    for (int i = 0; i < 20_000; ++i) {
+      List<String> keywords = new ArrayList<>();
+      for (int j = random.nextInt(6); j >= 0; --j) {
+        keywords.add(randomString(random, 1 + random.nextInt(4)));
+      }
+      String text = randomString(random, random.nextInt(20));
+      KeywordSet ks = KeywordSet.of(keywords);
+      boolean expected = keywords.stream().anyMatch(text::contains);
+      assertEquals(keywords + " in " + text, expected, ks.foundIn(text));
+      Optional<String> found = ks.findIn(text);
+      assertEquals(expected, found.isPresent());
+      found.ifPresent(k -> assertTrue(text.contains(k)));
+    }
+  }
+
+  @Test
+  public void findIn00() {
+    KeywordSet ks = KeywordSet.of("foo", "bar");
+    assertEquals(Optional.of("bar"), ks.findIn("xbarfoo"));
+    assertEquals(Optional.empty(), ks.findIn("baz"));
+  }
+
+  @Test
+  public void toString00() {
+    assertEquals("KeywordSet[2] of [foo, bar]", KeywordSet.of("foo", "bar").toString());
+    assertEquals(2, KeywordSet.of("foo", "bar").size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void of00() {
+    KeywordSet.of("foo", null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void of01() {
+    KeywordSet.of((Collection<String>) null);
+  }
+
+  private static String randomString(Random random, int len) {
+    char[] chars = new char[len];
+    for (int i = 0; i < len; ++i) {
+      chars[i] = (char) ('a' + random.nextInt(3));
+    }
+    return new String(chars);
+  }
+
+}
@@ -0,0 +1,59 @@
+package org.klojang.check.extra;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class LookupSetTest {
+
+  @Test
+  public void contains00() {
+    LookupSet<String> set = LookupSet.of("foo", "bar", "bozo");
+    assertTrue(set.contains("foo"));
+    assertTrue(set.contains("bozo"));
+    assertFalse(set.contains("baz"));
+    assertFalse(set.contains(null));
+    assertFalse(set.contains(7));
+  }
+
+  @Test
+  public void contains01() {
+    LookupSet<Integer> set = LookupSet.of();
+    assertFalse(set.contains(1));
+    assertEquals(0, set.size());
+  }
+
+  @Test // duplicates are ignored
+  public void contains02() {
+    LookupSet<Integer> set = LookupSet.copyOf(List.of(1, 2, 3, 1, 2, 3));
+    assertEquals(3, set.size());
+    assertTrue(set.contains(3));
+  }
+
+  @Test
+  public void contains03() {
+    Random random = new Random(3);
+    Set<Integer> expected = new HashSet<>();
+    for (int i = 0; i < 5_000; ++i) {
+      expected.add(random.nextInt(20_000) * 16); // many colliding low bits
+    }
+    LookupSet<Integer> set = LookupSet.copyOf(expected);
+    assertEquals(expected.size(), set.size());
+    for (int i = 0; i < 20_000 * 16; i += 8) {
+      assertEquals(expected.contains(i), set.contains(i));
+    }
+  }
+
+  @Test
+  public void toString00() {
+    assertEquals("LookupSet[2]", LookupSet.of("foo", "bar").toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void of00() {
+    LookupSet.of("foo", null);
+  }
+
+}
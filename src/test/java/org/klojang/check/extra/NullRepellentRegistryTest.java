@@ -0,0 +1,69 @@
+package org.klojang.check.extra;
+
+import org.junit.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.klojang.check.CommonChecks.deepNotNull;
+
+public class NullRepellentRegistryTest {
+
+  // Pretends to be null-repellent, so we can verify that deepNotNull() takes it
+  // at its word
+  private static class Liar extends AbstractList<String> {
+    public String get(int index) { return null; }
+    public int size() { return 3; }
+  }
+
+  private static class Liar2 extends AbstractList<String> {
+    public String get(int index) { return null; }
+    public int size() { return 3; }
+  }
+
+  private static class Liar3 extends Liar2 { }
+
+  private static class LyingMap extends HashMap<String, String> { }
+
+  @Test
+  public void register00() {
+    assertFalse(deepNotNull().test(new Liar()));
+    NullRepellentRegistry.register(Liar.class);
+    assertTrue(deepNotNull().test(new Liar()));
+  }
+
+  @Test // subclasses are not null-repellent
+  public void register01() {
+    NullRepellentRegistry.register(Liar2.class);
+    assertFalse(deepNotNull().test(new Liar3()));
+  }
+
+  @Test
+  public void register02() {
+    LyingMap map = new LyingMap();
+    map.put("foo", null);
+    assertFalse(deepNotNull().test(map));
+    NullRepellentRegistry.register(LyingMap.class);
+    assertTrue(deepNotNull().test(map));
+  }
+
+  @Test
+  public void register03() {
+    assertFalse(deepNotNull().test(new ArrayList<>(Arrays.asList("a", null))));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void register04() {
+    NullRepellentRegistry.register(String.class);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void register05() {
+    NullRepellentRegistry.register(null);
+  }
+
+}
@@ -0,0 +1,103 @@
+package org.klojang.check.extra;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.Assert.*;
+import static org.klojang.check.CommonChecks.containsMatch;
+import static org.klojang.check.CommonChecks.matches;
+
+public class PatternCacheTest {
+
+  @Test
+  public void get00() {
+    Pattern p = PatternCache.get("^PatternCacheTest.get00$");
+    long hits = PatternCache.hits();
+    assertSame(p, PatternCache.get("^PatternCacheTest.get00$"));
+    assertEquals(hits + 1, PatternCache.hits());
+  }
+
+  @Test // flags are part of the key
+  public void get01() {
+    Pattern p0 = PatternCache.get("PatternCacheTest.get01");
+    Pattern p1 = PatternCache.get("PatternCacheTest.get01", Pattern.CASE_INSENSITIVE);
+    assertNotSame(p0, p1);
+    assertEquals(Pattern.CASE_INSENSITIVE, p1.flags());
+  }
+
+  @Test
+  public void get02() {
+    long misses = PatternCache.misses();
+    assertTrue(matches().exists("abc123", "^PatternCacheTest.get02|\\w{3}\\d{3}$"));
+    assertTrue(containsMatch().exists("abc123",
+        "^PatternCacheTest.get02|\\w{3}\\d{3}$"));
+    assertEquals(misses + 1, PatternCache.misses());
+  }
+
+  @Test(expected = PatternSyntaxException.class)
+  public void get03() {
+    PatternCache.get("PatternCacheTest.get03(");
+  }
+
+  @Test
+  public void get04() {
+    Pattern p = PatternCache.get("PatternCacheTest.get04", Pattern.CASE_INSENSITIVE);
+    long hits = PatternCache.hits();
+    assertSame(p, PatternCache.get("PatternCacheTest.get04", Pattern.CASE_INSENSITIVE));
+    assertNotSame(p, PatternCache.get("PatternCacheTest.get04"));
+    assertSame(p, PatternCache.get("PatternCacheTest.get04", Pattern.CASE_INSENSITIVE));
+    assertEquals(hits + 2, PatternCache.hits());
+  }
+
+  @Test // a pattern that was not used again is evicted
+  public void setMaxSize00() {
+    PatternCache.setMaxSize(2);
+    try {
+      assertTrue(PatternCache.size() <= 2);
+      PatternCache.clear();
+      Pattern a = PatternCache.get("PatternCacheTest.setMaxSize00.a");
+      Pattern b = PatternCache.get("PatternCacheTest.setMaxSize00.b");
+      assertSame(a, PatternCache.get("PatternCacheTest.setMaxSize00.a"));
+      long evictions = PatternCache.evictions();
+      PatternCache.get("PatternCacheTest.setMaxSize00.c");
+      assertEquals(evictions + 1, PatternCache.evictions());
+      assertSame(a, PatternCache.get("PatternCacheTest.setMaxSize00.a"));
+      assertNotSame(b, PatternCache.get("PatternCacheTest.setMaxSize00.b"));
+    } finally {
+      PatternCache.setMaxSize(PatternCache.DEFAULT_MAX_SIZE);
+    }
+  }
+
+  @Test // caching disabled
+  public void setMaxSize01() {
+    PatternCache.setMaxSize(0);
+    try {
+      assertEquals(0, PatternCache.size());
+      Pattern p = PatternCache.get("PatternCacheTest.setMaxSize01");
+      assertNotSame(p, PatternCache.get("PatternCacheTest.setMaxSize01"));
+    } finally {
+      PatternCache.setMaxSize(PatternCache.DEFAULT_MAX_SIZE);
+    }
+  }
+
+  @Test // the surplus is evicted
+  public void setMaxSize03() {
+    try {
+      for (int i = 0; i < 10; ++i) {
+        PatternCache.get("PatternCacheTest.setMaxSize03." + i);
+      }
+      PatternCache.setMaxSize(3);
+      assertEquals(3, PatternCache.size());
+    } finally {
+      PatternCache.setMaxSize(PatternCache.DEFAULT_MAX_SIZE);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setMaxSize02() {
+    PatternCache.setMaxSize(-1);
+  }
+
+}
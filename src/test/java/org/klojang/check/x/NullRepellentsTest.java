@@ -0,0 +1,47 @@
+package org.klojang.check.x;
+
+import org.junit.Test;
+import org.klojang.check.extra.NullRepellentProvider;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+public class NullRepellentsTest {
+
+  // Throws a ServiceConfigurationError for the second provider, like the
+  // ServiceLoader iterator does for a provider that cannot be instantiated
+  private static Iterator<NullRepellentProvider> providers(
+      NullRepellentProvider... providers) {
+    return new Iterator<>() {
+      int i;
+
+      public boolean hasNext() {
+        return i < providers.length + 1;
+      }
+
+      public NullRepellentProvider next() {
+        if (i++ == 1) {
+          throw new ServiceConfigurationError("Bad provider");
+        }
+        return providers[i < 2 ? i - 1 : i - 2];
+      }
+    };
+  }
+
+  @Test
+  public void load00() {
+    Set<Class<?>> types = NullRepellents.load(providers(
+        () -> Set.of(ArrayDeque.class, String.class),
+        () -> null,
+        () -> { throw new IllegalStateException(); },
+        () -> new HashSet<>(Arrays.asList(TreeMap.class, null))));
+    assertEquals(Set.of(ArrayDeque.class, TreeMap.class), types);
+  }
+
+  @Test
+  public void load01() {
+    assertEquals(Set.of(), NullRepellents.load(Collections.emptyIterator()));
+  }
+
+}
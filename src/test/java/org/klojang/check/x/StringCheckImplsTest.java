@@ -6,8 +6,12 @@ import org.klojang.check.CorruptCheckException;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.util.regex.Pattern.LITERAL;
 import static org.junit.Assert.assertEquals;
 import static org.klojang.check.CommonChecks.*;
 
@@ -526,4 +530,130 @@ public class StringCheckImplsTest {
     Check.that("12*6").is(parsableAs(), AtomicLong.class);
   }
 
+  private static final String[] INPUTS = {"", "+", "-", "0", "-0", "+0", "007",
+      "-007", "127", "128", "-128", "-129", "32767", "32768", "-32768", "-32769",
+      "2147483647", "2147483648", "-2147483648", "-2147483649",
+      "9223372036854775807", "9223372036854775808", "-9223372036854775808",
+      "-9223372036854775809", "99999999999999999999999999", "1.0", "1.5", "1.",
+      ".0", "-.0", "1e2", "1E-2", "1000e-3", "10000000000e-1", "2147483648e-1",
+      "12*6", "1 ", " 1", "+-1", "--1", "1-", "١٢", "١٢.0", "0x10",
+      "1e", "e1", "NaN", "Infinity"};
+
+  @Test
+  public void numericalMatchesBigInteger() {
+    long[][] ranges = {{Long.MIN_VALUE, Long.MAX_VALUE},
+        {Integer.MIN_VALUE, Integer.MAX_VALUE},
+        {Short.MIN_VALUE, Short.MAX_VALUE},
+        {Byte.MIN_VALUE, Byte.MAX_VALUE}};
+    Class<?>[] types = {long.class, int.class, short.class, byte.class};
+    for (int i = 0; i < types.length; ++i) {
+      for (String s : INPUTS) {
+        boolean expected;
+        try {
+          BigInteger bi = new BigInteger(s);
+          expected = bi.compareTo(BigInteger.valueOf(ranges[i][0])) >= 0
+              && bi.compareTo(BigInteger.valueOf(ranges[i][1])) <= 0;
+        } catch (NumberFormatException e) {
+          expected = false;
+        }
+        assertEquals(types[i] + ": \"" + s + '"',
+            expected,
+            StringCheckImpls.NUMERICALS.get(types[i]).test(s));
+      }
+    }
+  }
+
+  @Test
+  public void parsableAsMatchesBigDecimal() {
+    long[][] ranges = {{Long.MIN_VALUE, Long.MAX_VALUE},
+        {Integer.MIN_VALUE, Integer.MAX_VALUE},
+        {Short.MIN_VALUE, Short.MAX_VALUE},
+        {Byte.MIN_VALUE, Byte.MAX_VALUE}};
+    Class<?>[] types = {long.class, int.class, short.class, byte.class};
+    for (int i = 0; i < types.length; ++i) {
+      for (String s : INPUTS) {
+        boolean expected;
+        try {
+          BigDecimal bd = new BigDecimal(s);
+          expected = bd.stripTrailingZeros().scale() <= 0
+              && bd.compareTo(BigDecimal.valueOf(ranges[i][0])) >= 0
+              && bd.compareTo(BigDecimal.valueOf(ranges[i][1])) <= 0;
+        } catch (NumberFormatException e) {
+          expected = false;
+        }
+        assertEquals(types[i] + ": \"" + s + '"',
+            expected,
+            StringCheckImpls.PARSABLES.get(types[i]).test(s));
+      }
+    }
+  }
+
+  @Test
+  public void plainIntLongString() {
+    String s = "1" + "0".repeat(10_000);
+    assertEquals(false, StringCheckImpls.isPlainInt(s));
+    assertEquals(false, StringCheckImpls.NUMERICALS.get(int.class).test(s));
+    assertEquals(false, StringCheckImpls.PARSABLES.get(long.class).test(s));
+    assertEquals(true, StringCheckImpls.PARSABLES.get(int.class).test(s + "e-10000"));
+  }
+
+  // Characters that Pattern's CASE_INSENSITIVE flag might treat specially
+  private static final char[] ALPHABET = {'a', 'A', 'b', 'B', 'z', 'Z', '@', '[',
+      '`', '{', '0', '\u00e9', '\u00c9', '\u00df', '\u0130', '\u0131', '\u212a',
+      '\u017f', 'k', 'K', 's', 'S', '\ud801', '\udc00', '\udc28'};
+
+  @Test
+  public void hasSubstringICMatchesPattern() {
+    Random random = new Random(42);
+    for (int i = 0; i < 200_000; ++i) {
+      String s = randomString(random, 12);
+      String sub = random.nextInt(4) == 0
+          ? randomSubstring(random, s)
+          : randomString(random, 3);
+      boolean expected = Pattern.compile(sub, CASE_INSENSITIVE | LITERAL)
+          .matcher(s)
+          .find();
+      assertEquals('"' + s + "\" contains \"" + sub + '"',
+          expected,
+          StringCheckImpls.hasSubstringIC(s, sub));
+    }
+  }
+
+  @Test
+  public void hasSubstringIC00() {
+    assertEquals(true, StringCheckImpls.hasSubstringIC("Hello, World", "LO, w"));
+    assertEquals(true, StringCheckImpls.hasSubstringIC("Hello", ""));
+    assertEquals(true, StringCheckImpls.hasSubstringIC("", ""));
+    assertEquals(false, StringCheckImpls.hasSubstringIC("", "a"));
+    assertEquals(false, StringCheckImpls.hasSubstringIC("Hello", "Hello!"));
+    // Only US-ASCII letters are case-folded
+    assertEquals(false, StringCheckImpls.hasSubstringIC("CAF\u00c9", "caf\u00e9"));
+    // No match within a surrogate pair
+    assertEquals(false, StringCheckImpls.hasSubstringIC("\ud801\udc00", "\udc00"));
+    assertEquals(false, StringCheckImpls.hasSubstringIC("\ud801\udc00", "\ud801"));
+    assertEquals(true, StringCheckImpls.hasSubstringIC("x\ud801\udc00", "X\ud801\udc00"));
+  }
+
+  private static String randomString(Random random, int maxLen) {
+    char[] chars = new char[random.nextInt(maxLen + 1)];
+    for (int i = 0; i < chars.length; ++i) {
+      chars[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+    }
+    return new String(chars);
+  }
+
+  private static String randomSubstring(Random random, String s) {
+    int from = random.nextInt(s.length() + 1);
+    int to = from + random.nextInt(s.length() - from + 1);
+    char[] chars = s.substring(from, to).toCharArray();
+    for (int i = 0; i < chars.length; ++i) {
+      if (random.nextBoolean()) {
+        chars[i] = Character.isUpperCase(chars[i])
+            ? Character.toLowerCase(chars[i])
+            : Character.toUpperCase(chars[i]);
+      }
+    }
+    return new String(chars);
+  }
+
 }
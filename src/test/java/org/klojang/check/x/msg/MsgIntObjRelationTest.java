@@ -2,6 +2,7 @@ package org.klojang.check.x.msg;
 
 import org.junit.Test;
 import org.klojang.check.Check;
+import org.klojang.check.extra.IntLookupSet;
 
 import java.util.stream.IntStream;
 
@@ -103,6 +104,31 @@ public class MsgIntObjRelationTest {
     fail();
   }
 
+  @Test
+  public void inIntSet00() {
+    try {
+      Check.that(7, "tapioka").is(inIntSet(), IntLookupSet.of(3, 5, 9));
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("tapioka must be element of IntLookupSet[3] (was 7)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void inIntSet01() {
+    try {
+      Check.that(5, "tapioka").isNot(inIntSet(), IntLookupSet.of(3, 5, 9));
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("tapioka must not be element of IntLookupSet[3] (was 5)",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
   @Test
   public void intElementOf00() {
     try {
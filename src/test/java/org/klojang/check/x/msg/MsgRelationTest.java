@@ -2,6 +2,8 @@ package org.klojang.check.x.msg;
 
 import org.junit.Test;
 import org.klojang.check.Check;
+import org.klojang.check.extra.KeywordSet;
+import org.klojang.check.extra.LookupSet;
 import org.klojang.check.types.Relation;
 
 import java.io.FileOutputStream;
@@ -673,6 +675,81 @@ public class MsgRelationTest {
     fail();
   }
 
+  @Test
+  public void inSet00() {
+    try {
+      Check.that("foo", "currency").is(inSet(), LookupSet.of("EUR", "USD", "JPY"));
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("currency must be element of LookupSet[3] (was foo)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void inSet01() {
+    try {
+      Check.that("EUR", "currency").isNot(inSet(), LookupSet.of("EUR", "USD"));
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("currency must not be element of LookupSet[2] (was EUR)",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void notInSet00() {
+    try {
+      Check.that("root", "user").is(notInSet(), LookupSet.of("admin", "root"));
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("user must not be element of LookupSet[2] (was root)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void notInSet01() {
+    try {
+      Check.that("john", "user").isNot(notInSet(), LookupSet.of("admin", "root"));
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("user must be element of LookupSet[2] (was john)", e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void containsAnyOf00() {
+    try {
+      Check.that("abcd", "BMW").is(containsAnyOf(), KeywordSet.of("qwe", "xyz"));
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("BMW must contain any of KeywordSet[2] of [qwe, xyz] (was abcd)",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
+  @Test
+  public void containsAnyOf01() {
+    try {
+      Check.that("abcd", "BMW").isNot(containsAnyOf(), KeywordSet.of("qwe", "bc"));
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      assertEquals("BMW must not contain any of KeywordSet[2] of [qwe, bc] (found bc)",
+          e.getMessage());
+      return;
+    }
+    fail();
+  }
+
   @Test
   public void hasSubstring00() {
     try {